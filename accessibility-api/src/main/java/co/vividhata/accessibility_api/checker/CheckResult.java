@@ -0,0 +1,13 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.model.Issue;
+
+import java.util.List;
+
+public record CheckResult(List<Issue> issues, List<String> incompleteCheckers, List<String> skippedCheckers) {
+
+    public boolean isComplete() {
+        return incompleteCheckers.isEmpty();
+    }
+
+}
@@ -0,0 +1,27 @@
+package co.vividhata.accessibility_api.checker;
+
+import java.util.function.Supplier;
+
+public final class CheckerBudget {
+
+    private static final ThreadLocal<long[]> DEADLINE = new ThreadLocal<>();
+
+    private CheckerBudget() {}
+
+    public static void checkpoint() {
+        long[] deadline = DEADLINE.get();
+        if (deadline != null && System.nanoTime() - deadline[0] >= 0) {
+            throw new CheckerBudgetExceededException();
+        }
+    }
+
+    static <T> T runUntil(long deadlineNanos, Supplier<T> work) {
+        DEADLINE.set(new long[]{deadlineNanos});
+        try {
+            return work.get();
+        } finally {
+            DEADLINE.remove();
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.checker;
+
+class CheckerBudgetExceededException extends RuntimeException {
+
+    CheckerBudgetExceededException() {
+        super(null, null, false, false);
+    }
+
+}
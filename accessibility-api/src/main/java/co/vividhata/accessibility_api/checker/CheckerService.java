@@ -1,27 +1,252 @@
 package co.vividhata.accessibility_api.checker;
 
 import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.util.ElementFingerprints;
+import co.vividhata.accessibility_api.util.ElementTraversal;
+import co.vividhata.accessibility_api.util.INodeParser;
+import jakarta.annotation.PostConstruct;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @Service
 public class CheckerService implements ICheckerService {
 
     @Autowired
     private List<IIssueChecker> issueCheckers;
+    @Autowired
+    private INodeParser nodeParser;
+
+    @Value("${scan.check.deadline-ms:60000}")
+    private long deadlineMillis;
+    @Value("${scan.check.checker-budget-ms:10000}")
+    private long checkerBudgetMillis;
+
+    private String checkerSetDigest;
+
+    @PostConstruct
+    public void digestCheckerSet() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        issueCheckers.stream()
+                .map(issueChecker -> nameOf(issueChecker) + ":" + issueChecker.version() + "\n")
+                .sorted()
+                .forEach(entry -> digest.update(entry.getBytes(StandardCharsets.UTF_8)));
+        checkerSetDigest = HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public String checkerSetDigest() {
+        return checkerSetDigest;
+    }
+
+    @Override
+    public CheckResult checkAll(Document document) {
+        return checkChanged(document, null);
+    }
 
     @Override
-    public List<Issue> checkAll(Document document) {
+    public CheckResult checkChanged(Document document, PreviousElementIssues previousElementIssues) {
+        long scanDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        long checkerBudget = TimeUnit.MILLISECONDS.toNanos(checkerBudgetMillis);
+
+        List<Issue> issues = new ArrayList<>();
+        List<String> incompleteCheckers = new ArrayList<>();
+        List<IElementIssueChecker> elementIssueCheckers = new ArrayList<>();
+
+        for (IIssueChecker issueChecker : issueCheckers) {
+            if (issueChecker instanceof IElementIssueChecker elementIssueChecker) {
+                elementIssueCheckers.add(elementIssueChecker);
+                continue;
+            }
+
+            long start = System.nanoTime();
+            long remaining = Math.min(checkerBudget, scanDeadline - start);
+            try {
+                if (remaining <= 0) {
+                    throw new CheckerBudgetExceededException();
+                }
+                issues.addAll(CheckerBudget.runUntil(start + remaining, () -> issueChecker.check(document)));
+            } catch (CheckerBudgetExceededException _) {
+                incompleteCheckers.add(nameOf(issueChecker));
+            }
+        }
+
+        ElementChecks elementChecks = new ElementChecks(elementIssueCheckers, nodeParser, reusable(previousElementIssues), scanDeadline, checkerBudget, issues, incompleteCheckers);
+        for (Element element : ElementTraversal.allElements(document)) {
+            elementChecks.check(element);
+        }
+
+        return new CheckResult(issues, incompleteCheckers, List.of());
+    }
+
+    @Override
+    public CheckResult checkStream(Stream<Element> elements, PreviousElementIssues previousElementIssues) {
+        long scanDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        long checkerBudget = TimeUnit.MILLISECONDS.toNanos(checkerBudgetMillis);
+
         List<Issue> issues = new ArrayList<>();
+        List<String> incompleteCheckers = new ArrayList<>();
+        List<String> skippedCheckers = new ArrayList<>();
+        List<IElementIssueChecker> elementIssueCheckers = new ArrayList<>();
 
         for (IIssueChecker issueChecker : issueCheckers) {
-            issues.addAll(issueChecker.check(document));
+            if (issueChecker instanceof IElementIssueChecker elementIssueChecker) {
+                elementIssueCheckers.add(elementIssueChecker);
+            } else {
+                skippedCheckers.add(nameOf(issueChecker));
+            }
+        }
+
+        ElementChecks elementChecks = new ElementChecks(elementIssueCheckers, nodeParser, reusable(previousElementIssues), scanDeadline, checkerBudget, issues, incompleteCheckers);
+        elements.forEachOrdered(elementChecks::check);
+
+        return new CheckResult(issues, incompleteCheckers, skippedCheckers);
+    }
+
+    private PreviousElementIssues reusable(PreviousElementIssues previousElementIssues) {
+        if (previousElementIssues == null || !checkerSetDigest.equals(previousElementIssues.checkerSetDigest())) {
+            return null;
+        }
+        return previousElementIssues;
+    }
+
+    private static String nameOf(IIssueChecker issueChecker) {
+        return issueChecker.getClass().getSimpleName();
+    }
+
+    private static class ElementChecks {
+
+        private final List<IElementIssueChecker> elementIssueCheckers;
+        private final INodeParser nodeParser;
+        private final PreviousElementIssues previousElementIssues;
+        private final long scanDeadline;
+        private final List<Issue> issues;
+        private final List<String> incompleteCheckers;
+        private final long[] remainingBudgets;
+        private final boolean[] stopped;
+        private final boolean[] interested;
+        private final boolean[] usesStylesheets;
+
+        private final int[] unfilteredCheckers;
+        private final Map<String, int[]> checkersByTag = new HashMap<>();
+        private final String[] filteredAttributes;
+        private final int[][] checkersByAttribute;
+
+        ElementChecks(List<IElementIssueChecker> elementIssueCheckers, INodeParser nodeParser, PreviousElementIssues previousElementIssues, long scanDeadline, long checkerBudget, List<Issue> issues, List<String> incompleteCheckers) {
+            this.elementIssueCheckers = elementIssueCheckers;
+            this.nodeParser = nodeParser;
+            this.previousElementIssues = previousElementIssues;
+            this.scanDeadline = scanDeadline;
+            this.issues = issues;
+            this.incompleteCheckers = incompleteCheckers;
+            this.remainingBudgets = new long[elementIssueCheckers.size()];
+            this.stopped = new boolean[elementIssueCheckers.size()];
+            this.interested = new boolean[elementIssueCheckers.size()];
+            this.usesStylesheets = new boolean[elementIssueCheckers.size()];
+            Arrays.fill(remainingBudgets, checkerBudget);
+
+            List<Integer> unfiltered = new ArrayList<>();
+            Map<String, List<Integer>> byTag = new HashMap<>();
+            Map<String, List<Integer>> byAttribute = new LinkedHashMap<>();
+            for (int j = 0; j < elementIssueCheckers.size(); j++) {
+                usesStylesheets[j] = elementIssueCheckers.get(j).usesStylesheets();
+                ElementFilter elementFilter = elementIssueCheckers.get(j).elementFilter();
+                if (elementFilter.matchesAll()) {
+                    unfiltered.add(j);
+                    continue;
+                }
+                for (String tagName : elementFilter.tagNames()) {
+                    byTag.computeIfAbsent(tagName, _ -> new ArrayList<>()).add(j);
+                }
+                for (String attributeName : elementFilter.attributeNames()) {
+                    byAttribute.computeIfAbsent(attributeName, _ -> new ArrayList<>()).add(j);
+                }
+            }
+
+            this.unfilteredCheckers = toArray(unfiltered);
+            byTag.forEach((tagName, checkers) -> checkersByTag.put(tagName, toArray(checkers)));
+            this.filteredAttributes = byAttribute.keySet().toArray(new String[0]);
+            this.checkersByAttribute = byAttribute.values().stream().map(ElementChecks::toArray).toArray(int[][]::new);
+        }
+
+        void check(Element element) {
+            long elementFingerprint = ElementFingerprints.of(element);
+
+            boolean unchanged = previousElementIssues != null && previousElementIssues.contains(elementFingerprint);
+            if (unchanged) {
+                for (Issue issue : previousElementIssues.issuesFor(elementFingerprint)) {
+                    issues.add(issue.location() == null ? issue : issue.withLocation(nodeParser.locate(element)));
+                }
+            }
+
+            markInterested(unfilteredCheckers);
+            markInterested(checkersByTag.get(element.normalName()));
+            for (int a = 0; a < filteredAttributes.length; a++) {
+                if (element.hasAttr(filteredAttributes[a])) {
+                    markInterested(checkersByAttribute[a]);
+                }
+            }
+
+            for (int j = 0; j < elementIssueCheckers.size(); j++) {
+                if (!interested[j]) {
+                    continue;
+                }
+                interested[j] = false;
+                if (stopped[j] || (unchanged && !usesStylesheets[j])) {
+                    continue;
+                }
+
+                IElementIssueChecker elementIssueChecker = elementIssueCheckers.get(j);
+                long start = System.nanoTime();
+                long remaining = Math.min(remainingBudgets[j], scanDeadline - start);
+                try {
+                    if (remaining <= 0) {
+                        throw new CheckerBudgetExceededException();
+                    }
+                    for (Issue issue : CheckerBudget.runUntil(start + remaining, () -> elementIssueChecker.checkElement(element))) {
+                        issues.add(usesStylesheets[j] ? issue : issue.withElementFingerprint(elementFingerprint));
+                    }
+                } catch (CheckerBudgetExceededException _) {
+                    stopped[j] = true;
+                    incompleteCheckers.add(nameOf(elementIssueChecker));
+                }
+                remainingBudgets[j] -= System.nanoTime() - start;
+            }
+        }
+
+        private void markInterested(int[] checkers) {
+            if (checkers == null) {
+                return;
+            }
+            for (int j : checkers) {
+                interested[j] = true;
+            }
+        }
+
+        private static int[] toArray(List<Integer> checkers) {
+            return checkers.stream().mapToInt(Integer::intValue).toArray();
         }
 
-        return issues;
     }
 }
@@ -0,0 +1,39 @@
+package co.vividhata.accessibility_api.checker;
+
+import org.jsoup.nodes.Element;
+
+import java.util.Set;
+
+public record ElementFilter(Set<String> tagNames, Set<String> attributeNames) {
+
+    public static final ElementFilter ALL_ELEMENTS = new ElementFilter(Set.of(), Set.of());
+
+    public static ElementFilter tags(String... tagNames) {
+        return new ElementFilter(Set.of(tagNames), Set.of());
+    }
+
+    public static ElementFilter attributes(String... attributeNames) {
+        return new ElementFilter(Set.of(), Set.of(attributeNames));
+    }
+
+    public ElementFilter orAttributes(String... attributeNames) {
+        return new ElementFilter(tagNames, Set.of(attributeNames));
+    }
+
+    public boolean matchesAll() {
+        return tagNames.isEmpty() && attributeNames.isEmpty();
+    }
+
+    public boolean matches(Element element) {
+        if (matchesAll() || tagNames.contains(element.normalName())) {
+            return true;
+        }
+        for (String attributeName : attributeNames) {
+            if (element.hasAttr(attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
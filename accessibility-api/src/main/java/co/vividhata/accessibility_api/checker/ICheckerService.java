@@ -1,12 +1,18 @@
 package co.vividhata.accessibility_api.checker;
 
-import co.vividhata.accessibility_api.model.Issue;
-import org.w3c.dom.Document;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface ICheckerService {
 
-    List<Issue> checkAll(Document document);
+    CheckResult checkAll(Document document);
+
+    CheckResult checkChanged(Document document, PreviousElementIssues previousElementIssues);
+
+    String checkerSetDigest();
+
+    CheckResult checkStream(Stream<Element> elements, PreviousElementIssues previousElementIssues);
 
 }
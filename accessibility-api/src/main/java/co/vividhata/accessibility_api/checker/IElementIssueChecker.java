@@ -0,0 +1,37 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.util.ElementTraversal;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public interface IElementIssueChecker extends IIssueChecker {
+
+    List<Issue> checkElement(Element element);
+
+    default ElementFilter elementFilter() {
+        return ElementFilter.ALL_ELEMENTS;
+    }
+
+    default boolean usesStylesheets() {
+        return false;
+    }
+
+    @Override
+    default List<Issue> check(Document document) {
+        List<Issue> issues = new ArrayList<>();
+        ElementFilter elementFilter = elementFilter();
+
+        for (Element element : ElementTraversal.allElements(document)) {
+            if (elementFilter.matches(element)) {
+                issues.addAll(checkElement(element));
+            }
+        }
+
+        return issues;
+    }
+
+}
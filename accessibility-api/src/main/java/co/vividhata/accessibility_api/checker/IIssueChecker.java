@@ -1,7 +1,7 @@
 package co.vividhata.accessibility_api.checker;
 
 import co.vividhata.accessibility_api.model.Issue;
-import org.w3c.dom.Document;
+import org.jsoup.nodes.Document;
 
 import java.util.List;
 
@@ -9,4 +9,8 @@ public interface IIssueChecker {
 
     List<Issue> check(Document document);
 
+    default String version() {
+        return "1";
+    }
+
 }
@@ -0,0 +1,65 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.model.Issue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PreviousElementIssues {
+
+    private final String checkerSetDigest;
+    private final long[] elementFingerprints;
+    private final Map<Long, List<Issue>> issuesByFingerprint = new HashMap<>();
+
+    public PreviousElementIssues(String checkerSetDigest, long[] elementFingerprints, List<Issue> elementIssues) {
+        this.checkerSetDigest = checkerSetDigest;
+        this.elementFingerprints = elementFingerprints;
+
+        Map<Long, List<Issue>> allIssuesByFingerprint = new HashMap<>();
+        for (Issue issue : elementIssues) {
+            allIssuesByFingerprint.computeIfAbsent(issue.elementFingerprint(), _ -> new ArrayList<>()).add(issue.withId(-1).withScanId(-1));
+        }
+
+        for (Map.Entry<Long, List<Issue>> entry : allIssuesByFingerprint.entrySet()) {
+            int occurrences = countOccurrences(entry.getKey());
+            if (occurrences == 0) {
+                continue;
+            }
+            List<Issue> issues = entry.getValue();
+            issuesByFingerprint.put(entry.getKey(), List.copyOf(issues.subList(0, issues.size() / occurrences)));
+        }
+    }
+
+    public String checkerSetDigest() {
+        return checkerSetDigest;
+    }
+
+    public boolean contains(long elementFingerprint) {
+        return Arrays.binarySearch(elementFingerprints, elementFingerprint) >= 0;
+    }
+
+    public List<Issue> issuesFor(long elementFingerprint) {
+        return issuesByFingerprint.getOrDefault(elementFingerprint, List.of());
+    }
+
+    private int countOccurrences(long elementFingerprint) {
+        int index = Arrays.binarySearch(elementFingerprints, elementFingerprint);
+        if (index < 0) {
+            return 0;
+        }
+
+        int first = index;
+        while (first > 0 && elementFingerprints[first - 1] == elementFingerprint) {
+            first--;
+        }
+        int last = index;
+        while (last < elementFingerprints.length - 1 && elementFingerprints[last + 1] == elementFingerprint) {
+            last++;
+        }
+        return last - first + 1;
+    }
+
+}
@@ -1,44 +1,41 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.List;
-import java.util.ArrayList;
 
 @Service
-public class AAAInteractiveElementPixelChecker implements IIssueChecker {
+public class AAAInteractiveElementPixelChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.ELEMENT_TOO_SMALL;
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags("a", "button", "input", "textarea", "select", "img", "div", "span")
+            .orAttributes("role", "onclick", "onkeypress", "onkeydown", "onkeyup", "onmouseover", "onfocus", "onmousedown", "onmouseup", "tabindex");
     @Autowired
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-        
-        NodeList allNodes = document.getElementsByTagName("*");
-
-        for (int i = 0; i < allNodes.getLength(); i++) {
-            Element element = (Element) allNodes.item(i);
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
 
-            if (isInteractive(element) && isTooSmall(element)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-            }
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (isInteractive(element) && isTooSmall(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
     private boolean isInteractive(Element element) {
         String[] interactiveTags = {"a", "button", "input", "textarea", "select", "img", "div", "span"};
-        String tagName = element.getTagName().toLowerCase();
+        String tagName = element.tagName().toLowerCase();
 
         for (String tag : interactiveTags) {
             if (tag.equals(tagName)) {
@@ -46,19 +43,19 @@ public class AAAInteractiveElementPixelChecker implements IIssueChecker {
             }
         }
 
-        String role = element.getAttribute("role");
+        String role = element.attr("role");
         if (role.equals("button") || role.equals("link") || role.equals("menuitem") || role.equals("tab")) {
             return true;
         }
 
         String[] events = {"onclick", "onkeypress", "onkeydown", "onkeyup", "onmouseover", "onfocus", "onmousedown", "onmouseup"};
         for (String event : events) {
-            if (element.hasAttribute(event)) {
+            if (element.hasAttr(event)) {
                 return true;
             }
         }
 
-        String tabindex = element.getAttribute("tabindex");
+        String tabindex = element.attr("tabindex");
         if (!tabindex.isEmpty()) {
             try {
                 if (Integer.parseInt(tabindex) >= 0) {
@@ -70,7 +67,7 @@ public class AAAInteractiveElementPixelChecker implements IIssueChecker {
     }
 
     private boolean isTooSmall(Element element) {
-        String style = element.getAttribute("style");
+        String style = element.attr("style");
         int width = 0;
         int height = 0;
 
@@ -84,15 +81,15 @@ public class AAAInteractiveElementPixelChecker implements IIssueChecker {
             }
         }
 
-        if (element.hasAttribute("width")) {
+        if (element.hasAttr("width")) {
             try {
-                width = Integer.parseInt(element.getAttribute("width").replace("px", "").trim());
+                width = Integer.parseInt(element.attr("width").replace("px", "").trim());
             } catch (Exception _) {}
         }
 
-        if (element.hasAttribute("height")) {
+        if (element.hasAttr("height")) {
             try {
-                height = Integer.parseInt(element.getAttribute("height").replace("px", "").trim());
+                height = Integer.parseInt(element.attr("height").replace("px", "").trim());
             } catch (Exception _) {}
         }
 
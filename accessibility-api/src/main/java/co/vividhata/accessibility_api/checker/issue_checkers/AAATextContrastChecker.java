@@ -1,23 +1,21 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Service
-public class AAATextContrastChecker implements IIssueChecker {
+public class AAATextContrastChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.TEXT_CONTRAST_VIOLATION_AAA;
     private static final double MINIMUM_CONTRAST_RATIO = 7;
@@ -26,21 +24,12 @@ public class AAATextContrastChecker implements IIssueChecker {
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList allElements = document.getElementsByTagName("*");
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) elementNode;
-                if (hasTextContent(element) && hasContrastViolation(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public List<Issue> checkElement(Element element) {
+        if (hasTextContent(element) && hasContrastViolation(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
     private boolean hasTextContent(Element element) {
@@ -49,9 +38,9 @@ public class AAATextContrastChecker implements IIssueChecker {
     }
 
     private boolean hasContrastViolation(Element element) {
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        String style = element.attr("style");
+        String className = element.attr("class");
+        String id = element.attr("id");
 
         String textColor = getTextColor(style, className, id);
         String backgroundColor = getBackgroundColor(style, className, id);
@@ -290,13 +279,11 @@ public class AAATextContrastChecker implements IIssueChecker {
 
     private String getTextContent(Element element) {
         StringBuilder text = new StringBuilder();
-        NodeList children = element.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            Node child = children.item(i);
-            if (child.getNodeType() == Node.TEXT_NODE) {
-                text.append(child.getTextContent());
-            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                text.append(getTextContent((Element) child));
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                text.append(textNode.getWholeText());
+            } else if (child instanceof Element childElement) {
+                text.append(getTextContent(childElement));
             }
         }
         return text.toString().trim();
@@ -1,23 +1,23 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class AltTextMissingIssueChecker implements IIssueChecker {
+public class AltTextMissingIssueChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.ALT_TEXT_MISSING;
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags("img");
 
     @Autowired
     private INodeParser nodeParser;
@@ -26,19 +26,29 @@ public class AltTextMissingIssueChecker implements IIssueChecker {
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
 
-        NodeList imageNodeList = document.getElementsByTagName("img");
+        for (Element element : document.getElementsByTag("img")) {
+            issues.addAll(checkElement(element));
+        }
+
+        return issues;
+    }
+
+    @Override
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
 
-        for (int i = 0; i < imageNodeList.getLength(); i++) {
-            Node imageNode = imageNodeList.item(i);
-            NamedNodeMap imageAttributes = imageNode.getAttributes();
-            Node altTextAttribute = imageAttributes.getNamedItem("alt");
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (!element.tagName().equalsIgnoreCase("img")) {
+            return List.of();
+        }
 
-            if (altTextAttribute == null) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(imageNode)));
-            }
+        if (!element.hasAttr("alt")) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
 }
@@ -1,20 +1,18 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.NodeList;
 
 import java.util.*;
 
 @Service
-public class AriaRoleChecker implements IIssueChecker {
+public class AriaRoleChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.ARIA_ROLE_MISSING_OR_INVALID;
 
     @Autowired
@@ -74,36 +72,31 @@ public class AriaRoleChecker implements IIssueChecker {
 
 
     @Override
-    public List<Issue> check(Document document) {
+    public List<Issue> checkElement(Element element) {
         List<Issue> issues = new ArrayList<>();
 
-        NodeList nodes = document.getElementsByTagName("*");
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = (Element) nodes.item(i);
-            String tagName = element.getTagName().toLowerCase();
-            String role = element.getAttribute("role").trim().toLowerCase();
+        String tagName = element.tagName().toLowerCase();
+        String role = element.attr("role").trim().toLowerCase();
 
-            if ((tagName.equals("div") || tagName.equals("span") || tagName.equals("p")) && role.isEmpty()) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-            }
+        if ((tagName.equals("div") || tagName.equals("span") || tagName.equals("p")) && role.isEmpty()) {
+            issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
 
-            if (!role.isEmpty() && !VALID_ROLES.contains(role)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-            }
+        if (!role.isEmpty() && !VALID_ROLES.contains(role)) {
+            issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
 
-            String nativeRole = NATIVE_ROLES.get(tagName);
-            if (nativeRole != null && !role.isEmpty() && !role.equals(nativeRole)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-            }
+        String nativeRole = NATIVE_ROLES.get(tagName);
+        if (nativeRole != null && !role.isEmpty() && !role.equals(nativeRole)) {
+            issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
 
-            NamedNodeMap attributes = element.getAttributes();
-            for (int j = 0; j < attributes.getLength(); j++) {
-                String attrName = attributes.item(j).getNodeName();
-                if (attrName.startsWith("aria-")) {
-                    String value = element.getAttribute(attrName).trim();
-                    if (value.isEmpty()) {
-                        issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-                    }
+        for (Attribute attribute : element.attributes()) {
+            String attrName = attribute.getKey();
+            if (attrName.startsWith("aria-")) {
+                String value = element.attr(attrName).trim();
+                if (value.isEmpty()) {
+                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
                 }
             }
         }
@@ -1,15 +1,16 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,19 +27,17 @@ public class CaptionsForVideoAudioChecker implements IIssueChecker {
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
 
-        NodeList videoNodeList = document.getElementsByTagName("video");
-        for (int i = 0; i < videoNodeList.getLength(); i++) {
-            Node videoNode = videoNodeList.item(i);
+        for (Element videoNode : document.getElementsByTag("video")) {
+            CheckerBudget.checkpoint();
             if (!hasCaptions(videoNode)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(videoNode)));
+                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(videoNode)));
             }
         }
 
-        NodeList audioNodeList = document.getElementsByTagName("audio");
-        for (int i = 0; i < audioNodeList.getLength(); i++) {
-            Node audioNode = audioNodeList.item(i);
+        for (Element audioNode : document.getElementsByTag("audio")) {
+            CheckerBudget.checkpoint();
             if (!hasCaptions(audioNode)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(audioNode)));
+                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(audioNode)));
             }
         }
 
@@ -46,10 +45,8 @@ public class CaptionsForVideoAudioChecker implements IIssueChecker {
     }
 
 
-    private boolean hasCaptions(Node mediaNode) {
-        NodeList trackNodes = ((org.w3c.dom.Element) mediaNode).getElementsByTagName("track");
-        for (int i = 0; i < trackNodes.getLength(); i++) {
-            Node trackNode = trackNodes.item(i);
+    private boolean hasCaptions(Element mediaNode) {
+        for (Element trackNode : mediaNode.getElementsByTag("track")) {
             String kind = getAttributeValue(trackNode, "kind");
             if ("captions".equals(kind) || "subtitles".equals(kind)) {
                 return true;
@@ -72,80 +69,64 @@ public class CaptionsForVideoAudioChecker implements IIssueChecker {
     }
 
 
-    private String getAttributeValue(Node node, String attributeName) {
-        if (node.getNodeType() == Node.ELEMENT_NODE) {
-            org.w3c.dom.Element element = (org.w3c.dom.Element) node;
-            return element.getAttribute(attributeName);
-        }
-        return null;
+    private String getAttributeValue(Element element, String attributeName) {
+        return element.attr(attributeName);
     }
 
 
-    private boolean hasTranscriptLink(Node mediaNode) {
+    private boolean hasTranscriptLink(Element mediaNode) {
         String[] transcriptKeywords = {
             "transcript", "captions", "subtitles", "subtitle", "caption", 
             "closed caption", "cc", "accessibility", "audio description",
             "text version", "text alternative", "read transcript"
         };
 
-        Node parent = mediaNode.getParentNode();
-        if (parent != null && parent.getNodeType() == Node.ELEMENT_NODE) {
-            if (hasTranscriptLinkInElement((Element) parent, transcriptKeywords)) {
+        Element parent = mediaNode.parent();
+        if (parent != null) {
+            if (hasTranscriptLinkInElement(parent, transcriptKeywords)) {
                 return true;
             }
         }
 
-        Node nextSibling = mediaNode.getNextSibling();
+        Element nextSibling = mediaNode.nextElementSibling();
         while (nextSibling != null) {
-            if (nextSibling.getNodeType() == Node.ELEMENT_NODE) {
-                if (hasTranscriptLinkInElement((Element) nextSibling, transcriptKeywords)) {
-                    return true;
-                }
+            if (hasTranscriptLinkInElement(nextSibling, transcriptKeywords)) {
+                return true;
             }
-            nextSibling = nextSibling.getNextSibling();
+            nextSibling = nextSibling.nextElementSibling();
         }
 
-        Node prevSibling = mediaNode.getPreviousSibling();
+        Element prevSibling = mediaNode.previousElementSibling();
         while (prevSibling != null) {
-            if (prevSibling.getNodeType() == Node.ELEMENT_NODE) {
-                if (hasTranscriptLinkInElement((Element) prevSibling, transcriptKeywords)) {
-                    return true;
-                }
+            if (hasTranscriptLinkInElement(prevSibling, transcriptKeywords)) {
+                return true;
             }
-            prevSibling = prevSibling.getPreviousSibling();
+            prevSibling = prevSibling.previousElementSibling();
         }
 
         return false;
     }
 
     private boolean hasTranscriptLinkInElement(Element element, String[] keywords) {
-        NodeList links = element.getElementsByTagName("a");
-        for (int i = 0; i < links.getLength(); i++) {
-            Node link = links.item(i);
-            if (link.getNodeType() == Node.ELEMENT_NODE) {
-                Element linkElement = (Element) link;
-                String linkText = getTextContent(linkElement).toLowerCase();
-                String href = linkElement.getAttribute("href").toLowerCase();
-                
-                for (String keyword : keywords) {
-                    if (linkText.contains(keyword) || href.contains(keyword)) {
-                        return true;
-                    }
+        for (Element linkElement : element.getElementsByTag("a")) {
+            CheckerBudget.checkpoint();
+            String linkText = getTextContent(linkElement).toLowerCase();
+            String href = linkElement.attr("href").toLowerCase();
+            
+            for (String keyword : keywords) {
+                if (linkText.contains(keyword) || href.contains(keyword)) {
+                    return true;
                 }
             }
         }
 
-        NodeList buttons = element.getElementsByTagName("button");
-        for (int i = 0; i < buttons.getLength(); i++) {
-            Node button = buttons.item(i);
-            if (button.getNodeType() == Node.ELEMENT_NODE) {
-                Element buttonElement = (Element) button;
-                String buttonText = getTextContent(buttonElement).toLowerCase();
-                
-                for (String keyword : keywords) {
-                    if (buttonText.contains(keyword)) {
-                        return true;
-                    }
+        for (Element buttonElement : element.getElementsByTag("button")) {
+            CheckerBudget.checkpoint();
+            String buttonText = getTextContent(buttonElement).toLowerCase();
+            
+            for (String keyword : keywords) {
+                if (buttonText.contains(keyword)) {
+                    return true;
                 }
             }
         }
@@ -156,13 +137,11 @@ public class CaptionsForVideoAudioChecker implements IIssueChecker {
 
     private String getTextContent(Element element) {
         StringBuilder text = new StringBuilder();
-        NodeList children = element.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            Node child = children.item(i);
-            if (child.getNodeType() == Node.TEXT_NODE) {
-                text.append(child.getTextContent());
-            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                text.append(getTextContent((Element) child));
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                text.append(textNode.getWholeText());
+            } else if (child instanceof Element childElement) {
+                text.append(getTextContent(childElement));
             }
         }
         return text.toString().trim();
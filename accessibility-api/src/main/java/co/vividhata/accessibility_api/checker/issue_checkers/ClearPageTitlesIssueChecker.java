@@ -3,10 +3,9 @@ package co.vividhata.accessibility_api.checker.issue_checkers;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
@@ -20,15 +19,14 @@ public class ClearPageTitlesIssueChecker implements IIssueChecker {
     @Override
     public List<Issue> check (Document document){
         List<Issue> issues = new ArrayList<>();
-        NodeList titleNodes = document.getElementsByTagName("title");
+        Element titleNode = document.selectFirst("title");
 
-        if(titleNodes.getLength() == 0){
+        if(titleNode == null){
             issues.add(new Issue(-1, -1, ISSUE_TYPE, "<title> missing"));
             return issues;
         }
 
-        Node titleNode = titleNodes.item(0);
-        String text = titleNode.getTextContent() == null ? "" : titleNode.getTextContent().trim();
+        String text = titleNode.wholeText().trim();
         if (text.isEmpty()) {
             issues.add(new Issue(-1, -1, ISSUE_TYPE, "<title></title>"));
         }
@@ -1,14 +1,15 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.util.ElementTraversal;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,20 +42,19 @@ public class ConsistentComponentsChecker implements IIssueChecker {
     // Check <button> and <a> elements
     private List<Issue> checkTextComponents(Document document, String tagName) {
         List<Issue> issues = new ArrayList<>();
-        NodeList nodes = document.getElementsByTagName(tagName);
         Map<String, String> seen = new HashMap<>();
 
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = (Element) nodes.item(i);
+        for (Element element : document.getElementsByTag(tagName)) {
+            CheckerBudget.checkpoint();
 
             // Use id, name, href, onclick, or text as a key
-            String key = element.getAttribute("id");
-            if (key.isEmpty()) key = element.getAttribute("name");
-            if (key.isEmpty() && "a".equals(tagName)) key = element.getAttribute("href");
-            if (key.isEmpty() && "button".equals(tagName)) key = element.getAttribute("onclick");
-            if (key.isEmpty()) key = element.getTextContent().trim();
+            String key = element.attr("id");
+            if (key.isEmpty()) key = element.attr("name");
+            if (key.isEmpty() && "a".equals(tagName)) key = element.attr("href");
+            if (key.isEmpty() && "button".equals(tagName)) key = element.attr("onclick");
+            if (key.isEmpty()) key = element.wholeText().trim();
 
-            String label = element.getTextContent().trim();
+            String label = element.wholeText().trim();
             if (label.isEmpty()) {
                 issues.add(new Issue(-1, -1, ISSUE_TYPE,
                         "Missing label for " + tagName + " element " + nodeParser.nodeToHtml(element)));
@@ -78,13 +78,12 @@ public class ConsistentComponentsChecker implements IIssueChecker {
     // Check <input>, <textarea>, <select>
     private List<Issue> checkInputComponents(Document document, String tagName) {
         List<Issue> issues = new ArrayList<>();
-        NodeList nodes = document.getElementsByTagName(tagName);
         Map<String, String> seen = new HashMap<>();
 
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = (Element) nodes.item(i);
-            String id = element.getAttribute("id");
-            String type = element.getAttribute("type");
+        for (Element element : document.getElementsByTag(tagName)) {
+            CheckerBudget.checkpoint();
+            String id = element.attr("id");
+            String type = element.attr("type");
             String key = !id.isEmpty() ? id : tagName + "-" + type;
 
             String label = getLabel(element);
@@ -108,29 +107,27 @@ public class ConsistentComponentsChecker implements IIssueChecker {
     }
 
     private String getLabel(Element element) {
-        Document doc = element.getOwnerDocument();
-        String id = element.getAttribute("id");
+        Document doc = element.ownerDocument();
+        String id = element.attr("id");
         if (!id.isEmpty()) {
-            NodeList labels = doc.getElementsByTagName("label");
-            for (int i = 0; i < labels.getLength(); i++) {
-                Element label = (Element) labels.item(i);
-                if (id.equals(label.getAttribute("for"))) return label.getTextContent().trim();
+            for (Element label : doc.getElementsByTag("label")) {
+                CheckerBudget.checkpoint();
+                if (id.equals(label.attr("for"))) return label.wholeText().trim();
             }
         }
-        String placeholder = element.getAttribute("placeholder");
+        String placeholder = element.attr("placeholder");
         return !placeholder.isEmpty() ? placeholder : null;
     }
 
     // Check <img> alt consistency
     private List<Issue> checkImageComponents(Document document) {
         List<Issue> issues = new ArrayList<>();
-        NodeList images = document.getElementsByTagName("img");
         Map<String, String> seen = new HashMap<>();
 
-        for (int i = 0; i < images.getLength(); i++) {
-            Element img = (Element) images.item(i);
-            String src = img.getAttribute("src");
-            String alt = img.getAttribute("alt");
+        for (Element img : document.getElementsByTag("img")) {
+            CheckerBudget.checkpoint();
+            String src = img.attr("src");
+            String alt = img.attr("alt");
 
             if (alt.isEmpty()) {
                 issues.add(new Issue(-1, -1, ISSUE_TYPE,
@@ -155,14 +152,13 @@ public class ConsistentComponentsChecker implements IIssueChecker {
     // Check role-based components
     private List<Issue> checkRoleComponents(Document document) {
         List<Issue> issues = new ArrayList<>();
-        NodeList allNodes = document.getElementsByTagName("*");
         Map<String, String> seenRoles = new HashMap<>();
 
-        for (int i = 0; i < allNodes.getLength(); i++) {
-            Element element = (Element) allNodes.item(i);
-            String role = element.getAttribute("role");
+        for (Element element : ElementTraversal.allElements(document)) {
+            CheckerBudget.checkpoint();
+            String role = element.attr("role");
             if (!role.isEmpty()) {
-                String label = element.getTextContent().trim();
+                String label = element.wholeText().trim();
                 if (label.isEmpty()) {
                     issues.add(new Issue(-1, -1, ISSUE_TYPE,
                             "Missing label for role '" + role + "' " + nodeParser.nodeToHtml(element)));
@@ -1,21 +1,17 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class ContentMeaningfulSequenceChecker implements IIssueChecker {
+public class ContentMeaningfulSequenceChecker implements IElementIssueChecker {
     
     private static final IssueType ISSUE_TYPE = IssueType.CONTENT_MEANINGFUL_SEQUENCE_VIOLATION;
 
@@ -23,27 +19,18 @@ public class ContentMeaningfulSequenceChecker implements IIssueChecker {
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-        
-        NodeList allElements = document.getElementsByTagName("*");
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) elementNode;
-                if (hasProblematicPositioning(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public List<Issue> checkElement(Element element) {
+        if (hasProblematicPositioning(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
-        
-        return issues;
+
+        return List.of();
     }
 
     private boolean hasProblematicPositioning(Element element) {
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        String style = element.attr("style");
+        String className = element.attr("class");
+        String id = element.attr("id");
         
         if (hasProblematicCSSInStyle(style)) {
             return true;
@@ -4,10 +4,10 @@ import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -22,12 +22,12 @@ public class DefinedLanguageChecker implements IIssueChecker {
     @Override
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
-        Element htmlElement = document.getDocumentElement();
+        Element htmlElement = document.firstElementChild();
         if (htmlElement != null) {
-            String language = htmlElement.getAttribute("lang");
-            String xmlLang = htmlElement.getAttribute("xml:lang");
+            String language = htmlElement.attr("lang");
+            String xmlLang = htmlElement.attr("xml:lang");
             if (language.isEmpty() && xmlLang.isEmpty()) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(htmlElement)));
+                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(htmlElement)));
             }
         }
         return issues;
@@ -1,58 +1,53 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.List;
 import java.util.ArrayList;
 
 @Service
-public class DragAndDropAlternativeChecker implements IIssueChecker {
+public class DragAndDropAlternativeChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.NO_DRAG_DROP_ALTERNATIVE;
+    private static final String[] DEFAULT_DRAG_ELEMENTS = {"a", "img"};
+    private static final String[] CUSTOM_DRAG_ATTRIBUTES = {"draggable", "ondragstart", "ondrop", "ondragover"};
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags(DEFAULT_DRAG_ELEMENTS).orAttributes(CUSTOM_DRAG_ATTRIBUTES);
 
     @Autowired
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-        String[] defaultDragElements = {"a", "img"};
-        String[] customDragAttributes = {"draggable", "ondragstart", "ondrop", "ondragover"};
-        
-        for (String tag : defaultDragElements) {
-            NodeList nodeList = document.getElementsByTagName(tag);
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                if (doesNotHaveKeyboardAlternative(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-                }
-            }
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (!doesNotHaveKeyboardAlternative(element)) {
+            return List.of();
         }
 
-        NodeList allNodes = document.getElementsByTagName("*");
-        
-        for (int i = 0; i < allNodes.getLength(); i++) {
-            Element element = (Element) allNodes.item(i);
-            for (String attr : customDragAttributes) {
-                if (element.hasAttribute(attr) && doesNotHaveKeyboardAlternative(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-                    break;
-                }
+        List<Issue> issues = new ArrayList<>();
+        if (ELEMENT_FILTER.tagNames().contains(element.normalName())) {
+            issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
+        for (String attr : CUSTOM_DRAG_ATTRIBUTES) {
+            if (element.hasAttr(attr)) {
+                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+                break;
             }
         }
         return issues;
     }
 
     private boolean doesNotHaveKeyboardAlternative(Element element) {
-        String tabindex = element.getAttribute("tabindex");
+        String tabindex = element.attr("tabindex");
 
         return tabindex.isEmpty() || Integer.parseInt(tabindex) < 0;
     }
@@ -1,15 +1,14 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -34,41 +33,37 @@ public class ErrorSuggestionChecker implements IIssueChecker {
     }
 
     private void checkInputErrors(Document document, String tagName, List<Issue> issues) {
-        NodeList nodes = document.getElementsByTagName(tagName);
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = (Element) nodes.item(i);
+        for (Element element : document.getElementsByTag(tagName)) {
+            CheckerBudget.checkpoint();
 
-            boolean isRequired = "true".equalsIgnoreCase(element.getAttribute("aria-required"));
-            boolean hasPattern = element.hasAttribute("pattern");
-            boolean hasMin = element.hasAttribute("min");
-            boolean hasMax = element.hasAttribute("max");
+            boolean isRequired = "true".equalsIgnoreCase(element.attr("aria-required"));
+            boolean hasPattern = element.hasAttr("pattern");
+            boolean hasMin = element.hasAttr("min");
+            boolean hasMax = element.hasAttr("max");
 
             if (isRequired || hasPattern || hasMin || hasMax) {
                 boolean hasErrorMessage = false;
 
-                String errorId = element.getAttribute("aria-describedby");
+                String errorId = element.attr("aria-describedby");
                 if (errorId != null && !errorId.isEmpty()) {
-                    Node describedNode = document.getElementById(errorId);
-                    hasErrorMessage = describedNode != null && !describedNode.getTextContent().trim().isEmpty();
+                    Element describedElement = document.getElementById(errorId);
+                    hasErrorMessage = describedElement != null && !describedElement.wholeText().trim().isEmpty();
                 }
                 
                 if (!hasErrorMessage) {
-                    Node next = element.getNextSibling();
+                    Element next = element.nextElementSibling();
                     while (next != null) {
-                        if (next.getNodeType() == Node.ELEMENT_NODE) {
-                            Element nextElement = (Element) next;
-                            String text = nextElement.getTextContent().trim();
-                            if (!text.isEmpty() && nextElement.getTagName().matches("span|div|p")) {
-                                hasErrorMessage = true;
-                                break;
-                            }
+                        String text = next.wholeText().trim();
+                        if (!text.isEmpty() && next.tagName().matches("span|div|p")) {
+                            hasErrorMessage = true;
+                            break;
                         }
-                        next = next.getNextSibling();
+                        next = next.nextElementSibling();
                     }
                 }
 
                 if (!hasErrorMessage) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
+                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
                 }
             }
         }
@@ -1,12 +1,14 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.*;
 
 import java.util.*;
 
@@ -24,17 +26,16 @@ public class HelpAvailableChecker implements IIssueChecker {
         String[] tagsToCheck = {"input", "textarea", "select"};
 
         for (String tag : tagsToCheck) {
-            NodeList nodes = document.getElementsByTagName(tag);
-            for (int i = 0; i < nodes.getLength(); i++) {
-                Element element = (Element) nodes.item(i);
+            for (Element element : document.getElementsByTag(tag)) {
+                CheckerBudget.checkpoint();
 
-                if ("hidden".equalsIgnoreCase(element.getAttribute("type")) ||
-                        "false".equalsIgnoreCase(element.getAttribute("aria-enabled"))) {
+                if ("hidden".equalsIgnoreCase(element.attr("type")) ||
+                        "false".equalsIgnoreCase(element.attr("aria-enabled"))) {
                     continue;
                 }
 
                 if (!hasHelp(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
+                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
                 }
             }
         }
@@ -43,45 +44,41 @@ public class HelpAvailableChecker implements IIssueChecker {
     }
 
     private boolean hasHelp(Element element) {
-        Document doc = element.getOwnerDocument();
+        Document doc = element.ownerDocument();
 
-        String ariaDesc = element.getAttribute("aria-describedby");
+        String ariaDesc = element.attr("aria-describedby");
         if (!ariaDesc.isEmpty()) {
-            Node describedNode = doc.getElementById(ariaDesc);
-            if (describedNode != null && !describedNode.getTextContent().trim().isEmpty()) {
+            Element describedNode = doc.getElementById(ariaDesc);
+            if (describedNode != null && !describedNode.wholeText().trim().isEmpty()) {
                 return true;
             }
         }
 
-        Node sibling = element.getNextSibling();
+        Element sibling = element.nextElementSibling();
         while (sibling != null) {
-            if (sibling.getNodeType() == Node.ELEMENT_NODE) {
-                String tag = ((Element) sibling).getTagName().toLowerCase();
-                if ((tag.equals("small") || tag.equals("span")) &&
-                        !sibling.getTextContent().trim().isEmpty()) {
-                    return true;
-                }
+            String tag = sibling.tagName().toLowerCase();
+            if ((tag.equals("small") || tag.equals("span")) &&
+                    !sibling.wholeText().trim().isEmpty()) {
+                return true;
             }
-            sibling = sibling.getNextSibling();
+            sibling = sibling.nextElementSibling();
         }
 
-        String placeholder = element.getAttribute("placeholder");
+        String placeholder = element.attr("placeholder");
         if (!placeholder.isEmpty()) {
             return true;
         }
 
-        Node prev = element.getPreviousSibling();
+        Element prev = element.previousElementSibling();
         while (prev != null) {
-            if (prev.getNodeType() == Node.ELEMENT_NODE) {
-                String tag = ((Element) prev).getTagName().toLowerCase();
-                if ((tag.equals("p") || tag.equals("div")) &&
-                        !prev.getTextContent().trim().isEmpty()) {
-                    return true;
-                }
+            String tag = prev.tagName().toLowerCase();
+            if ((tag.equals("p") || tag.equals("div")) &&
+                    !prev.wholeText().trim().isEmpty()) {
+                return true;
             }
-            prev = prev.getPreviousSibling();
+            prev = prev.previousElementSibling();
         }
 
-        return element.hasAttribute("pattern");
+        return element.hasAttr("pattern");
     }
 }
@@ -1,15 +1,15 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import com.github.pemistahl.lingua.api.*;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import com.github.pemistahl.lingua.api.*;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -28,29 +28,26 @@ public class LabelandInstructionChecker implements IIssueChecker {
         String[] tagsToCheck = {"input", "textarea", "select"};
 
         for (String tag : tagsToCheck) {
-            NodeList nodeList = document.getElementsByTagName(tag);
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
+            for (Element element : document.getElementsByTag(tag)) {
+                CheckerBudget.checkpoint();
                 
-                String id = element.getAttribute("id");
-                String placeholder = element.getAttribute("placeholder");
-                String ariaLabel = element.getAttribute("aria-label");
-                String ariaLabelledBy = element.getAttribute("aria-labelledby");
+                String id = element.attr("id");
+                String placeholder = element.attr("placeholder");
+                String ariaLabel = element.attr("aria-label");
+                String ariaLabelledBy = element.attr("aria-labelledby");
 
                 boolean hasLabel = false;
                 if (!id.isEmpty()) {
-                    NodeList labels = document.getElementsByTagName("label");
-                    for (int j = 0; j < labels.getLength(); j++) {
-                        Element label = (Element) labels.item(j);
-                        if (id.equals(label.getAttribute("for"))) {
+                    for (Element label : document.getElementsByTag("label")) {
+                        CheckerBudget.checkpoint();
+                        if (id.equals(label.attr("for"))) {
                             hasLabel = true;
                             break;
                         }
                     }
                 }
                 if (!hasLabel && placeholder.isEmpty() && ariaLabel.isEmpty() && ariaLabelledBy.isEmpty()) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
+                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
                 }
             }
         }
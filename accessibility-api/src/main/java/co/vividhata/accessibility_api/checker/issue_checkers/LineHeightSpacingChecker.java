@@ -1,23 +1,19 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 @Service
-public class LineHeightSpacingChecker implements IIssueChecker {
+public class LineHeightSpacingChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.LINE_HEIGHT_SPACING_VIOLATION;
 
@@ -25,27 +21,23 @@ public class LineHeightSpacingChecker implements IIssueChecker {
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList allElements = document.getElementsByTagName("*");
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) elementNode;
-                if (hasTextSpacingViolations(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public boolean usesStylesheets() {
+        return true;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (hasTextSpacingViolations(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
     private boolean hasTextSpacingViolations(Element element) {
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        Map<String, String> style = StyleResolver.propertiesOf(element);
+        String className = element.attr("class");
+        String id = element.attr("id");
 
         if (hasProblematicLineHeight(style, className, id)) {
             return true;
@@ -66,11 +58,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasProblematicLineHeight(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            if (hasLineHeightViolationInStyle(style)) {
-                return true;
-            }
+    private boolean hasProblematicLineHeight(Map<String, String> style, String className, String id) {
+        if (hasLineHeightViolationInStyle(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -88,21 +78,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasLineHeightViolationInStyle(String style) {
-        String lowerStyle = style.toLowerCase();
-        
-        Pattern lineHeightPattern = Pattern.compile("line-height\\s*:\\s*([^;]+)");
-        Matcher matcher = lineHeightPattern.matcher(lowerStyle);
-        
-        while (matcher.find()) {
-            String value = matcher.group(1).trim();
-            
-            if (isProblematicLineHeightValue(value)) {
-                return true;
-            }
-        }
-        
-        return false;
+    private boolean hasLineHeightViolationInStyle(Map<String, String> style) {
+        String value = style.get("line-height");
+        return value != null && isProblematicLineHeightValue(value.toLowerCase());
     }
 
     private boolean isProblematicLineHeightValue(String value) {
@@ -174,11 +152,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasProblematicLetterSpacing(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            if (hasLetterSpacingViolationInStyle(style)) {
-                return true;
-            }
+    private boolean hasProblematicLetterSpacing(Map<String, String> style, String className, String id) {
+        if (hasLetterSpacingViolationInStyle(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -196,21 +172,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasLetterSpacingViolationInStyle(String style) {
-        String lowerStyle = style.toLowerCase();
-        
-        Pattern letterSpacingPattern = Pattern.compile("letter-spacing\\s*:\\s*([^;]+)");
-        Matcher matcher = letterSpacingPattern.matcher(lowerStyle);
-        
-        while (matcher.find()) {
-            String value = matcher.group(1).trim();
-            
-            if (isProblematicLetterSpacingValue(value)) {
-                return true;
-            }
-        }
-        
-        return false;
+    private boolean hasLetterSpacingViolationInStyle(Map<String, String> style) {
+        String value = style.get("letter-spacing");
+        return value != null && isProblematicLetterSpacingValue(value.toLowerCase());
     }
 
     private boolean isProblematicLetterSpacingValue(String value) {
@@ -273,11 +237,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasProblematicWordSpacing(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            if (hasWordSpacingViolationInStyle(style)) {
-                return true;
-            }
+    private boolean hasProblematicWordSpacing(Map<String, String> style, String className, String id) {
+        if (hasWordSpacingViolationInStyle(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -295,21 +257,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasWordSpacingViolationInStyle(String style) {
-        String lowerStyle = style.toLowerCase();
-        
-        Pattern wordSpacingPattern = Pattern.compile("word-spacing\\s*:\\s*([^;]+)");
-        Matcher matcher = wordSpacingPattern.matcher(lowerStyle);
-        
-        while (matcher.find()) {
-            String value = matcher.group(1).trim();
-            
-            if (isProblematicWordSpacingValue(value)) {
-                return true;
-            }
-        }
-        
-        return false;
+    private boolean hasWordSpacingViolationInStyle(Map<String, String> style) {
+        String value = style.get("word-spacing");
+        return value != null && isProblematicWordSpacingValue(value.toLowerCase());
     }
 
     private boolean isProblematicWordSpacingValue(String value) {
@@ -372,11 +322,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasProblematicParagraphSpacing(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            if (hasParagraphSpacingViolationInStyle(style)) {
-                return true;
-            }
+    private boolean hasProblematicParagraphSpacing(Map<String, String> style, String className, String id) {
+        if (hasParagraphSpacingViolationInStyle(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -394,21 +342,9 @@ public class LineHeightSpacingChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasParagraphSpacingViolationInStyle(String style) {
-        String lowerStyle = style.toLowerCase();
-        
-        Pattern marginPattern = Pattern.compile("margin(?:-bottom)?\\s*:\\s*([^;]+)");
-        Matcher matcher = marginPattern.matcher(lowerStyle);
-        
-        while (matcher.find()) {
-            String value = matcher.group(1).trim();
-            
-            if (isProblematicParagraphSpacingValue(value)) {
-                return true;
-            }
-        }
-        
-        return false;
+    private boolean hasParagraphSpacingViolationInStyle(Map<String, String> style) {
+        String value = style.getOrDefault("margin-bottom", style.get("margin"));
+        return value != null && isProblematicParagraphSpacingValue(value.toLowerCase());
     }
 
     private boolean isProblematicParagraphSpacingValue(String value) {
@@ -3,11 +3,10 @@ package co.vividhata.accessibility_api.checker.issue_checkers;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
@@ -33,13 +32,10 @@ public class MultipleWaysToNavigateIssueChecker implements IIssueChecker {
     }
 
     private boolean hasSkipLink(Document document) {
-        NodeList anchorNodes = document.getElementsByTagName("a");
-        for (int i = 0; i < anchorNodes.getLength(); i++) {
-            Node node = anchorNodes.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
-            String href = element.getAttribute("href");
-            String text = (element.getTextContent() == null ? "" : element.getTextContent()).toLowerCase();
+        for (Element element : document.getElementsByTag("a")) {
+            CheckerBudget.checkpoint();
+            String href = element.attr("href");
+            String text = element.wholeText().toLowerCase();
             if ((href != null && href.startsWith("#") &&
                  (href.toLowerCase().contains("main") || href.toLowerCase().contains("content") || href.toLowerCase().contains("skip")))
                 || text.contains("skip")) {
@@ -50,30 +46,21 @@ public class MultipleWaysToNavigateIssueChecker implements IIssueChecker {
     }
 
     private boolean hasSearch(Document document) {
-        NodeList formNodes = document.getElementsByTagName("form");
-        for (int i = 0; i < formNodes.getLength(); i++) {
-            Node node = formNodes.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
-            if ("search".equalsIgnoreCase(element.getAttribute("role"))) return true;
+        for (Element element : document.getElementsByTag("form")) {
+            CheckerBudget.checkpoint();
+            if ("search".equalsIgnoreCase(element.attr("role"))) return true;
         }
-        NodeList inputNodes = document.getElementsByTagName("input");
-        for (int i = 0; i < inputNodes.getLength(); i++) {
-            Node node = inputNodes.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
-            if ("search".equalsIgnoreCase(element.getAttribute("type"))) return true;
+        for (Element element : document.getElementsByTag("input")) {
+            CheckerBudget.checkpoint();
+            if ("search".equalsIgnoreCase(element.attr("type"))) return true;
         }
         return false;
     }
 
     private boolean hasSitemapLink(Document document) {
-        NodeList anchorNodes = document.getElementsByTagName("a");
-        for (int i = 0; i < anchorNodes.getLength(); i++) {
-            Node node = anchorNodes.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
-            String href = element.getAttribute("href").toLowerCase();
+        for (Element element : document.getElementsByTag("a")) {
+            CheckerBudget.checkpoint();
+            String href = element.attr("href").toLowerCase();
             if (href.contains("sitemap")) return true;
         }
         return false;
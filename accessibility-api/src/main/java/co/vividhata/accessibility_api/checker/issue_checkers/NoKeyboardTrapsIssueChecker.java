@@ -3,65 +3,59 @@ package co.vividhata.accessibility_api.checker.issue_checkers;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
 import org.springframework.stereotype.Service;
 
 @Service
-public class NoKeyboardTrapsIssueChecker implements IIssueChecker {
+public class NoKeyboardTrapsIssueChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.NO_KEYBOARD_TRAPS;
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.attributes("onkeydown", "onkeypress", "onfocus");
 
     @Autowired
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList all = document.getElementsByTagName("*");
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
 
-        for (int i = 0; i < all.getLength(); i++) {
-            Node node = all.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
+    @Override
+    public List<Issue> checkElement(Element element) {
+        List<Issue> issues = new ArrayList<>();
 
-            for (String attributeName : new String[]{"onkeydown", "onkeypress"}) {
-                if (element.hasAttribute(attributeName)) {
-                    String handlerValue = element.getAttribute(attributeName).toLowerCase();
-                    boolean blocks = handlerValue.contains("preventdefault()");
-                    boolean handlesTabOrEscape = handlerValue.contains("tab") || handlerValue.contains("escape") || handlerValue.contains("esc");
-                    if (blocks && !handlesTabOrEscape) {
-                        issues.add(new Issue(-1, -1, ISSUE_TYPE, formatDivWithAttr(element, attributeName)));
-                        break;
-                    }
+        for (String attributeName : new String[]{"onkeydown", "onkeypress"}) {
+            if (element.hasAttr(attributeName)) {
+                String handlerValue = element.attr(attributeName).toLowerCase();
+                boolean blocks = handlerValue.contains("preventdefault()");
+                boolean handlesTabOrEscape = handlerValue.contains("tab") || handlerValue.contains("escape") || handlerValue.contains("esc");
+                if (blocks && !handlesTabOrEscape) {
+                    issues.add(new Issue(-1, -1, ISSUE_TYPE, formatDivWithAttr(element, attributeName)));
+                    break;
                 }
             }
+        }
 
-            if (element.hasAttribute("onfocus")) {
-                String handlerValue = element.getAttribute("onfocus").toLowerCase();
-                if (handlerValue.contains("focus()")) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, formatSelfClosing("input", element, "id", "onfocus")));
-                }
+        if (element.hasAttr("onfocus")) {
+            String handlerValue = element.attr("onfocus").toLowerCase();
+            if (handlerValue.contains("focus()")) {
+                issues.add(new Issue(-1, -1, ISSUE_TYPE, formatSelfClosing("input", element, "id", "onfocus")));
             }
-
-            
         }
-        
+
         return issues;
     }
 
     private String formatDivWithAttr(Element element, String attrName) {
-        String id = element.getAttribute("id");
-        String attr = element.getAttribute(attrName);
+        String id = element.attr("id");
+        String attr = element.attr(attrName);
         StringBuilder sb = new StringBuilder();
         sb.append("<div");
         if (id != null && !id.isEmpty()) sb.append(" id=\"").append(id).append("\"");
@@ -74,9 +68,9 @@ public class NoKeyboardTrapsIssueChecker implements IIssueChecker {
         StringBuilder sb = new StringBuilder();
         sb.append('<').append(tag);
         for (String name : orderedAttrs) {
-            if (element.hasAttribute(name)) {
+            if (element.hasAttr(name)) {
                 sb.append(' ').append(name).append("=\"")
-                  .append(element.getAttribute(name)).append("\"");
+                  .append(element.attr(name)).append("\"");
             }
         }
         sb.append("/>");
@@ -1,20 +1,19 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
+public class NoSingleSensoryCharacteristicChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.NO_SINGLE_SENSORY_CHARACTERISTIC;
 
@@ -22,34 +21,20 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList allElements = document.getElementsByTagName("*");
-
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                if (reliesOnSensoryCharacteristic(elementNode)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public List<Issue> checkElement(Element element) {
+        if (reliesOnSensoryCharacteristic(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
-    private boolean reliesOnSensoryCharacteristic(Node elementNode) {
-        if (elementNode.getNodeType() != Node.ELEMENT_NODE) {
-            return false;
-        }
-
-        org.w3c.dom.Element element = (org.w3c.dom.Element) elementNode;
-        String tagName = element.getTagName().toLowerCase();
+    private boolean reliesOnSensoryCharacteristic(Element element) {
+        String tagName = element.tagName().toLowerCase();
         String textContent = getTextContent(element).trim();
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        String style = element.attr("style");
+        String className = element.attr("class");
+        String id = element.attr("id");
 
         if (!textContent.isEmpty() && hasMeaningfulText(textContent)) {
             return false;
@@ -79,7 +64,7 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
     }
 
 
-    private boolean reliesOnColorAlone(org.w3c.dom.Element element, String style, String className, String id) {
+    private boolean reliesOnColorAlone(Element element, String style, String className, String id) {
         String[] colorOnlyPatterns = {
             "red", "green", "blue", "yellow", "orange", "purple", "pink", "black", "white",
             "success", "error", "warning", "danger", "info", "primary", "secondary"
@@ -114,7 +99,7 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean reliesOnPositionAlone(org.w3c.dom.Element element, String style, String className, String id) {
+    private boolean reliesOnPositionAlone(Element element, String style, String className, String id) {
         String[] positionOnlyPatterns = {
             "left", "right", "top", "bottom", "center", "middle", "first", "last", "above", "below"
         };
@@ -141,7 +126,7 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
     }
 
 
-    private boolean reliesOnShapeAlone(org.w3c.dom.Element element, String style, String className, String id) {
+    private boolean reliesOnShapeAlone(Element element, String style, String className, String id) {
         String[] shapeOnlyPatterns = {
             "circle", "square", "triangle", "diamond", "arrow", "star", "heart", "round", "oval"
         };
@@ -168,7 +153,7 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
     }
 
 
-    private boolean reliesOnSizeAlone(org.w3c.dom.Element element, String style, String className, String id) {
+    private boolean reliesOnSizeAlone(Element element, String style, String className, String id) {
         String[] sizeOnlyPatterns = {
             "small", "large", "big", "tiny", "huge", "mini", "maxi", "compact", "expanded"
         };
@@ -195,20 +180,20 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
     }
 
 
-    private boolean hasAlternativeContent(org.w3c.dom.Element element) {
-        if (element.hasAttribute("aria-label") && !element.getAttribute("aria-label").trim().isEmpty()) {
+    private boolean hasAlternativeContent(Element element) {
+        if (element.hasAttr("aria-label") && !element.attr("aria-label").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("aria-labelledby") && !element.getAttribute("aria-labelledby").trim().isEmpty()) {
+        if (element.hasAttr("aria-labelledby") && !element.attr("aria-labelledby").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("title") && !element.getAttribute("title").trim().isEmpty()) {
+        if (element.hasAttr("title") && !element.attr("title").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("alt") && !element.getAttribute("alt").trim().isEmpty()) {
+        if (element.hasAttr("alt") && !element.attr("alt").trim().isEmpty()) {
             return true;
         }
 
@@ -233,15 +218,13 @@ public class NoSingleSensoryCharacteristicChecker implements IIssueChecker {
 
 
 
-    private String getTextContent(org.w3c.dom.Element element) {
+    private String getTextContent(Element element) {
         StringBuilder text = new StringBuilder();
-        NodeList children = element.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            Node child = children.item(i);
-            if (child.getNodeType() == Node.TEXT_NODE) {
-                text.append(child.getTextContent());
-            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                text.append(getTextContent((org.w3c.dom.Element) child));
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                text.append(textNode.getWholeText());
+            } else if (child instanceof Element childElement) {
+                text.append(getTextContent(childElement));
             }
         }
         return text.toString().trim();
@@ -1,22 +1,21 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 @Service
-public class NotJustColorChecker implements IIssueChecker {
+public class NotJustColorChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.NOT_JUST_COLOR;
 
@@ -24,28 +23,24 @@ public class NotJustColorChecker implements IIssueChecker {
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList allElements = document.getElementsByTagName("*");
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) elementNode;
-                if (reliesOnColorAlone(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public boolean usesStylesheets() {
+        return true;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (reliesOnColorAlone(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
     private boolean reliesOnColorAlone(Element element) {
         String textContent = getTextContent(element).trim();
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        Map<String, String> style = StyleResolver.propertiesOf(element);
+        String className = element.attr("class");
+        String id = element.attr("id");
 
         if (!textContent.isEmpty() && hasMeaningfulText(textContent)) {
             return false;
@@ -66,7 +61,7 @@ public class NotJustColorChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasColorOnlyIndicators(String style, String className, String id) {
+    private boolean hasColorOnlyIndicators(Map<String, String> style, String className, String id) {
         String[] colorOnlyPatterns = {
             "red", "green", "blue", "yellow", "orange", "purple", "pink", "black", "white",
             "success", "error", "warning", "danger", "info", "primary", "secondary",
@@ -91,24 +86,17 @@ public class NotJustColorChecker implements IIssueChecker {
             }
         }
 
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            if (hasColorOnlyInStyle(lowerStyle)) {
-                return true;
-            }
+        if (hasColorOnlyInStyle(style)) {
+            return true;
         }
 
         return false;
     }
 
-    private boolean hasColorOnlyInStyle(String style) {
-        Pattern colorPattern = Pattern.compile("color\\s*:\\s*([^;]+)");
-        Pattern backgroundColorPattern = Pattern.compile("background-color\\s*:\\s*([^;]+)");
-        Pattern borderColorPattern = Pattern.compile("border-color\\s*:\\s*([^;]+)");
-
-        boolean hasColor = colorPattern.matcher(style).find();
-        boolean hasBackgroundColor = backgroundColorPattern.matcher(style).find();
-        boolean hasBorderColor = borderColorPattern.matcher(style).find();
+    private boolean hasColorOnlyInStyle(Map<String, String> style) {
+        boolean hasColor = style.containsKey("color");
+        boolean hasBackgroundColor = style.containsKey("background-color");
+        boolean hasBorderColor = style.containsKey("border-color");
 
         if ((hasColor || hasBackgroundColor || hasBorderColor) && !hasOtherVisualIndicators(style)) {
             return true;
@@ -117,16 +105,15 @@ public class NotJustColorChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasOtherVisualIndicators(String style) {
+    private boolean hasOtherVisualIndicators(Map<String, String> style) {
         String[] visualIndicators = {
             "border", "border-style", "border-width", "outline", "text-decoration",
             "font-weight", "font-style", "text-transform", "background-image",
             "box-shadow", "text-shadow", "opacity", "visibility", "display"
         };
 
-        String lowerStyle = style.toLowerCase();
         for (String indicator : visualIndicators) {
-            if (lowerStyle.contains(indicator + ":")) {
+            if (style.containsKey(indicator)) {
                 return true;
             }
         }
@@ -134,7 +121,7 @@ public class NotJustColorChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasColorBasedPatterns(String style, String className, String id) {
+    private boolean hasColorBasedPatterns(Map<String, String> style, String className, String id) {
         String[] colorBasedPatterns = {
             "status", "state", "indicator", "flag", "marker", "badge", "label",
             "highlight", "emphasis", "alert", "notification", "message"
@@ -192,33 +179,32 @@ public class NotJustColorChecker implements IIssueChecker {
     }
 
     private boolean hasAlternativeIndicators(Element element) {
-        if (element.hasAttribute("aria-label") && !element.getAttribute("aria-label").trim().isEmpty()) {
+        if (element.hasAttr("aria-label") && !element.attr("aria-label").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("aria-labelledby") && !element.getAttribute("aria-labelledby").trim().isEmpty()) {
+        if (element.hasAttr("aria-labelledby") && !element.attr("aria-labelledby").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("title") && !element.getAttribute("title").trim().isEmpty()) {
+        if (element.hasAttr("title") && !element.attr("title").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("alt") && !element.getAttribute("alt").trim().isEmpty()) {
+        if (element.hasAttr("alt") && !element.attr("alt").trim().isEmpty()) {
             return true;
         }
 
-        if (element.hasAttribute("data-status") || element.hasAttribute("data-state") || 
-            element.hasAttribute("data-type") || element.hasAttribute("data-role")) {
+        if (element.hasAttr("data-status") || element.hasAttr("data-state") || 
+            element.hasAttr("data-type") || element.hasAttr("data-role")) {
             return true;
         }
 
-        if (element.hasAttribute("role") && !element.getAttribute("role").trim().isEmpty()) {
+        if (element.hasAttr("role") && !element.attr("role").trim().isEmpty()) {
             return true;
         }
 
-        String style = element.getAttribute("style");
-        if (style != null && !style.trim().isEmpty() && hasOtherVisualIndicators(style.toLowerCase())) {
+        if (hasOtherVisualIndicators(StyleResolver.propertiesOf(element))) {
             return true;
         }
 
@@ -237,13 +223,11 @@ public class NotJustColorChecker implements IIssueChecker {
 
     private String getTextContent(Element element) {
         StringBuilder text = new StringBuilder();
-        NodeList children = element.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            Node child = children.item(i);
-            if (child.getNodeType() == Node.TEXT_NODE) {
-                text.append(child.getTextContent());
-            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                text.append(getTextContent((Element) child));
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                text.append(textNode.getWholeText());
+            } else if (child instanceof Element childElement) {
+                text.append(getTextContent(childElement));
             }
         }
         return text.toString().trim();
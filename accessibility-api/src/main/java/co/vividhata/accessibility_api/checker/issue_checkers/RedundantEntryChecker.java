@@ -1,14 +1,14 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
+import co.vividhata.accessibility_api.checker.CheckerBudget;
 import co.vividhata.accessibility_api.checker.IIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -29,15 +29,13 @@ public class RedundantEntryChecker implements IIssueChecker {
         Map<String, String> previous = new HashMap<>();
 
         for (String tag : tagsToCheck) {
-            NodeList nodeList = document.getElementsByTagName(tag);
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                String name = element.getAttribute("name");
-                String type = element.getAttribute("type");
-                String value = element.getAttribute("value").trim();
+            for (Element element : document.getElementsByTag(tag)) {
+                CheckerBudget.checkpoint();
+                String name = element.attr("name");
+                String type = element.attr("type");
+                String value = element.attr("value").trim();
                 
-                if ("password".equalsIgnoreCase(type) || element.hasAttribute("data-security")) {
+                if ("password".equalsIgnoreCase(type) || element.hasAttr("data-security")) {
                     continue; 
                 }
 
@@ -47,10 +45,10 @@ public class RedundantEntryChecker implements IIssueChecker {
 
                 if (previous.containsKey(name)) {
                     boolean hasAutoFill = !value.isEmpty();
-                    boolean hasOptions = tag.equals("select") && element.getElementsByTagName("option").getLength() > 0;
+                    boolean hasOptions = tag.equals("select") && !element.getElementsByTag("option").isEmpty();
 
                     if (!hasAutoFill && !hasOptions) {
-                        issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));                   
+                        issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));                   
                     }
                 } else {
                     if (!value.isEmpty()) {
@@ -1,22 +1,23 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class SemanticHtmlChecker implements IIssueChecker {
+public class SemanticHtmlChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.SEMANTIC_HTML_MISSING;
+    private static final List<String> NON_SEMANTIC_ELEMENTS = List.of("div", "span", "p");
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags(NON_SEMANTIC_ELEMENTS.toArray(new String[0]));
 
 
     @Autowired
@@ -25,35 +26,36 @@ public class SemanticHtmlChecker implements IIssueChecker {
     @Override
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
-        
-        String[] nonSemanticElements = {
-            "div", "span", "p" 
-        };
-        
-        for (String tagName : nonSemanticElements) {
-            NodeList elementNodeList = document.getElementsByTagName(tagName);
-            for (int i = 0; i < elementNodeList.getLength(); i++) {
-                Node elementNode = elementNodeList.item(i);
-                if (shouldBeSemantic(elementNode)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
+
+        for (String tagName : NON_SEMANTIC_ELEMENTS) {
+            for (Element element : document.getElementsByTag(tagName)) {
+                issues.addAll(checkElement(element));
             }
         }
-        
+
         return issues;
     }
 
+    @Override
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
 
-    private boolean shouldBeSemantic(Node elementNode) {
-        if (elementNode.getNodeType() != Node.ELEMENT_NODE) {
-            return false;
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (NON_SEMANTIC_ELEMENTS.contains(element.tagName().toLowerCase()) && shouldBeSemantic(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
-        
-        Element element = (Element) elementNode;
-        String tagName = element.getTagName().toLowerCase();
-        String className = element.getAttribute("class").toLowerCase();
-        String id = element.getAttribute("id").toLowerCase();
-        String role = element.getAttribute("role").toLowerCase();
+
+        return List.of();
+    }
+
+
+    private boolean shouldBeSemantic(Element element) {
+        String tagName = element.tagName().toLowerCase();
+        String className = element.attr("class").toLowerCase();
+        String id = element.attr("id").toLowerCase();
+        String role = element.attr("role").toLowerCase();
         
         if (!role.isEmpty()) {
             return false;
@@ -1,51 +1,46 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 @Service
-public class TextResizeChecker implements IIssueChecker {
+public class TextResizeChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.TEXT_RESIZE_VIOLATION;
+    private static final String[] DIMENSIONS = {"width", "height", "max-width", "max-height"};
+    private static final Pattern FIXED_LENGTH = Pattern.compile("([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
 
     @Autowired
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-
-        NodeList allElements = document.getElementsByTagName("*");
-        for (int i = 0; i < allElements.getLength(); i++) {
-            Node elementNode = allElements.item(i);
-            if (elementNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) elementNode;
-                if (hasTextResizeViolation(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(elementNode)));
-                }
-            }
+    public boolean usesStylesheets() {
+        return true;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (hasTextResizeViolation(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
 
-        return issues;
+        return List.of();
     }
 
     private boolean hasTextResizeViolation(Element element) {
-        String style = element.getAttribute("style");
-        String className = element.getAttribute("class");
-        String id = element.getAttribute("id");
+        Map<String, String> style = StyleResolver.propertiesOf(element);
+String className = element.attr("class");
+        String id = element.attr("id");
 
         if (hasFixedFontSize(style, className, id)) {
             return true;
@@ -74,16 +69,9 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasFixedFontSize(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            
-            Pattern fixedFontSizePattern = Pattern.compile("font-size\\s*:\\s*([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
-            Matcher matcher = fixedFontSizePattern.matcher(lowerStyle);
-            
-            if (matcher.find()) {
-                return true;
-            }
+    private boolean hasFixedFontSize(Map<String, String> style, String className, String id) {
+        if (isFixedLength(style.get("font-size"))) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -121,16 +109,9 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasFixedDimensions(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-
-            Pattern fixedWidthPattern = Pattern.compile("width\\s*:\\s*([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
-            Pattern fixedHeightPattern = Pattern.compile("height\\s*:\\s*([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
-            
-            if (fixedWidthPattern.matcher(lowerStyle).find() || fixedHeightPattern.matcher(lowerStyle).find()) {
-                return true;
-            }
+    private boolean hasFixedDimensions(Map<String, String> style, String className, String id) {
+        if (hasFixedDimension(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -164,13 +145,9 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasOverflowHidden(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            
-            if (lowerStyle.contains("overflow: hidden") || lowerStyle.contains("overflow:hidden")) {
-                return true;
-            }
+    private boolean hasOverflowHidden(Map<String, String> style, String className, String id) {
+        if (hasValue(style, "overflow", "hidden")) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -204,13 +181,9 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasWhiteSpaceNoWrap(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            
-            if (lowerStyle.contains("white-space: nowrap") || lowerStyle.contains("white-space:nowrap")) {
-                return true;
-            }
+    private boolean hasWhiteSpaceNoWrap(Map<String, String> style, String className, String id) {
+        if (hasValue(style, "white-space", "nowrap")) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -244,13 +217,9 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasFixedPositioning(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            
-            if (lowerStyle.contains("position: fixed") || lowerStyle.contains("position:fixed")) {
-                return true;
-            }
+    private boolean hasFixedPositioning(Map<String, String> style, String className, String id) {
+        if (hasValue(style, "position", "fixed")) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -284,18 +253,10 @@ public class TextResizeChecker implements IIssueChecker {
         return false;
     }
 
-    private boolean hasAbsolutePositioningWithFixedDimensions(String style, String className, String id) {
-        if (style != null && !style.trim().isEmpty()) {
-            String lowerStyle = style.toLowerCase();
-            
-            if (lowerStyle.contains("position: absolute") || lowerStyle.contains("position:absolute")) {
-                Pattern fixedWidthPattern = Pattern.compile("width\\s*:\\s*([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
-                Pattern fixedHeightPattern = Pattern.compile("height\\s*:\\s*([0-9.]+)\\s*(px|pt|pc|in|cm|mm)");
-                
-                if (fixedWidthPattern.matcher(lowerStyle).find() || fixedHeightPattern.matcher(lowerStyle).find()) {
-                    return true;
-                }
-            }
+    private boolean hasAbsolutePositioningWithFixedDimensions(Map<String, String> style, String className, String id) {
+        if (hasValue(style, "position", "absolute")
+                && hasFixedDimension(style)) {
+            return true;
         }
 
         if (className != null && !className.trim().isEmpty()) {
@@ -366,4 +327,23 @@ public class TextResizeChecker implements IIssueChecker {
 
         return false;
     }
+
+    private boolean hasValue(Map<String, String> style, String property, String value) {
+        String actual = style.get(property);
+        return actual != null && actual.equalsIgnoreCase(value);
+    }
+
+    private boolean hasFixedDimension(Map<String, String> style) {
+        for (String property : DIMENSIONS) {
+            if (isFixedLength(style.get(property))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isFixedLength(String value) {
+        return value != null && FIXED_LENGTH.matcher(value.toLowerCase()).lookingAt();
+    }
 }
@@ -3,22 +3,22 @@ package co.vividhata.accessibility_api.checker.issue_checkers;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
 import org.springframework.stereotype.Service;
 
 @Service
-public class TimeLimitsIssueChecker implements IIssueChecker {
+public class TimeLimitsIssueChecker implements IElementIssueChecker {
 
     private static final IssueType ISSUE_TYPE = IssueType.TIME_LIMITS;
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags("meta");
 
     @Autowired
     private INodeParser nodeParser;
@@ -27,27 +27,36 @@ public class TimeLimitsIssueChecker implements IIssueChecker {
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
 
-        NodeList metaNodes = document.getElementsByTagName("meta");
-
-        for (int i = 0; i < metaNodes.getLength(); i++) {
-            Node node = metaNodes.item(i);
-            if (node.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element element = (Element) node;
-
-            if (element.hasAttribute("http-equiv") && "refresh".equalsIgnoreCase(element.getAttribute("http-equiv"))) {
-                String httpEquiv = element.getAttribute("http-equiv");
-                String content = element.getAttribute("content");
-                StringBuilder sb = new StringBuilder();
-                sb.append("<meta http-equiv=\"").append(httpEquiv).append("\"");
-                if (content != null && !content.isEmpty()) {
-                    sb.append(" content=\"").append(content).append("\"");
-                }
-                sb.append("/>");
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, sb.toString()));
-            }
+        for (Element element : document.getElementsByTag("meta")) {
+            issues.addAll(checkElement(element));
+        }
+
+        return issues;
+    }
+
+    @Override
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
     }
 
-    return issues;
-    
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (!element.tagName().equalsIgnoreCase("meta")) {
+            return List.of();
+        }
+
+        if (element.hasAttr("http-equiv") && "refresh".equalsIgnoreCase(element.attr("http-equiv"))) {
+            String httpEquiv = element.attr("http-equiv");
+            String content = element.attr("content");
+            StringBuilder sb = new StringBuilder();
+            sb.append("<meta http-equiv=\"").append(httpEquiv).append("\"");
+            if (content != null && !content.isEmpty()) {
+                sb.append(" content=\"").append(content).append("\"");
+            }
+            sb.append("/>");
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, sb.toString()));
+        }
+
+        return List.of();
     }
 }
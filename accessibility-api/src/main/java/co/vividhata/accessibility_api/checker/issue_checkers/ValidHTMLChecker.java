@@ -1,21 +1,23 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class ValidHTMLChecker implements IIssueChecker {
+public class ValidHTMLChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.INVALID_HTML;
+    private static final List<String> TAGS_TO_CHECK = List.of("div", "span", "p", "section", "article", "aside", "header", "footer", "main");
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags(TAGS_TO_CHECK.toArray(new String[0]));
     
     @Autowired
     private INodeParser nodeParser;
@@ -23,25 +25,33 @@ public class ValidHTMLChecker implements IIssueChecker {
     @Override
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
-        String[] tagsToCheck = {"div", "span", "p", "section", "article", "aside", "header", "footer", "main"};
-        for (String tag : tagsToCheck) {
-            NodeList nodeList = document.getElementsByTagName(tag);
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                if (shouldBeSemantic(element)) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-                }
+        for (String tag : TAGS_TO_CHECK) {
+            for (Element element : document.getElementsByTag(tag)) {
+                issues.addAll(checkElement(element));
             }
         }
         return issues;
     }
+
+    @Override
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (TAGS_TO_CHECK.contains(element.tagName().toLowerCase()) && shouldBeSemantic(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
+
+        return List.of();
+    }
     
     private boolean shouldBeSemantic(Element element) {
-        String tagName = element.getTagName().toLowerCase();
-        String role = element.getAttribute("role").toLowerCase();
-        String className = element.getAttribute("class").toLowerCase();
-        String id = element.getAttribute("id").toLowerCase();
+        String tagName = element.tagName().toLowerCase();
+        String role = element.attr("role").toLowerCase();
+        String className = element.attr("class").toLowerCase();
+        String id = element.attr("id").toLowerCase();
 
         if (!role.isEmpty()) return false;
 
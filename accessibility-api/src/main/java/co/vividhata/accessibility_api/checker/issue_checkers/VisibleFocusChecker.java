@@ -1,41 +1,55 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class VisibleFocusChecker implements IIssueChecker {
+public class VisibleFocusChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.FOCUS_NOT_VISIBLE;
+    private static final List<String> FOCUS_TAGS = List.of("a", "button", "input", "textarea", "select");
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.tags(FOCUS_TAGS.toArray(new String[0]));
     @Autowired
     private INodeParser nodeParser;
 
     @Override
     public List<Issue> check(Document document) {
         List<Issue> issues = new ArrayList<>();
-        String[] FocusTags = {"a", "button", "input", "textarea", "select"};
-        for (String tag : FocusTags) {
-            NodeList nodeList = document.getElementsByTagName(tag);
-
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                String style = element.getAttribute("style");
-                String classAttr = element.getAttribute("class");
-
-                if (style.contains("outline:none") || style.contains("display:none") || style.contains("visibility:hidden") || classAttr.toLowerCase().contains("no-focus")) {
-                    issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-                }
+        for (String tag : FOCUS_TAGS) {
+            for (Element element : document.getElementsByTag(tag)) {
+                issues.addAll(checkElement(element));
             }
         }
         return issues;
     }
+
+    @Override
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (!FOCUS_TAGS.contains(element.tagName().toLowerCase())) {
+            return List.of();
+        }
+
+        String style = element.attr("style");
+        String classAttr = element.attr("class");
+
+        if (style.contains("outline:none") || style.contains("display:none") || style.contains("visibility:hidden") || classAttr.toLowerCase().contains("no-focus")) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
+        }
+
+        return List.of();
+    }
 }
@@ -1,56 +1,56 @@
 package co.vividhata.accessibility_api.checker.issue_checkers;
 
-import co.vividhata.accessibility_api.checker.IIssueChecker;
+import co.vividhata.accessibility_api.checker.ElementFilter;
+import co.vividhata.accessibility_api.checker.IElementIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class VisibleFocusIndicatorChecker implements IIssueChecker {
+public class VisibleFocusIndicatorChecker implements IElementIssueChecker {
     private static final IssueType ISSUE_TYPE = IssueType.FOCUS_INDICATOR_HIDDEN;
+    private static final ElementFilter ELEMENT_FILTER = ElementFilter.attributes("style");
     @Autowired
     private INodeParser nodeParser;
 
     @Override
-    public List<Issue> check(Document document) {
-        List<Issue> issues = new ArrayList<>();
-        NodeList allNodes = document.getElementsByTagName("*");
-        for (int i = 0; i < allNodes.getLength(); i++) {
-            Element element = (Element) allNodes.item(i);
-            if (isFocus(element) && hidesFocus(element)) {
-                issues.add(new Issue(-1, -1, ISSUE_TYPE, nodeParser.nodeToHtml(element)));
-            }
+    public ElementFilter elementFilter() {
+        return ELEMENT_FILTER;
+    }
+
+    @Override
+    public List<Issue> checkElement(Element element) {
+        if (isFocus(element) && hidesFocus(element)) {
+            return List.of(new Issue(-1, -1, ISSUE_TYPE, nodeParser.locate(element)));
         }
-        return issues;
+
+        return List.of();
     }
     private boolean isFocus(Element element) {
         String[] interactiveTags = {"a", "button", "input", "select", "textarea", "img", "div", "span"};
-        String tagName = element.getTagName().toLowerCase();
+        String tagName = element.tagName().toLowerCase();
         for (String tag : interactiveTags) {
             if (tag.equals(tagName)) {
                 return true;
             }
         }
         
-        String role = element.getAttribute("role");
+        String role = element.attr("role");
         if (role.equals("button") || role.equals("link") || role.equals("checkbox") || role.equals("radio") || role.equals("menuitem") || role.equals("tab")) {
             return true;
         }
 
-        String tabindex = element.getAttribute("tabindex");
+        String tabindex = element.attr("tabindex");
         return !tabindex.isEmpty() && Integer.parseInt(tabindex) >= 0;
     }
 
     private boolean hidesFocus(Element element) {
-        String style = element.getAttribute("style");
+        String style = element.attr("style");
         if (style.isEmpty()) {
             return false;
         }
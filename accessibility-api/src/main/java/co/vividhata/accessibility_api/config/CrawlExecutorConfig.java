@@ -0,0 +1,27 @@
+package co.vividhata.accessibility_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CrawlExecutorConfig {
+
+    @Value("${crawl.executor.pool-size:4}")
+    private int poolSize;
+    @Value("${crawl.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor crawlExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("crawl-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+}
@@ -0,0 +1,35 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.crawl.dto.CrawlRequest;
+import co.vividhata.accessibility_api.crawl.dto.CrawlResponse;
+import co.vividhata.accessibility_api.model.Account;
+import co.vividhata.accessibility_api.model.Crawl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/crawl")
+public class CrawlController {
+
+    @Autowired
+    private ICrawlService crawlService;
+
+    @PostMapping
+    public ResponseEntity<Crawl> startCrawl(@RequestBody CrawlRequest crawlRequest, @AuthenticationPrincipal Account account) {
+        Crawl crawl = crawlService.startCrawl(crawlRequest.url(), crawlRequest.maxDepth(), crawlRequest.maxPages(), account.id());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(crawl);
+    }
+
+    @GetMapping("/{crawlId}")
+    public ResponseEntity<?> getCrawl(@PathVariable int crawlId, @AuthenticationPrincipal Account account) {
+        if (crawlService.getOwner(crawlId) != account.id()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Crawl does not belong to current user");
+        }
+
+        return ResponseEntity.ok(new CrawlResponse(crawlService.getCrawl(crawlId), crawlService.getScans(crawlId)));
+    }
+
+}
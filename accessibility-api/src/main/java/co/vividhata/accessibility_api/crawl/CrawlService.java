@@ -0,0 +1,151 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.crawl.exceptions.CrawlDoesNotExistException;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.model.Crawl;
+import co.vividhata.accessibility_api.model.CrawlStatus;
+import co.vividhata.accessibility_api.model.Link;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.scan.IBatchScanService;
+import co.vividhata.accessibility_api.scan.dto.BatchScanResult;
+import co.vividhata.accessibility_api.scan.exceptions.InvalidUrlException;
+import co.vividhata.accessibility_api.scan_job.exceptions.ScanQueueFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class CrawlService implements ICrawlService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlService.class);
+
+    @Autowired
+    private ICrawlRepository crawlRepository;
+    @Autowired
+    private IBatchScanService batchScanService;
+    @Autowired
+    private ILinkService linkService;
+    @Autowired
+    private IRobotsService robotsService;
+    @Autowired
+    private ISitemapService sitemapService;
+    @Autowired
+    private ThreadPoolTaskExecutor crawlExecutor;
+
+    @Value("${crawl.max-depth:3}")
+    private int maximumDepth;
+    @Value("${crawl.max-pages:200}")
+    private int maximumPages;
+
+    @Override
+    public Crawl startCrawl(String seedUrl, Integer maxDepth, Integer maxPages, int accountId) {
+        String normalisedSeedUrl = linkService.normaliseUrl(seedUrl);
+        if (normalisedSeedUrl == null) {
+            throw new InvalidUrlException();
+        }
+
+        int depth = maxDepth == null ? maximumDepth : Math.clamp(maxDepth, 0, maximumDepth);
+        int pages = maxPages == null ? maximumPages : Math.clamp(maxPages, 1, maximumPages);
+
+        int crawlId = crawlRepository.create(accountId, normalisedSeedUrl, depth, pages, Instant.now());
+
+        try {
+            crawlExecutor.execute(() -> run(crawlId, normalisedSeedUrl, depth, pages, accountId));
+        } catch (TaskRejectedException _) {
+            crawlRepository.finish(crawlId, CrawlStatus.FAILED, Instant.now());
+            throw new ScanQueueFullException();
+        }
+
+        return crawlRepository.get(crawlId);
+    }
+
+    @Override
+    public Crawl getCrawl(int crawlId) {
+        Crawl crawl = crawlRepository.get(crawlId);
+
+        if (crawl == null) {
+            throw new CrawlDoesNotExistException();
+        }
+
+        return crawl;
+    }
+
+    @Override
+    public List<Scan> getScans(int crawlId) {
+        return crawlRepository.getScans(crawlId);
+    }
+
+    @Override
+    public int getOwner(int crawlId) {
+        return getCrawl(crawlId).accountId();
+    }
+
+    private void run(int crawlId, String seedUrl, int maxDepth, int maxPages, int accountId) {
+        int pagesScanned = 0;
+        try {
+            pagesScanned = crawl(crawlId, seedUrl, maxDepth, maxPages, accountId);
+        } catch (RuntimeException e) {
+            logger.warn("Crawl {} from {} failed", crawlId, seedUrl, e);
+        }
+
+        crawlRepository.finish(crawlId, pagesScanned > 0 ? CrawlStatus.DONE : CrawlStatus.FAILED, Instant.now());
+    }
+
+    private int crawl(int crawlId, String seedUrl, int maxDepth, int maxPages, int accountId) {
+        Set<String> visited = new HashSet<>();
+        visited.add(seedUrl);
+        if (!robotsService.isAllowed(seedUrl)) {
+            logger.info("Crawl {} from {} is disallowed by robots.txt", crawlId, seedUrl);
+            return 0;
+        }
+
+        List<String> frontier = new ArrayList<>();
+        frontier.add(seedUrl);
+        frontier.addAll(sitemapService.findChangedPages(seedUrl, accountId, maxPages - 1, visited));
+
+        int pagesScanned = 0;
+        int pagesRequested = 0;
+
+        for (int depth = 0; depth <= maxDepth && !frontier.isEmpty() && pagesRequested < maxPages; depth++) {
+            List<String> level = frontier.subList(0, Math.min(frontier.size(), maxPages - pagesRequested));
+            pagesRequested += level.size();
+
+            List<String> nextFrontier = new ArrayList<>();
+
+            for (BatchScanResult result : batchScanService.scanAll(level, accountId)) {
+                if (result.result() == null) {
+                    continue;
+                }
+
+                crawlRepository.addScan(crawlId, result.result().scan().id(), depth);
+                pagesScanned++;
+
+                if (depth == maxDepth) {
+                    continue;
+                }
+
+                List<String> hrefs = result.result().links().stream().map(Link::link).toList();
+                for (String link : linkService.resolveSameOriginLinks(result.url(), hrefs)) {
+                    if (visited.add(link) && robotsService.isAllowed(link)) {
+                        nextFrontier.add(link);
+                    }
+                }
+            }
+
+            frontier = nextFrontier;
+        }
+
+        return pagesScanned;
+    }
+
+}
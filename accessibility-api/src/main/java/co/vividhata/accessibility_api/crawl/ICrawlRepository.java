@@ -0,0 +1,22 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.model.Crawl;
+import co.vividhata.accessibility_api.model.CrawlStatus;
+import co.vividhata.accessibility_api.model.Scan;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ICrawlRepository {
+
+    int create(int accountId, String seedUrl, int maxDepth, int maxPages, Instant timeStarted);
+
+    Crawl get(int crawlId);
+
+    void addScan(int crawlId, int scanId, int depth);
+
+    List<Scan> getScans(int crawlId);
+
+    void finish(int crawlId, CrawlStatus status, Instant timeFinished);
+
+}
@@ -0,0 +1,18 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.model.Crawl;
+import co.vividhata.accessibility_api.model.Scan;
+
+import java.util.List;
+
+public interface ICrawlService {
+
+    Crawl startCrawl(String seedUrl, Integer maxDepth, Integer maxPages, int accountId);
+
+    Crawl getCrawl(int crawlId);
+
+    List<Scan> getScans(int crawlId);
+
+    int getOwner(int crawlId);
+
+}
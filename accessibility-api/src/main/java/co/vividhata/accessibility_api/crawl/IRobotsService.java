@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.crawl;
+
+public interface IRobotsService {
+
+    RobotsRules getRules(String url);
+
+    boolean isAllowed(String url);
+
+}
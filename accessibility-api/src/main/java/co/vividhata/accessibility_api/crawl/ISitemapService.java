@@ -0,0 +1,10 @@
+package co.vividhata.accessibility_api.crawl;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ISitemapService {
+
+    List<String> findChangedPages(String seedUrl, int accountId, int maxPages, Set<String> visited);
+
+}
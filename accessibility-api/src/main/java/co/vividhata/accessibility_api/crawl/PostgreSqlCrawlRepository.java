@@ -0,0 +1,78 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.model.Crawl;
+import co.vividhata.accessibility_api.model.CrawlStatus;
+import co.vividhata.accessibility_api.model.Scan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class PostgreSqlCrawlRepository implements ICrawlRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int create(int accountId, String seedUrl, int maxDepth, int maxPages, Instant timeStarted) {
+        String sql = "INSERT INTO ac.crawl(account_id, seed_url, max_depth, max_pages, status, time_started) VALUES (?, ?, ?, ?, ?, ?);";
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(con -> {
+
+            PreparedStatement ps = con.prepareStatement(sql, new String[]{"id"});
+            ps.setInt(1, accountId);
+            ps.setString(2, seedUrl);
+            ps.setInt(3, maxDepth);
+            ps.setInt(4, maxPages);
+            ps.setString(5, CrawlStatus.RUNNING.name());
+            ps.setTimestamp(6, Timestamp.from(timeStarted));
+            return ps;
+
+        }, keyHolder);
+
+        Number id = keyHolder.getKey();
+        if (id == null) {
+            return -1;
+        }
+        return id.intValue();
+    }
+
+    @Override
+    public Crawl get(int crawlId) {
+        String sql = "SELECT * FROM ac.crawl WHERE id = ?;";
+
+        List<Crawl> crawls = jdbcTemplate.query(sql, Crawl::fromRow, crawlId);
+        return crawls.isEmpty() ? null : crawls.getFirst();
+    }
+
+    @Override
+    public void addScan(int crawlId, int scanId, int depth) {
+        String sql = "INSERT INTO ac.crawl_scan(crawl_id, scan_id, depth) VALUES (?, ?, ?);";
+
+        jdbcTemplate.update(sql, crawlId, scanId, depth);
+    }
+
+    @Override
+    public List<Scan> getScans(int crawlId) {
+        String sql = "SELECT sc.* FROM ac.scan sc INNER JOIN ac.crawl_scan cs ON sc.id = cs.scan_id WHERE cs.crawl_id = ? ORDER BY cs.depth, sc.id;";
+
+        return jdbcTemplate.query(sql, Scan::fromRow, crawlId);
+    }
+
+    @Override
+    public void finish(int crawlId, CrawlStatus status, Instant timeFinished) {
+        String sql = "UPDATE ac.crawl SET status = ?, time_finished = ? WHERE id = ?;";
+
+        jdbcTemplate.update(sql, status.name(), Timestamp.from(timeFinished), crawlId);
+    }
+
+}
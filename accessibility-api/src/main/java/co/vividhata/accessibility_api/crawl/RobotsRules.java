@@ -0,0 +1,117 @@
+package co.vividhata.accessibility_api.crawl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public record RobotsRules(List<Rule> rules, List<String> sitemaps) {
+
+    public static final RobotsRules ALLOW_ALL = new RobotsRules(List.of(), List.of());
+
+    public static RobotsRules parse(String robotsTxt, String userAgent) {
+        String agent = userAgent.toLowerCase(Locale.ROOT);
+
+        List<Rule> agentRules = new ArrayList<>();
+        List<Rule> wildcardRules = new ArrayList<>();
+        List<String> sitemaps = new ArrayList<>();
+        boolean agentGroupFound = false;
+
+        List<String> groupAgents = new ArrayList<>();
+        boolean inRules = false;
+
+        for (String rawLine : robotsTxt.split("\\r\\n|\\r|\\n")) {
+            int comment = rawLine.indexOf('#');
+            String line = (comment == -1 ? rawLine : rawLine.substring(0, comment)).trim();
+            int colon = line.indexOf(':');
+            if (colon == -1) {
+                continue;
+            }
+
+            String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+
+            switch (field) {
+                case "user-agent" -> {
+                    if (inRules) {
+                        groupAgents.clear();
+                        inRules = false;
+                    }
+                    groupAgents.add(value.toLowerCase(Locale.ROOT));
+                }
+                case "allow", "disallow" -> {
+                    inRules = true;
+                    if (value.isEmpty()) {
+                        continue;
+                    }
+                    Rule rule = new Rule(value, field.equals("allow"));
+                    for (String groupAgent : groupAgents) {
+                        if (groupAgent.equals("*")) {
+                            wildcardRules.add(rule);
+                        } else if (!groupAgent.isEmpty() && agent.contains(groupAgent)) {
+                            agentRules.add(rule);
+                            agentGroupFound = true;
+                        }
+                    }
+                }
+                case "sitemap" -> {
+                    if (!value.isEmpty()) {
+                        sitemaps.add(value);
+                    }
+                }
+                default -> inRules = inRules || !groupAgents.isEmpty();
+            }
+        }
+
+        return new RobotsRules(List.copyOf(agentGroupFound ? agentRules : wildcardRules), List.copyOf(sitemaps));
+    }
+
+    public boolean isAllowed(String path) {
+        Rule bestRule = null;
+        for (Rule rule : rules) {
+            if (rule.matches(path) && (bestRule == null
+                    || rule.pattern().length() > bestRule.pattern().length()
+                    || rule.pattern().length() == bestRule.pattern().length() && rule.allow())) {
+                bestRule = rule;
+            }
+        }
+        return bestRule == null || bestRule.allow();
+    }
+
+    public record Rule(String pattern, boolean allow) {
+
+        public boolean matches(String path) {
+            boolean anchored = pattern.endsWith("$");
+            String body = anchored ? pattern.substring(0, pattern.length() - 1) : pattern;
+            return matches(path, 0, body, 0, anchored);
+        }
+
+        private static boolean matches(String path, int pathIndex, String pattern, int patternIndex, boolean anchored) {
+            while (patternIndex < pattern.length()) {
+                char c = pattern.charAt(patternIndex);
+                if (c == '*') {
+                    int next = patternIndex + 1;
+                    while (next < pattern.length() && pattern.charAt(next) == '*') {
+                        next++;
+                    }
+                    if (next == pattern.length() && !anchored) {
+                        return true;
+                    }
+                    for (int i = pathIndex; i <= path.length(); i++) {
+                        if (matches(path, i, pattern, next, anchored)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+                if (pathIndex >= path.length() || path.charAt(pathIndex) != c) {
+                    return false;
+                }
+                pathIndex++;
+                patternIndex++;
+            }
+            return !anchored || pathIndex == path.length();
+        }
+
+    }
+
+}
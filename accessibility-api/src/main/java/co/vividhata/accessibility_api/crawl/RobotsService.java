@@ -0,0 +1,104 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class RobotsService implements IRobotsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RobotsService.class);
+
+    @Autowired
+    private IHtmlFetcher htmlFetcher;
+
+    private final String userAgent;
+    private final Duration cacheDuration;
+    private final Map<String, CachedRules> cache;
+
+    public RobotsService(
+            @Value("${crawl.robots.user-agent:accessibility-api}") String userAgent,
+            @Value("${crawl.robots.cache-seconds:3600}") long cacheSeconds,
+            @Value("${crawl.robots.cache-max-hosts:10000}") int maximumHosts
+    ) {
+        this.userAgent = userAgent;
+        this.cacheDuration = Duration.ofSeconds(cacheSeconds);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRules> eldest) {
+                return size() > maximumHosts;
+            }
+        };
+    }
+
+    @Override
+    public RobotsRules getRules(String url) {
+        String origin = originOf(url);
+        if (origin == null) {
+            return RobotsRules.ALLOW_ALL;
+        }
+
+        synchronized (cache) {
+            CachedRules cached = cache.get(origin);
+            if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+                return cached.rules();
+            }
+        }
+
+        RobotsRules rules = fetchRules(origin);
+        synchronized (cache) {
+            cache.put(origin, new CachedRules(rules, Instant.now().plus(cacheDuration)));
+        }
+        return rules;
+    }
+
+    @Override
+    public boolean isAllowed(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException _) {
+            return false;
+        }
+
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return getRules(url).isAllowed(path + query);
+    }
+
+    private RobotsRules fetchRules(String origin) {
+        try {
+            return RobotsRules.parse(htmlFetcher.fetchFrom(origin + "/robots.txt"), userAgent);
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            logger.debug("Could not fetch robots.txt for {}: {}", origin, e.getMessage());
+            return RobotsRules.ALLOW_ALL;
+        }
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = new URI(url);
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return null;
+            }
+            return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getRawAuthority().toLowerCase(Locale.ROOT);
+        } catch (URISyntaxException _) {
+            return null;
+        }
+    }
+
+    private record CachedRules(RobotsRules rules, Instant expiresAt) {}
+
+}
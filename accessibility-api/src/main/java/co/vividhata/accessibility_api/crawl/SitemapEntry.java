@@ -0,0 +1,5 @@
+package co.vividhata.accessibility_api.crawl;
+
+import java.time.Instant;
+
+public record SitemapEntry(String location, Instant lastModified, boolean isSitemap) { }
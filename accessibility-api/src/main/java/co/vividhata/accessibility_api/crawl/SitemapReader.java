@@ -0,0 +1,120 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.util.BoundedInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+public final class SitemapReader {
+
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private SitemapReader() {}
+
+    public static void read(InputStream inputStream, long maximumBytes, Predicate<SitemapEntry> onEntry) throws IOException {
+        InputStream body = new BoundedInputStream(decompressIfGzipped(inputStream), maximumBytes);
+
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(body);
+
+            String location = null;
+            String lastModified = null;
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        text.setLength(0);
+                        if (isSitemapElement(reader) && isEntry(reader.getLocalName())) {
+                            location = null;
+                            lastModified = null;
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text.append(reader.getText());
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (!isSitemapElement(reader)) {
+                            text.setLength(0);
+                        } else if (name.equals("loc")) {
+                            location = text.toString().trim();
+                        } else if (name.equals("lastmod")) {
+                            lastModified = text.toString().trim();
+                        } else if (isEntry(name) && location != null && !location.isEmpty()) {
+                            SitemapEntry entry = new SitemapEntry(location, parseLastModified(lastModified), name.equals("sitemap"));
+                            if (!onEntry.test(entry)) {
+                                return;
+                            }
+                        }
+                        text.setLength(0);
+                    }
+                    default -> { }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not read sitemap", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException _) { }
+            }
+        }
+    }
+
+    static Instant parseLastModified(String lastModified) {
+        if (lastModified == null || lastModified.isEmpty()) {
+            return null;
+        }
+
+        try {
+            if (lastModified.length() == 10) {
+                return LocalDate.parse(lastModified).atStartOfDay(ZoneOffset.UTC).toInstant();
+            }
+            return OffsetDateTime.parse(lastModified).toInstant();
+        } catch (DateTimeParseException _) {
+            return null;
+        }
+    }
+
+    private static boolean isSitemapElement(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return namespace == null || namespace.isEmpty() || namespace.equals(SITEMAP_NAMESPACE);
+    }
+
+    private static boolean isEntry(String name) {
+        return name.equals("url") || name.equals("sitemap");
+    }
+
+    private static InputStream decompressIfGzipped(InputStream inputStream) throws IOException {
+        InputStream buffered = new BufferedInputStream(inputStream);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+
+        return first == 0x1f && second == 0x8b ? new GZIPInputStream(buffered) : buffered;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+}
@@ -0,0 +1,132 @@
+package co.vividhata.accessibility_api.crawl;
+
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.scan.IScanRepository;
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class SitemapService implements ISitemapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SitemapService.class);
+
+    private static final int MAX_ENTRIES_PER_FILE = 50_000;
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    @Autowired
+    private IRobotsService robotsService;
+    @Autowired
+    private ILinkService linkService;
+    @Autowired
+    private IScanRepository scanRepository;
+    @Autowired
+    private IHtmlFetcher htmlFetcher;
+
+    private final boolean enabled;
+    private final int maximumFiles;
+    private final long maximumBytes;
+
+    public SitemapService(
+            @Value("${crawl.sitemap.enabled:true}") boolean enabled,
+            @Value("${crawl.sitemap.max-files:50}") int maximumFiles,
+            @Value("${crawl.sitemap.max-bytes:52428800}") long maximumBytes
+    ) {
+        this.enabled = enabled;
+        this.maximumFiles = maximumFiles;
+        this.maximumBytes = maximumBytes;
+    }
+
+    @Override
+    public List<String> findChangedPages(String seedUrl, int accountId, int maxPages, Set<String> visited) {
+        List<String> pages = new ArrayList<>();
+        if (!enabled || maxPages <= 0) {
+            return pages;
+        }
+
+        Deque<String> sitemaps = new ArrayDeque<>(robotsService.getRules(seedUrl).sitemaps());
+        if (sitemaps.isEmpty()) {
+            sitemaps.add(URI.create(seedUrl).resolve("/sitemap.xml").toString());
+        }
+        Set<String> seenSitemaps = new HashSet<>(sitemaps);
+
+        List<SitemapEntry> pending = new ArrayList<>();
+        int files = 0;
+
+        while (!sitemaps.isEmpty() && files < maximumFiles && pages.size() < maxPages) {
+            String sitemapUrl = sitemaps.poll();
+            files++;
+
+            int[] entries = {0};
+            try (InputStream body = htmlFetcher.fetchStreamFrom(sitemapUrl, maximumBytes)) {
+                SitemapReader.read(body, maximumBytes, entry -> {
+                    if (entry.isSitemap()) {
+                        if (seenSitemaps.size() < maximumFiles && seenSitemaps.add(entry.location())) {
+                            sitemaps.add(entry.location());
+                        }
+                    } else {
+                        addPending(seedUrl, entry, visited, pending);
+                        if (pending.size() >= LOOKUP_BATCH_SIZE) {
+                            addChangedPages(accountId, pending, maxPages, visited, pages);
+                        }
+                    }
+                    return ++entries[0] < MAX_ENTRIES_PER_FILE && pages.size() < maxPages;
+                });
+            } catch (URISyntaxException | IOException | RuntimeException e) {
+                logger.debug("Could not read sitemap {}: {}", sitemapUrl, e.getMessage());
+            }
+
+            addChangedPages(accountId, pending, maxPages, visited, pages);
+        }
+
+        return pages;
+    }
+
+    private void addPending(String seedUrl, SitemapEntry entry, Set<String> visited, List<SitemapEntry> pending) {
+        List<String> links = linkService.resolveSameOriginLinks(seedUrl, List.of(entry.location()));
+        if (links.isEmpty() || visited.contains(links.getFirst()) || !robotsService.isAllowed(links.getFirst())) {
+            return;
+        }
+        pending.add(new SitemapEntry(links.getFirst(), entry.lastModified(), false));
+    }
+
+    private void addChangedPages(int accountId, List<SitemapEntry> pending, int maxPages, Set<String> visited, List<String> pages) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, Instant> timesScanned = scanRepository.getLatestCompleteTimesScanned(
+                accountId, pending.stream().map(SitemapEntry::location).toList());
+
+        for (SitemapEntry entry : pending) {
+            if (pages.size() >= maxPages) {
+                break;
+            }
+
+            Instant timeScanned = timesScanned.get(entry.location());
+            boolean unchanged = entry.lastModified() != null && timeScanned != null && !entry.lastModified().isAfter(timeScanned);
+            if (!unchanged && visited.add(entry.location())) {
+                pages.add(entry.location());
+            }
+        }
+
+        pending.clear();
+    }
+
+}
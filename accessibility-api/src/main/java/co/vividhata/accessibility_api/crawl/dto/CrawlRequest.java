@@ -0,0 +1,3 @@
+package co.vividhata.accessibility_api.crawl.dto;
+
+public record CrawlRequest(String url, Integer maxDepth, Integer maxPages) { }
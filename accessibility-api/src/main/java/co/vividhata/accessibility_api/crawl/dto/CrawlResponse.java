@@ -0,0 +1,8 @@
+package co.vividhata.accessibility_api.crawl.dto;
+
+import co.vividhata.accessibility_api.model.Crawl;
+import co.vividhata.accessibility_api.model.Scan;
+
+import java.util.List;
+
+public record CrawlResponse(Crawl crawl, List<Scan> scans) { }
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.crawl.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+
+public class CrawlDoesNotExistException extends BadRequestException {
+    public CrawlDoesNotExistException() {
+        super("No crawl exists with that ID");
+    }
+}
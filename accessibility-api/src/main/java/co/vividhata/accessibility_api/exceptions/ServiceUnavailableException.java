@@ -0,0 +1,7 @@
+package co.vividhata.accessibility_api.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,21 @@
 package co.vividhata.accessibility_api.issue;
 
 import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.IssueLocation;
 import co.vividhata.accessibility_api.model.IssueType;
 
 import java.util.List;
 
 public interface IIssueRepository {
 
-    int create(int scanId, IssueType issueType, String htmlSnippet);
+    int create(int scanId, IssueType issueType, String htmlSnippet, IssueLocation location, Long elementFingerprint);
+
+    void createAll(List<Issue> issues);
+
+    void copyAll(int fromScanId, int toScanId);
 
     List<Issue> getAll(int scanId);
 
+    List<Issue> getAllWithElementFingerprint(int scanId);
+
 }
@@ -1,6 +1,7 @@
 package co.vividhata.accessibility_api.issue;
 
 import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Scan;
 
 import java.util.List;
 
@@ -8,4 +9,6 @@ public interface IIssueService {
 
     List<Issue> getIssues(int scanId);
 
+    List<Issue> getIssues(Scan scan);
+
 }
@@ -1,9 +1,13 @@
 package co.vividhata.accessibility_api.issue;
 
 import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.scan.IScanRepository;
+import co.vividhata.accessibility_api.util.INodeParser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -11,9 +15,35 @@ public class IssueService implements IIssueService {
 
     @Autowired
     private IIssueRepository issueRepository;
+    @Autowired
+    private IScanRepository scanRepository;
+    @Autowired
+    private INodeParser nodeParser;
 
     @Override
     public List<Issue> getIssues(int scanId) {
-        return issueRepository.getAll(scanId);
+        List<Issue> issues = issueRepository.getAll(scanId);
+        if (issues.stream().allMatch(issue -> issue.location() == null)) {
+            return issues;
+        }
+
+        Scan scan = scanRepository.get(scanId);
+        return withSnippets(issues, scan == null ? null : scan.htmlContent());
+    }
+
+    @Override
+    public List<Issue> getIssues(Scan scan) {
+        return withSnippets(issueRepository.getAll(scan.id()), scan.htmlContent());
+    }
+
+    private List<Issue> withSnippets(List<Issue> issues, String html) {
+        List<Issue> rendered = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            if (issue.htmlSnippet() == null && issue.location() != null) {
+                issue = issue.withHtmlSnippet(nodeParser.locationToHtml(html, issue.location()));
+            }
+            rendered.add(issue);
+        }
+        return rendered;
     }
 }
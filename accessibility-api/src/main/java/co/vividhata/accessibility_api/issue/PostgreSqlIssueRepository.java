@@ -1,6 +1,7 @@
 package co.vividhata.accessibility_api.issue;
 
 import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.IssueLocation;
 import co.vividhata.accessibility_api.model.IssueType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -9,6 +10,8 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 
 @Repository
@@ -18,8 +21,8 @@ public class PostgreSqlIssueRepository implements IIssueRepository {
     private JdbcTemplate jdbcTemplate;
 
     @Override
-    public int create(int scanId, IssueType issueType, String htmlSnippet) {
-        String sql = "INSERT INTO ac.issue(scan_id, issue_type, html_snippet) VALUES (?, ?, ?);";
+    public int create(int scanId, IssueType issueType, String htmlSnippet, IssueLocation location, Long elementFingerprint) {
+        String sql = "INSERT INTO ac.issue(scan_id, issue_type, html_snippet, source_start, source_end, css_path, element_fingerprint) VALUES (?, ?, ?, ?, ?, ?, ?);";
 
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
@@ -30,6 +33,8 @@ public class PostgreSqlIssueRepository implements IIssueRepository {
             ps.setInt(1, scanId);
             ps.setString(2, issueType.name());
             ps.setString(3, htmlSnippet);
+            setLocation(ps, 4, location);
+            ps.setObject(7, elementFingerprint, Types.BIGINT);
 
             return ps;
 
@@ -42,9 +47,48 @@ public class PostgreSqlIssueRepository implements IIssueRepository {
         return id.intValue();
     }
 
+    @Override
+    public void createAll(List<Issue> issues) {
+        String sql = "INSERT INTO ac.issue(scan_id, issue_type, html_snippet, source_start, source_end, css_path, element_fingerprint) VALUES (?, ?, ?, ?, ?, ?, ?);";
+
+        jdbcTemplate.batchUpdate(sql, issues, issues.size(), (ps, issue) -> {
+            ps.setInt(1, issue.scanId());
+            ps.setString(2, issue.issueType().name());
+            ps.setString(3, issue.htmlSnippet());
+            setLocation(ps, 4, issue.location());
+            ps.setObject(7, issue.elementFingerprint(), Types.BIGINT);
+        });
+    }
+
+    @Override
+    public void copyAll(int fromScanId, int toScanId) {
+        String sql = "INSERT INTO ac.issue(scan_id, issue_type, html_snippet, source_start, source_end, css_path, element_fingerprint) SELECT ?, issue_type, html_snippet, source_start, source_end, css_path, element_fingerprint FROM ac.issue WHERE scan_id = ? ORDER BY id;";
+
+        jdbcTemplate.update(sql, toScanId, fromScanId);
+    }
+
     public List<Issue> getAll(int scanId) {
         String sql = "SELECT * FROM ac.issue WHERE scan_id = ?";
 
         return jdbcTemplate.query(sql, Issue::fromRow, scanId);
     }
+
+    @Override
+    public List<Issue> getAllWithElementFingerprint(int scanId) {
+        String sql = "SELECT * FROM ac.issue WHERE scan_id = ? AND element_fingerprint IS NOT NULL ORDER BY id;";
+
+        return jdbcTemplate.query(sql, Issue::fromRow, scanId);
+    }
+
+    private static void setLocation(PreparedStatement ps, int index, IssueLocation location) throws SQLException {
+        if (location == null) {
+            ps.setNull(index, Types.INTEGER);
+            ps.setNull(index + 1, Types.INTEGER);
+            ps.setNull(index + 2, Types.VARCHAR);
+            return;
+        }
+        ps.setInt(index, location.sourceStart());
+        ps.setInt(index + 1, location.sourceEnd());
+        ps.setString(index + 2, location.cssPath());
+    }
 }
@@ -8,6 +8,10 @@ public interface ILinkRepository {
 
     int create(int scanId, String link);
 
+    void createAll(int scanId, List<String> links);
+
+    void copyAll(int fromScanId, int toScanId);
+
     List<Link> getAll(int scanId);
 
 }
@@ -1,7 +1,8 @@
 package co.vividhata.accessibility_api.link;
 
 import co.vividhata.accessibility_api.model.Link;
-import org.w3c.dom.Document;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 
 import java.util.List;
 
@@ -9,6 +10,16 @@ public interface ILinkService {
 
     List<Link> getLinks(int scanId);
 
-    void findLinksAndSaveToScan(Document document, int scanId);
+    List<String> findLinks(Document document);
+
+    String findLink(Element element);
+
+    void saveLinksToScan(List<String> links, int scanId);
+
+    void copyLinksToScan(int fromScanId, int toScanId);
+
+    List<String> resolveSameOriginLinks(String pageUrl, List<String> hrefs);
+
+    String normaliseUrl(String url);
 
 }
@@ -1,15 +1,18 @@
 package co.vividhata.accessibility_api.link;
 
 import co.vividhata.accessibility_api.model.Link;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
 public class LinkService implements ILinkService {
@@ -23,32 +26,121 @@ public class LinkService implements ILinkService {
     }
 
     @Override
-    public void findLinksAndSaveToScan(Document document, int scanId) {
-        List<String> links = findLinks(document);
+    public void saveLinksToScan(List<String> links, int scanId) {
+        linkRepository.createAll(scanId, links);
+    }
 
-        for (String link : links) {
-            linkRepository.create(scanId, link);
-        }
+    @Override
+    public void copyLinksToScan(int fromScanId, int toScanId) {
+        linkRepository.copyAll(fromScanId, toScanId);
     }
 
+    @Override
     public List<String> findLinks(Document document) {
         List<String> links = new ArrayList<>();
 
-        NodeList anchorNodeList = document.getElementsByTagName("a");
+        for (Element anchor : document.getElementsByTag("a")) {
+            String href = findLink(anchor);
+            if (href != null) {
+                links.add(href);
+            }
+        }
 
-        for (int i = 0; i < anchorNodeList.getLength(); i++) {
-            Node anchorNode = anchorNodeList.item(i);
-            NamedNodeMap anchorAttributes = anchorNode.getAttributes();
-            Node hrefAttribute = anchorAttributes.getNamedItem("href");
+        return links;
+    }
+
+    @Override
+    public String findLink(Element element) {
+        if (!element.nameIs("a")) {
+            return null;
+        }
 
-            if (hrefAttribute != null) {
-                String hrefTextContent = hrefAttribute.getTextContent();
-                if (!hrefTextContent.isEmpty()) {
-                    links.add(hrefTextContent);
-                }
+        String href = element.attr("href");
+        return href.isEmpty() ? null : href;
+    }
+
+    @Override
+    public List<String> resolveSameOriginLinks(String pageUrl, List<String> hrefs) {
+        String normalisedPageUrl = normaliseUrl(pageUrl);
+        if (normalisedPageUrl == null) {
+            return List.of();
+        }
+
+        URI pageUri = URI.create(normalisedPageUrl);
+
+        Set<String> links = new LinkedHashSet<>();
+
+        for (String href : hrefs) {
+            URI linkUri;
+            try {
+                linkUri = pageUri.resolve(href.trim());
+            } catch (IllegalArgumentException _) {
+                continue;
+            }
+
+            String link = normaliseUrl(linkUri.toString());
+            if (link != null && isSameOrigin(pageUri, URI.create(link))) {
+                links.add(link);
             }
         }
 
-        return links;
+        return new ArrayList<>(links);
+    }
+
+    @Override
+    public String normaliseUrl(String url) {
+        URI uri = toHttpUri(url);
+        if (uri == null) {
+            return null;
+        }
+
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        try {
+            URI normalised = new URI(
+                    uri.getScheme().toLowerCase(Locale.ROOT),
+                    uri.getRawAuthority().toLowerCase(Locale.ROOT),
+                    null, null, null
+            );
+            String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+            return normalised + path + query;
+        } catch (URISyntaxException _) {
+            return null;
+        }
+    }
+
+    private URI toHttpUri(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException _) {
+            return null;
+        }
+
+        String scheme = uri.getScheme();
+        if (scheme == null || uri.getHost() == null || uri.getRawAuthority() == null) {
+            return null;
+        }
+        if (!scheme.equalsIgnoreCase("http") && !scheme.equalsIgnoreCase("https")) {
+            return null;
+        }
+
+        return uri;
+    }
+
+    private boolean isSameOrigin(URI a, URI b) {
+        return a.getScheme().equalsIgnoreCase(b.getScheme())
+                && a.getHost().equalsIgnoreCase(b.getHost())
+                && portOf(a) == portOf(b);
+    }
+
+    private int portOf(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return uri.getScheme().equalsIgnoreCase("https") ? 443 : 80;
     }
 }
@@ -40,6 +40,23 @@ public class PostgreSqlLinkRepository implements ILinkRepository {
         return id.intValue();
     }
 
+    @Override
+    public void createAll(int scanId, List<String> links) {
+        String sql = "INSERT INTO ac.link(scan_id, link) VALUES (?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, links, links.size(), (ps, link) -> {
+            ps.setInt(1, scanId);
+            ps.setString(2, link);
+        });
+    }
+
+    @Override
+    public void copyAll(int fromScanId, int toScanId) {
+        String sql = "INSERT INTO ac.link(scan_id, link) SELECT ?, link FROM ac.link WHERE scan_id = ? ORDER BY id";
+
+        jdbcTemplate.update(sql, toScanId, fromScanId);
+    }
+
     @Override
     public List<Link> getAll(int scanId) {
         String sql = "SELECT * FROM ac.link WHERE scan_id = ?";
@@ -0,0 +1,24 @@
+package co.vividhata.accessibility_api.model;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+public record Crawl(int id, int accountId, String seedUrl, int maxDepth, int maxPages, CrawlStatus status, Instant timeStarted, Instant timeFinished) {
+
+    public static Crawl fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        Timestamp timeFinished = rs.getTimestamp("time_finished");
+        return new Crawl(
+                rs.getInt("id"),
+                rs.getInt("account_id"),
+                rs.getString("seed_url"),
+                rs.getInt("max_depth"),
+                rs.getInt("max_pages"),
+                CrawlStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("time_started").toInstant(),
+                timeFinished == null ? null : timeFinished.toInstant()
+        );
+    }
+
+}
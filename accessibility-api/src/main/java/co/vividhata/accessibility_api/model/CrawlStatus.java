@@ -0,0 +1,7 @@
+package co.vividhata.accessibility_api.model;
+
+public enum CrawlStatus {
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,17 @@
+package co.vividhata.accessibility_api.model;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
+public record DueScan(WebPage webPage, ScanFrequency frequency, Instant dueAt) {
+
+    public static DueScan fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        return new DueScan(
+                WebPage.fromRow(rs),
+                ScanFrequency.valueOf(rs.getString("frequency")),
+                rs.getTimestamp("due_at").toInstant()
+        );
+    }
+
+}
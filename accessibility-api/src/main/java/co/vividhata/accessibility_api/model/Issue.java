@@ -1,24 +1,50 @@
 package co.vividhata.accessibility_api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public record Issue(int id, int scanId, IssueType issueType, String htmlSnippet) {
+public record Issue(int id, int scanId, IssueType issueType, String htmlSnippet, IssueLocation location, @JsonIgnore Long elementFingerprint) {
+
+    public Issue(int id, int scanId, IssueType issueType, String htmlSnippet) {
+        this(id, scanId, issueType, htmlSnippet, null, null);
+    }
+
+    public Issue(int id, int scanId, IssueType issueType, IssueLocation location) {
+        this(id, scanId, issueType, null, location, null);
+    }
 
     public Issue withId(int id) {
-        return new Issue(id, scanId, issueType, htmlSnippet);
+        return new Issue(id, scanId, issueType, htmlSnippet, location, elementFingerprint);
     }
 
     public Issue withScanId(int scanId) {
-        return new Issue(id, scanId, issueType, htmlSnippet);
+        return new Issue(id, scanId, issueType, htmlSnippet, location, elementFingerprint);
+    }
+
+    public Issue withHtmlSnippet(String htmlSnippet) {
+        return new Issue(id, scanId, issueType, htmlSnippet, location, elementFingerprint);
+    }
+
+    public Issue withLocation(IssueLocation location) {
+        return new Issue(id, scanId, issueType, htmlSnippet, location, elementFingerprint);
+    }
+
+    public Issue withElementFingerprint(Long elementFingerprint) {
+        return new Issue(id, scanId, issueType, htmlSnippet, location, elementFingerprint);
     }
 
     public static Issue fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        Integer sourceStart = rs.getObject("source_start", Integer.class);
+
         return new Issue(
                 rs.getInt("id"),
                 rs.getInt("scan_id"),
                 IssueType.valueOf(rs.getString("issue_type")),
-                rs.getString("html_snippet")
+                rs.getString("html_snippet"),
+                sourceStart == null ? null : new IssueLocation(sourceStart, rs.getInt("source_end"), rs.getString("css_path")),
+                rs.getObject("element_fingerprint", Long.class)
         );
     }
 
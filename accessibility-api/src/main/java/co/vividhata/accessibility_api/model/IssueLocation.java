@@ -0,0 +1,3 @@
+package co.vividhata.accessibility_api.model;
+
+public record IssueLocation(int sourceStart, int sourceEnd, String cssPath) { }
@@ -1,18 +1,25 @@
 package co.vividhata.accessibility_api.model;
 
+import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
 
-public record Scan(int id, int webPageId, Instant timeScanned, String htmlContent) {
+public record Scan(int id, int webPageId, Instant timeScanned, String htmlContent, String contentHash, List<String> incompleteCheckers, List<String> skippedCheckers) {
 
     public static Scan fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        Array incompleteCheckers = rs.getArray("incomplete_checkers");
+        Array skippedCheckers = rs.getArray("skipped_checkers");
+
         return new Scan(
                 rs.getInt("id"),
                 rs.getInt("web_page_id"),
                 rs.getTimestamp("time_scanned").toInstant(),
-                rs.getString("html_content")
+                rs.getString("html_content"),
+                rs.getString("content_hash"),
+                incompleteCheckers == null ? List.of() : List.of((String[]) incompleteCheckers.getArray()),
+                skippedCheckers == null ? List.of() : List.of((String[]) skippedCheckers.getArray())
         );
     }
 
@@ -0,0 +1,18 @@
+package co.vividhata.accessibility_api.model;
+
+import java.time.Duration;
+
+public enum ScanFrequency {
+    DAILY(Duration.ofDays(1)),
+    WEEKLY(Duration.ofDays(7));
+
+    private final Duration interval;
+
+    ScanFrequency(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration interval() {
+        return interval;
+    }
+}
@@ -0,0 +1,25 @@
+package co.vividhata.accessibility_api.model;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
+public record ScanJob(int id, int accountId, String url, ScanPriority priority, ScanJobStatus status, int scanId, String errorMessage, int attempts, Instant timeSubmitted, Instant timeUpdated) {
+
+    public static ScanJob fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        Integer scanId = rs.getObject("scan_id", Integer.class);
+        return new ScanJob(
+                rs.getInt("id"),
+                rs.getInt("account_id"),
+                rs.getString("url"),
+                ScanPriority.fromLane(rs.getInt("priority")),
+                ScanJobStatus.valueOf(rs.getString("status")),
+                scanId == null ? -1 : scanId,
+                rs.getString("error_message"),
+                rs.getInt("attempts"),
+                rs.getTimestamp("time_submitted").toInstant(),
+                rs.getTimestamp("time_updated").toInstant()
+        );
+    }
+
+}
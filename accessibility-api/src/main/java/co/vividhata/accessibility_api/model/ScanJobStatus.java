@@ -0,0 +1,14 @@
+package co.vividhata.accessibility_api.model;
+
+public enum ScanJobStatus {
+    QUEUED,
+    FETCHING,
+    CHECKING,
+    PERSISTING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
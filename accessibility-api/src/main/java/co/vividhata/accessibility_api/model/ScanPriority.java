@@ -0,0 +1,26 @@
+package co.vividhata.accessibility_api.model;
+
+public enum ScanPriority {
+    INTERACTIVE(0),
+    BATCH(1),
+    SCHEDULED(2);
+
+    private final int lane;
+
+    ScanPriority(int lane) {
+        this.lane = lane;
+    }
+
+    public int lane() {
+        return lane;
+    }
+
+    public static ScanPriority fromLane(int lane) {
+        for (ScanPriority priority : values()) {
+            if (priority.lane == lane) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scan priority lane " + lane);
+    }
+}
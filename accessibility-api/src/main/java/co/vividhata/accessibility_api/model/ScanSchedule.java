@@ -0,0 +1,20 @@
+package co.vividhata.accessibility_api.model;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+public record ScanSchedule(int webPageId, ScanFrequency frequency, Instant nextRun, Instant lastRun) {
+
+    public static ScanSchedule fromRow(ResultSet rs, int ignoredRowNum) throws SQLException {
+        Timestamp lastRun = rs.getTimestamp("last_run");
+        return new ScanSchedule(
+                rs.getInt("web_page_id"),
+                ScanFrequency.valueOf(rs.getString("frequency")),
+                rs.getTimestamp("next_run").toInstant(),
+                lastRun == null ? null : lastRun.toInstant()
+        );
+    }
+
+}
@@ -0,0 +1,140 @@
+package co.vividhata.accessibility_api.scan;
+
+import co.vividhata.accessibility_api.exceptions.BadGatewayException;
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+import co.vividhata.accessibility_api.exceptions.TooManyRequestsException;
+import co.vividhata.accessibility_api.issue.IIssueService;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.dto.BatchScanResult;
+import co.vividhata.accessibility_api.scan.dto.ScanResponse;
+import co.vividhata.accessibility_api.scan.exceptions.TooManyUrlsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class BatchScanService implements IBatchScanService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchScanService.class);
+
+    @Autowired
+    private IScanService scanService;
+    @Autowired
+    private IIssueService issueService;
+    @Autowired
+    private ILinkService linkService;
+
+    private final int maximumUrls;
+    private final int accountConcurrency;
+    private final Semaphore globalPermits;
+    private final Map<Integer, AccountPermits> accountPermits = new ConcurrentHashMap<>();
+
+    public BatchScanService(
+            @Value("${scan.batch.max-urls:500}") int maximumUrls,
+            @Value("${scan.batch.global-concurrency:32}") int globalConcurrency,
+            @Value("${scan.batch.account-concurrency:8}") int accountConcurrency
+    ) {
+        this.maximumUrls = maximumUrls;
+        this.accountConcurrency = accountConcurrency;
+        this.globalPermits = new Semaphore(globalConcurrency, true);
+    }
+
+    @Override
+    public List<BatchScanResult> scanAll(List<String> urls, int accountId) {
+        if (urls.size() > maximumUrls) {
+            throw new TooManyUrlsException(maximumUrls);
+        }
+
+        Semaphore permits = retainPermits(accountId);
+
+        List<Future<BatchScanResult>> futures = new ArrayList<>(urls.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String url : urls) {
+                futures.add(executor.submit(() -> scanWithPermits(url, accountId, permits)));
+            }
+        } finally {
+            releasePermits(accountId);
+        }
+
+        List<BatchScanResult> results = new ArrayList<>(urls.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(resultOf(urls.get(i), futures.get(i)));
+        }
+        return results;
+    }
+
+    private Semaphore retainPermits(int accountId) {
+        return accountPermits.compute(accountId, (_, permits) -> {
+            AccountPermits retained = permits == null ? new AccountPermits(new Semaphore(accountConcurrency, true)) : permits;
+            retained.batches++;
+            return retained;
+        }).semaphore;
+    }
+
+    private void releasePermits(int accountId) {
+        accountPermits.computeIfPresent(accountId, (_, permits) -> --permits.batches == 0 ? null : permits);
+    }
+
+    private BatchScanResult scanWithPermits(String url, int accountId, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                return scan(url, accountId);
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private BatchScanResult scan(String url, int accountId) {
+        try {
+            Scan scan = scanService.scanFrom(url, accountId, ScanPriority.BATCH, _ -> { });
+            ScanResponse response = new ScanResponse(scan, issueService.getIssues(scan), linkService.getLinks(scan.id()));
+            return BatchScanResult.success(url, response);
+        } catch (BadRequestException | BadGatewayException | TooManyRequestsException e) {
+            return BatchScanResult.failure(url, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Batch scan of {} failed", url, e);
+            return BatchScanResult.failure(url, "Scan failed");
+        }
+    }
+
+    private BatchScanResult resultOf(String url, Future<BatchScanResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return BatchScanResult.failure(url, "Scan was interrupted");
+        } catch (ExecutionException e) {
+            logger.warn("Batch scan of {} failed", url, e.getCause());
+            return BatchScanResult.failure(url, "Scan failed");
+        }
+    }
+
+    private static class AccountPermits {
+        private final Semaphore semaphore;
+        private int batches;
+
+        private AccountPermits(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+    }
+
+}
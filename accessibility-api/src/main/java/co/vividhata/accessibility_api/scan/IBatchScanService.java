@@ -0,0 +1,11 @@
+package co.vividhata.accessibility_api.scan;
+
+import co.vividhata.accessibility_api.scan.dto.BatchScanResult;
+
+import java.util.List;
+
+public interface IBatchScanService {
+
+    List<BatchScanResult> scanAll(List<String> urls, int accountId);
+
+}
@@ -4,13 +4,30 @@ import co.vividhata.accessibility_api.model.Scan;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public interface IScanRepository {
 
-    int create(int webPageId, Instant timeScanned, String htmlContent);
+    int create(int webPageId, Instant timeScanned, String htmlContent, String contentHash, String checkerSetDigest, long[] elementFingerprints, List<String> incompleteCheckers, List<String> skippedCheckers);
+
+    Scan get(int scanId);
 
     int getOwner(int scanId);
 
+    int getLatest(int webPageId);
+
+    int getLatestWithContentHash(int webPageId, String contentHash);
+
+    long[] getElementFingerprints(int scanId);
+
+    List<String> getIncompleteCheckers(int scanId);
+
+    List<String> getSkippedCheckers(int scanId);
+
+    String getCheckerSetDigest(int scanId);
+
+    Map<String, Instant> getLatestCompleteTimesScanned(int accountId, List<String> urls);
+
     List<Scan> getAll(int webPageId);
 
 }
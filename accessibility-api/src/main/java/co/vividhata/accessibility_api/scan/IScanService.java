@@ -1,13 +1,20 @@
 package co.vividhata.accessibility_api.scan;
 
 import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IScanService {
 
     Scan scanFrom(String url, int accountId);
 
+    Scan scanFrom(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress);
+
+    Scan getScan(int scanId);
+
     int getOwner(int scanId);
 
     List<Scan> getScans(int webPageId);
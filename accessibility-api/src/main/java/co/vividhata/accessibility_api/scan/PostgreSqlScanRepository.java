@@ -1,6 +1,7 @@
 package co.vividhata.accessibility_api.scan;
 
 import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.util.ElementFingerprints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -11,7 +12,9 @@ import org.springframework.stereotype.Repository;
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class PostgreSqlScanRepository implements IScanRepository {
@@ -20,8 +23,8 @@ public class PostgreSqlScanRepository implements IScanRepository {
     private JdbcTemplate jdbcTemplate;
 
     @Override
-    public int create(int webPageId, Instant timeScanned, String htmlContent) {
-        String sql = "INSERT INTO ac.scan(web_page_id, time_scanned, html_content) VALUES (?, ?, ?);";
+    public int create(int webPageId, Instant timeScanned, String htmlContent, String contentHash, String checkerSetDigest, long[] elementFingerprints, List<String> incompleteCheckers, List<String> skippedCheckers) {
+        String sql = "INSERT INTO ac.scan(web_page_id, time_scanned, html_content, content_hash, checker_set_digest, element_fingerprints, incomplete_checkers, skipped_checkers) VALUES (?, ?, ?, ?, ?, ?, ?, ?);";
 
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
@@ -31,6 +34,11 @@ public class PostgreSqlScanRepository implements IScanRepository {
             ps.setInt(1, webPageId);
             ps.setTimestamp(2, Timestamp.from(timeScanned));
             ps.setString(3, htmlContent);
+            ps.setString(4, contentHash);
+            ps.setString(5, checkerSetDigest);
+            ps.setBytes(6, elementFingerprints == null ? null : ElementFingerprints.toBytes(elementFingerprints));
+            ps.setArray(7, con.createArrayOf("text", incompleteCheckers.toArray()));
+            ps.setArray(8, con.createArrayOf("text", skippedCheckers.toArray()));
             return ps;
 
         }, keyHolder);
@@ -42,6 +50,14 @@ public class PostgreSqlScanRepository implements IScanRepository {
         return id.intValue();
     }
 
+    @Override
+    public Scan get(int scanId) {
+        String sql = "SELECT * FROM ac.scan WHERE id = ?;";
+
+        List<Scan> scans = jdbcTemplate.query(sql, Scan::fromRow, scanId);
+        return scans.isEmpty() ? null : scans.getFirst();
+    }
+
     @Override
     public int getOwner(int scanId) {
         String sql = "SELECT wp.account_id FROM ac.web_page wp INNER JOIN ac.scan sc ON wp.id = sc.web_page_id WHERE sc.id = ?;";
@@ -58,6 +74,76 @@ public class PostgreSqlScanRepository implements IScanRepository {
         return id;
     }
 
+    @Override
+    public int getLatest(int webPageId) {
+        String sql = "SELECT id FROM ac.scan WHERE web_page_id = ? ORDER BY time_scanned DESC, id DESC LIMIT 1;";
+
+        List<Integer> ids = jdbcTemplate.queryForList(sql, Integer.class, webPageId);
+        return ids.isEmpty() ? -1 : ids.getFirst();
+    }
+
+    @Override
+    public int getLatestWithContentHash(int webPageId, String contentHash) {
+        String sql = "SELECT id FROM (SELECT id, content_hash FROM ac.scan WHERE web_page_id = ? ORDER BY time_scanned DESC, id DESC LIMIT 1) latest WHERE content_hash = ?;";
+
+        List<Integer> ids = jdbcTemplate.queryForList(sql, Integer.class, webPageId, contentHash);
+        return ids.isEmpty() ? -1 : ids.getFirst();
+    }
+
+    @Override
+    public long[] getElementFingerprints(int scanId) {
+        String sql = "SELECT element_fingerprints FROM ac.scan WHERE id = ?;";
+
+        List<byte[]> fingerprints = jdbcTemplate.queryForList(sql, byte[].class, scanId);
+        if (fingerprints.isEmpty() || fingerprints.getFirst() == null) {
+            return null;
+        }
+        return ElementFingerprints.fromBytes(fingerprints.getFirst());
+    }
+
+    @Override
+    public List<String> getIncompleteCheckers(int scanId) {
+        String sql = "SELECT unnest(incomplete_checkers) FROM ac.scan WHERE id = ?;";
+
+        return jdbcTemplate.queryForList(sql, String.class, scanId);
+    }
+
+    @Override
+    public List<String> getSkippedCheckers(int scanId) {
+        String sql = "SELECT unnest(skipped_checkers) FROM ac.scan WHERE id = ?;";
+
+        return jdbcTemplate.queryForList(sql, String.class, scanId);
+    }
+
+    @Override
+    public String getCheckerSetDigest(int scanId) {
+        String sql = "SELECT checker_set_digest FROM ac.scan WHERE id = ?;";
+
+        List<String> digests = jdbcTemplate.queryForList(sql, String.class, scanId);
+        return digests.isEmpty() ? null : digests.getFirst();
+    }
+
+    @Override
+    public Map<String, Instant> getLatestCompleteTimesScanned(int accountId, List<String> urls) {
+        String sql = "SELECT wp.url, max(sc.time_scanned) AS time_scanned FROM ac.web_page wp INNER JOIN ac.scan sc ON sc.web_page_id = wp.id " +
+                "WHERE wp.account_id = ? AND wp.url = ANY(?) AND cardinality(sc.incomplete_checkers) = 0 GROUP BY wp.url;";
+
+        Map<String, Instant> timesScanned = new HashMap<>();
+
+        jdbcTemplate.query(con -> {
+
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setInt(1, accountId);
+            ps.setArray(2, con.createArrayOf("text", urls.toArray()));
+            return ps;
+
+        }, rs -> {
+            timesScanned.put(rs.getString("url"), rs.getTimestamp("time_scanned").toInstant());
+        });
+
+        return timesScanned;
+    }
+
     @Override
     public List<Scan> getAll(int webPageId) {
         String sql = "SELECT * FROM ac.scan WHERE web_page_id = ?;";
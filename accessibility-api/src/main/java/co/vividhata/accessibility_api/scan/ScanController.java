@@ -6,6 +6,7 @@ import co.vividhata.accessibility_api.model.Account;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.Link;
 import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.scan.dto.BatchScanResult;
 import co.vividhata.accessibility_api.scan.dto.ScanResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,8 @@ public class ScanController {
     @Autowired
     private IScanService scanService;
     @Autowired
+    private IBatchScanService batchScanService;
+    @Autowired
     private IIssueService issueService;
     @Autowired
     private ILinkService linkService;
@@ -29,12 +32,17 @@ public class ScanController {
     @PostMapping("/from-url")
     public ResponseEntity<ScanResponse> readPageFromUrl(@RequestBody String url, @AuthenticationPrincipal Account account) {
         Scan scan = scanService.scanFrom(url, account.id());
-        List<Issue> issues = issueService.getIssues(scan.id());
+        List<Issue> issues = issueService.getIssues(scan);
         List<Link> links = linkService.getLinks(scan.id());
 
         return ResponseEntity.ok(new ScanResponse(scan, issues, links));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchScanResult>> scanBatch(@RequestBody List<String> urls, @AuthenticationPrincipal Account account) {
+        return ResponseEntity.ok(batchScanService.scanAll(urls, account.id()));
+    }
+
     @GetMapping("/{scanId}/issues")
     public ResponseEntity<?> getIssues(@PathVariable int scanId, @AuthenticationPrincipal Account account) {
         if (scanService.getOwner(scanId) != account.id()) {
@@ -0,0 +1,125 @@
+package co.vividhata.accessibility_api.scan.admission;
+
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.IScanService;
+import co.vividhata.accessibility_api.scan.ScanService;
+import co.vividhata.accessibility_api.scan.exceptions.ScanPipelineStoppedException;
+import co.vividhata.accessibility_api.scan.exceptions.ScanRateLimitedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Service
+@Primary
+public class AdmissionControlledScanService implements IScanService {
+
+    @Autowired
+    private ScanService scanService;
+
+    private final double tokenCapacity;
+    private final double tokensPerSecond;
+    private final Map<Integer, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+    private final FairScanScheduler fairScanScheduler;
+
+    public AdmissionControlledScanService(
+            @Value("${scan.admission.burst:500}") double tokenCapacity,
+            @Value("${scan.admission.scans-per-second:2}") double tokensPerSecond,
+            @Value("${scan.admission.global-concurrency:32}") int globalConcurrency,
+            @Value("${scan.admission.account-max-in-flight:8}") int accountConcurrency,
+            @Value("${scan.admission.account-max-queued:100}") int accountQueueCapacity,
+            @Value("${scan.admission.account-weights:}") String accountWeights,
+            @Value("${scan.priority.aging-seconds:30}") long agingSeconds
+    ) {
+        this.tokenCapacity = tokenCapacity;
+        this.tokensPerSecond = tokensPerSecond;
+
+        Map<Integer, Integer> weights = parseWeights(accountWeights);
+        this.fairScanScheduler = new FairScanScheduler(globalConcurrency, accountConcurrency, accountQueueCapacity, accountId -> weights.getOrDefault(accountId, 1), Duration.ofSeconds(agingSeconds));
+    }
+
+    @Override
+    public Scan scanFrom(String url, int accountId) {
+        return scanFrom(url, accountId, ScanPriority.INTERACTIVE, _ -> { });
+    }
+
+    @Override
+    public Scan scanFrom(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+        acquireToken(accountId);
+
+        try {
+            fairScanScheduler.acquire(accountId, priority);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new ScanPipelineStoppedException();
+        }
+
+        try {
+            return scanService.scanFrom(url, accountId, priority, onProgress);
+        } finally {
+            fairScanScheduler.release(accountId);
+        }
+    }
+
+    public void acquireToken(int accountId) {
+        long[] retryAfterSeconds = new long[1];
+        tokenBuckets.compute(accountId, (_, tokenBucket) -> {
+            TokenBucket bucket = tokenBucket == null ? new TokenBucket(tokenCapacity, tokensPerSecond) : tokenBucket;
+            retryAfterSeconds[0] = bucket.tryAcquire();
+            return bucket;
+        });
+        if (retryAfterSeconds[0] > 0) {
+            throw new ScanRateLimitedException(retryAfterSeconds[0]);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scan.admission.prune-interval-ms:60000}")
+    public void pruneTokenBuckets() {
+        for (Integer accountId : tokenBuckets.keySet()) {
+            tokenBuckets.computeIfPresent(accountId, (_, tokenBucket) -> tokenBucket.isFull() ? null : tokenBucket);
+        }
+    }
+
+    int tokenBucketCount() {
+        return tokenBuckets.size();
+    }
+
+    @Override
+    public Scan getScan(int scanId) {
+        return scanService.getScan(scanId);
+    }
+
+    @Override
+    public int getOwner(int scanId) {
+        return scanService.getOwner(scanId);
+    }
+
+    @Override
+    public List<Scan> getScans(int webPageId) {
+        return scanService.getScans(webPageId);
+    }
+
+    private static Map<Integer, Integer> parseWeights(String accountWeights) {
+        Map<Integer, Integer> weights = new HashMap<>();
+
+        for (String entry : accountWeights.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length == 2) {
+                weights.put(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+
+        return weights;
+    }
+
+}
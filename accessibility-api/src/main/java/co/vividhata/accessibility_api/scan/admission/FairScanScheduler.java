@@ -0,0 +1,149 @@
+package co.vividhata.accessibility_api.scan.admission;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.exceptions.TooManyScansQueuedException;
+import co.vividhata.accessibility_api.util.PriorityLanes;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntUnaryOperator;
+
+public class FairScanScheduler {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final int globalConcurrency;
+    private final int accountConcurrency;
+    private final int accountQueueCapacity;
+    private final IntUnaryOperator weights;
+    private final Duration aging;
+
+    private final Map<Integer, AccountQueue> accountQueues = new HashMap<>();
+    private final Deque<Integer> roundRobin = new ArrayDeque<>();
+    private int remainingTurns;
+    private int running;
+
+    public FairScanScheduler(int globalConcurrency, int accountConcurrency, int accountQueueCapacity, IntUnaryOperator weights, Duration aging) {
+        this.globalConcurrency = globalConcurrency;
+        this.accountConcurrency = accountConcurrency;
+        this.accountQueueCapacity = accountQueueCapacity;
+        this.weights = weights;
+        this.aging = aging;
+    }
+
+    public void acquire(int accountId, ScanPriority priority) throws InterruptedException {
+        CountDownLatch ticket = new CountDownLatch(1);
+
+        synchronized (this) {
+            AccountQueue accountQueue = accountQueues.computeIfAbsent(accountId, _ -> new AccountQueue(aging));
+            if (accountQueue.waiting.size() >= accountQueueCapacity) {
+                throw new TooManyScansQueuedException(RETRY_AFTER_SECONDS);
+            }
+
+            accountQueue.waiting.add(priority, ticket);
+            if (!roundRobin.contains(accountId)) {
+                roundRobin.addLast(accountId);
+            }
+            dispatch();
+        }
+
+        try {
+            ticket.await();
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                AccountQueue accountQueue = accountQueues.get(accountId);
+                if (accountQueue.waiting.remove(ticket)) {
+                    removeIfIdle(accountId, accountQueue);
+                } else {
+                    release(accountId);
+                }
+            }
+            throw e;
+        }
+    }
+
+    public synchronized void release(int accountId) {
+        AccountQueue accountQueue = accountQueues.get(accountId);
+        accountQueue.running--;
+        running--;
+
+        removeIfIdle(accountId, accountQueue);
+        dispatch();
+    }
+
+    synchronized int waiting() {
+        return accountQueues.values().stream().mapToInt(accountQueue -> accountQueue.waiting.size()).sum();
+    }
+
+    private void removeIfIdle(int accountId, AccountQueue accountQueue) {
+        if (accountQueue.running == 0 && accountQueue.waiting.isEmpty()) {
+            accountQueues.remove(accountId);
+        }
+    }
+
+    private void dispatch() {
+        while (running < globalConcurrency) {
+            Integer accountId = nextAccount();
+            if (accountId == null) {
+                return;
+            }
+
+            AccountQueue accountQueue = accountQueues.get(accountId);
+            accountQueue.running++;
+            running++;
+            accountQueue.waiting.poll().countDown();
+        }
+    }
+
+    private Integer nextAccount() {
+        long bestRank = Long.MAX_VALUE;
+        for (AccountQueue accountQueue : accountQueues.values()) {
+            if (accountQueue.running < accountConcurrency) {
+                bestRank = Math.min(bestRank, accountQueue.waiting.rank());
+            }
+        }
+
+        for (int i = 0; i < roundRobin.size(); i++) {
+            Integer accountId = roundRobin.peekFirst();
+            AccountQueue accountQueue = accountQueues.get(accountId);
+
+            if (accountQueue == null || accountQueue.waiting.isEmpty()) {
+                roundRobin.removeFirst();
+                remainingTurns = 0;
+                i--;
+                continue;
+            }
+
+            if (remainingTurns == 0) {
+                remainingTurns = Math.max(1, weights.applyAsInt(accountId));
+            }
+
+            if (accountQueue.running < accountConcurrency && accountQueue.waiting.rank() <= bestRank) {
+                remainingTurns--;
+                if (remainingTurns == 0) {
+                    roundRobin.addLast(roundRobin.removeFirst());
+                }
+                return accountId;
+            }
+
+            roundRobin.addLast(roundRobin.removeFirst());
+            remainingTurns = 0;
+        }
+
+        return null;
+    }
+
+    private static class AccountQueue {
+        private final PriorityLanes<CountDownLatch> waiting;
+        private int running;
+
+        private AccountQueue(Duration aging) {
+            this.waiting = new PriorityLanes<>(aging);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package co.vividhata.accessibility_api.scan.admission;
+
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerSecond;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public synchronized long tryAcquire() {
+        refill();
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) / refillPerSecond);
+    }
+
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1e9 * refillPerSecond);
+        lastRefillNanos = now;
+    }
+
+}
@@ -0,0 +1,13 @@
+package co.vividhata.accessibility_api.scan.dto;
+
+public record BatchScanResult(String url, ScanResponse result, String errorMessage) {
+
+    public static BatchScanResult success(String url, ScanResponse result) {
+        return new BatchScanResult(url, result, null);
+    }
+
+    public static BatchScanResult failure(String url, String errorMessage) {
+        return new BatchScanResult(url, null, errorMessage);
+    }
+
+}
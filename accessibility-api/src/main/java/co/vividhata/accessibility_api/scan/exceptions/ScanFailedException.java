@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadGatewayException;
+
+public class ScanFailedException extends BadGatewayException {
+    public ScanFailedException(String message) {
+        super(message == null ? "Scan failed" : message);
+    }
+}
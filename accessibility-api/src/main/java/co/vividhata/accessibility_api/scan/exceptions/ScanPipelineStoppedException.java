@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.ServiceUnavailableException;
+
+public class ScanPipelineStoppedException extends ServiceUnavailableException {
+    public ScanPipelineStoppedException() {
+        super("Scanning is shutting down, try again later");
+    }
+}
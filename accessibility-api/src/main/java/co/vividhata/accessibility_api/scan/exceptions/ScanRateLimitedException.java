@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.TooManyRequestsException;
+
+public class ScanRateLimitedException extends TooManyRequestsException {
+    public ScanRateLimitedException(long retryAfterSeconds) {
+        super("Too many scans started, try again in " + retryAfterSeconds + " seconds", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.ServiceUnavailableException;
+
+public class ScanTimedOutException extends ServiceUnavailableException {
+    public ScanTimedOutException() {
+        super("Scan did not finish in time, try again later");
+    }
+}
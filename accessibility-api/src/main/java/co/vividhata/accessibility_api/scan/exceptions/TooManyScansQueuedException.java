@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.TooManyRequestsException;
+
+public class TooManyScansQueuedException extends TooManyRequestsException {
+    public TooManyScansQueuedException(long retryAfterSeconds) {
+        super("Too many scans are already running or queued for this account", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+
+public class TooManyUrlsException extends BadRequestException {
+    public TooManyUrlsException(int maximumUrls) {
+        super("A batch can contain at most " + maximumUrls + " urls");
+    }
+}
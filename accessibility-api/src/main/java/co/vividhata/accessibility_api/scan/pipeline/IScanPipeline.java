@@ -0,0 +1,14 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public interface IScanPipeline {
+
+    CompletableFuture<Scan> submit(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress);
+
+}
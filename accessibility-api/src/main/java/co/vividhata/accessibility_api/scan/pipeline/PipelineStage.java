@@ -0,0 +1,164 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.util.PriorityLanes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class PipelineStage<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipelineStage.class);
+
+    private final String name;
+    private final int threads;
+    private final int capacity;
+    private final int interactiveHeadroom;
+    private final int batchSize;
+    private final PriorityLanes<T> queue;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Consumer<List<T>> handler;
+    private final ExecutorService workers;
+    private int reserved;
+    private boolean stopped;
+
+    public PipelineStage(String name, int threads, int capacity, int interactiveHeadroom, int batchSize, Duration aging, Consumer<List<T>> handler) {
+        this.name = name;
+        this.threads = threads;
+        this.capacity = capacity;
+        this.interactiveHeadroom = Math.max(0, Math.min(interactiveHeadroom, capacity - 1));
+        this.batchSize = batchSize;
+        this.queue = new PriorityLanes<>(aging);
+        this.handler = handler;
+        this.workers = Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon().name("scan-" + name + "-", 1).factory());
+    }
+
+    public void start() {
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    public boolean submit(T item, ScanPriority priority) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!stopped && isFull(priority)) {
+                notFull.await();
+            }
+            if (stopped) {
+                return false;
+            }
+            queue.add(priority, item);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean reserve(ScanPriority priority) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!stopped && isFull(priority)) {
+                notFull.await();
+            }
+            if (stopped) {
+                return false;
+            }
+            reserved++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean submitReserved(T item, ScanPriority priority) {
+        lock.lock();
+        try {
+            reserved--;
+            if (stopped) {
+                return false;
+            }
+            queue.add(priority, item);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancelReservation() {
+        lock.lock();
+        try {
+            reserved--;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<T> stop() {
+        workers.shutdownNow();
+
+        lock.lock();
+        try {
+            stopped = true;
+            List<T> remaining = queue.drain();
+            notFull.signalAll();
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(ScanPriority priority) {
+        int limit = priority == ScanPriority.INTERACTIVE ? capacity : capacity - interactiveHeadroom;
+        return queue.size() + reserved >= limit;
+    }
+
+    private void work() {
+        List<T> batch = new ArrayList<>(batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                take(batch);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                handler.accept(batch);
+            } catch (RuntimeException e) {
+                logger.error("Scan pipeline stage {} failed", name, e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void take(List<T> batch) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            while (batch.size() < batchSize && !queue.isEmpty()) {
+                batch.add(queue.poll());
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
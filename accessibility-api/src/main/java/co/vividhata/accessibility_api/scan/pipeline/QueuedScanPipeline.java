@@ -0,0 +1,77 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.IScanRepository;
+import co.vividhata.accessibility_api.scan.exceptions.ScanFailedException;
+import co.vividhata.accessibility_api.scan.exceptions.ScanPipelineStoppedException;
+import co.vividhata.accessibility_api.scan.exceptions.ScanTimedOutException;
+import co.vividhata.accessibility_api.scan_job.IScanJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+@Service
+@Profile("api")
+public class QueuedScanPipeline implements IScanPipeline {
+
+    @Autowired
+    private IScanJobRepository scanJobRepository;
+    @Autowired
+    private IScanRepository scanRepository;
+
+    @Value("${scan.queue.poll-interval-ms:500}")
+    private long pollIntervalMillis;
+    @Value("${scan.queue.timeout-seconds:300}")
+    private long timeoutSeconds;
+
+    @Override
+    public CompletableFuture<Scan> submit(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+        int scanJobId = scanJobRepository.create(accountId, url, priority);
+
+        CompletableFuture<Scan> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("scan-job-wait-" + scanJobId).start(() -> awaitScanJob(scanJobId, onProgress, result));
+        return result;
+    }
+
+    private void awaitScanJob(int scanJobId, Consumer<ScanJobStatus> onProgress, CompletableFuture<Scan> result) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(timeoutSeconds));
+        ScanJobStatus lastStatus = null;
+
+        try {
+            while (Instant.now().isBefore(deadline)) {
+                ScanJob scanJob = scanJobRepository.get(scanJobId);
+
+                if (scanJob.status() != lastStatus) {
+                    lastStatus = scanJob.status();
+                    onProgress.accept(lastStatus);
+                }
+
+                if (scanJob.status() == ScanJobStatus.DONE) {
+                    result.complete(scanRepository.get(scanJob.scanId()));
+                    return;
+                }
+                if (scanJob.status() == ScanJobStatus.FAILED) {
+                    result.completeExceptionally(new ScanFailedException(scanJob.errorMessage()));
+                    return;
+                }
+
+                Thread.sleep(pollIntervalMillis);
+            }
+            result.completeExceptionally(new ScanTimedOutException());
+        } catch (InterruptedException _) {
+            result.completeExceptionally(new ScanPipelineStoppedException());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+}
@@ -0,0 +1,404 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.checker.CheckResult;
+import co.vividhata.accessibility_api.checker.ICheckerService;
+import co.vividhata.accessibility_api.checker.PreviousElementIssues;
+import co.vividhata.accessibility_api.issue.IIssueRepository;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.model.WebPage;
+import co.vividhata.accessibility_api.scan.IScanRepository;
+import co.vividhata.accessibility_api.scan.exceptions.CouldNotFetchPageException;
+import co.vividhata.accessibility_api.scan.exceptions.InvalidUrlException;
+import co.vividhata.accessibility_api.scan.exceptions.ScanPipelineStoppedException;
+import co.vividhata.accessibility_api.stylesheet.IStylesheetService;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
+import co.vividhata.accessibility_api.stylesheet.Stylesheet;
+import co.vividhata.accessibility_api.util.ElementFingerprints;
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.web_page.IWebPageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+@Service
+@Profile("!api")
+public class ScanPipeline implements IScanPipeline {
+
+    @Autowired
+    private IHtmlFetcher htmlFetcher;
+    @Autowired
+    private IHtmlParser htmlParser;
+    @Autowired
+    private ICheckerService checkerService;
+    @Autowired
+    private IWebPageRepository webPageRepository;
+    @Autowired
+    private IScanRepository scanRepository;
+    @Autowired
+    private IIssueRepository issueRepository;
+    @Autowired
+    private ILinkService linkService;
+    @Autowired
+    private IStylesheetService stylesheetService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${scan.parse.streaming-threshold-chars:4194304}")
+    private int streamingThresholdChars;
+
+    private final PipelineStage<ScanTask> fetchStage;
+    private final PipelineStage<ScanTask> parseStage;
+    private final PipelineStage<ScanTask> lookupStage;
+    private final PipelineStage<ScanTask> checkStage;
+    private final PipelineStage<ScanTask> persistStage;
+
+    public ScanPipeline(
+            @Value("${scan.pipeline.fetch-threads:2}") int fetchThreads,
+            @Value("${scan.pipeline.parse-threads:2}") int parseThreads,
+            @Value("${scan.pipeline.lookup-threads:2}") int lookupThreads,
+            @Value("${scan.pipeline.check-threads:4}") int checkThreads,
+            @Value("${scan.pipeline.persist-threads:2}") int persistThreads,
+            @Value("${scan.pipeline.persist-batch-size:32}") int persistBatchSize,
+            @Value("${scan.pipeline.queue-capacity:64}") int queueCapacity,
+            @Value("${scan.pipeline.interactive-headroom:16}") int interactiveHeadroom,
+            @Value("${scan.priority.aging-seconds:30}") long agingSeconds
+    ) {
+        Duration aging = Duration.ofSeconds(agingSeconds);
+        this.fetchStage = new PipelineStage<>("fetch", fetchThreads, queueCapacity, interactiveHeadroom, 1, aging, each(this::fetch));
+        this.parseStage = new PipelineStage<>("parse", parseThreads, queueCapacity, interactiveHeadroom, 1, aging, each(this::parse));
+        this.lookupStage = new PipelineStage<>("lookup", lookupThreads, queueCapacity, interactiveHeadroom, 1, aging, each(this::lookUpPrevious));
+        this.checkStage = new PipelineStage<>("check", checkThreads, queueCapacity, interactiveHeadroom, 1, aging, each(this::check));
+        this.persistStage = new PipelineStage<>("persist", persistThreads, queueCapacity, interactiveHeadroom, persistBatchSize, aging, this::persist);
+    }
+
+    @PostConstruct
+    public void start() {
+        persistStage.start();
+        checkStage.start();
+        lookupStage.start();
+        parseStage.start();
+        fetchStage.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (PipelineStage<ScanTask> stage : List.of(fetchStage, parseStage, lookupStage, checkStage, persistStage)) {
+            for (ScanTask task : stage.stop()) {
+                task.result.completeExceptionally(new ScanPipelineStoppedException());
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Scan> submit(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+        ScanTask task = new ScanTask(url, accountId, priority, onProgress);
+        forward(task, fetchStage);
+        return task.result;
+    }
+
+    private void fetch(ScanTask task) {
+        task.onProgress.accept(ScanJobStatus.FETCHING);
+        if (!reserve(task, parseStage)) {
+            return;
+        }
+
+        CompletableFuture<String> fetch;
+        try {
+            fetch = htmlFetcher.fetchAsync(task.url);
+        } catch (RuntimeException e) {
+            parseStage.cancelReservation();
+            task.result.completeExceptionally(fetchFailure(e));
+            return;
+        }
+
+        fetch.whenComplete((html, error) -> {
+            if (error != null) {
+                parseStage.cancelReservation();
+                task.result.completeExceptionally(fetchFailure(error));
+                return;
+            }
+            task.html = html;
+            forwardReserved(task, parseStage);
+        });
+    }
+
+    private void parse(ScanTask task) {
+        task.onProgress.accept(ScanJobStatus.CHECKING);
+        if (task.html.length() > streamingThresholdChars) {
+            forward(task, lookupStage);
+            return;
+        }
+
+        task.document = htmlParser.parse(task.html);
+        if (!reserve(task, lookupStage)) {
+            return;
+        }
+
+        CompletableFuture<List<Stylesheet>> loadStylesheets;
+        try {
+            loadStylesheets = stylesheetService.loadStylesheets(task.document, task.url);
+        } catch (RuntimeException e) {
+            lookupStage.cancelReservation();
+            throw e;
+        }
+
+        loadStylesheets.whenComplete((stylesheets, error) -> {
+            task.stylesheets = error == null ? stylesheets : List.of();
+            StyleResolver.attach(task.document, task.stylesheets);
+            forwardReserved(task, lookupStage);
+        });
+    }
+
+    private void lookUpPrevious(ScanTask task) {
+        WebPage webPage = webPageRepository.get(task.accountId, task.url);
+        task.webPageId = webPage == null ? webPageRepository.create(task.accountId, task.url) : webPage.id();
+
+        task.contentHash = hash(task.html, task.stylesheets);
+        task.unchangedScanId = webPage == null ? -1 : scanRepository.getLatestWithContentHash(task.webPageId, task.contentHash);
+        if (task.unchangedScanId != -1 && !scanRepository.getIncompleteCheckers(task.unchangedScanId).isEmpty()) {
+            task.unchangedScanId = -1;
+        }
+        if (task.unchangedScanId != -1) {
+            task.document = null;
+            forward(task, persistStage);
+            return;
+        }
+
+        int previousScanId = webPage == null ? -1 : scanRepository.getLatest(task.webPageId);
+        task.previousElementIssues = previousScanId == -1 ? null : loadPreviousElementIssues(previousScanId);
+
+        forward(task, checkStage);
+    }
+
+    private void check(ScanTask task) {
+        if (task.document == null) {
+            checkStream(task);
+            forward(task, persistStage);
+            return;
+        }
+
+        CheckResult checkResult = task.previousElementIssues == null
+                ? checkerService.checkAll(task.document)
+                : checkerService.checkChanged(task.document, task.previousElementIssues);
+        task.issues = checkResult.issues();
+        task.incompleteCheckers = checkResult.incompleteCheckers();
+        task.skippedCheckers = checkResult.skippedCheckers();
+        task.elementFingerprints = ElementFingerprints.collect(task.document);
+        task.links = linkService.findLinks(task.document);
+        task.document = null;
+
+        forward(task, persistStage);
+    }
+
+    private void checkStream(ScanTask task) {
+        LongStream.Builder elementFingerprints = LongStream.builder();
+        List<String> links = new ArrayList<>();
+
+        CheckResult checkResult;
+        try (Stream<Element> elements = htmlParser.stream(task.html)) {
+            checkResult = checkerService.checkStream(elements.peek(element -> {
+                elementFingerprints.add(ElementFingerprints.of(element));
+                String link = linkService.findLink(element);
+                if (link != null) {
+                    links.add(link);
+                }
+            }), task.previousElementIssues);
+        }
+
+        task.issues = checkResult.issues();
+        task.incompleteCheckers = checkResult.incompleteCheckers();
+        task.skippedCheckers = checkResult.skippedCheckers();
+        task.elementFingerprints = elementFingerprints.build().sorted().toArray();
+        task.links = links;
+    }
+
+    void persist(List<ScanTask> tasks) {
+        List<ScanTask> persistingTasks = new ArrayList<>(tasks.size());
+        for (ScanTask task : tasks) {
+            try {
+                task.onProgress.accept(ScanJobStatus.PERSISTING);
+                persistingTasks.add(task);
+            } catch (RuntimeException e) {
+                task.result.completeExceptionally(e);
+            }
+        }
+
+        if (persistingTasks.isEmpty()) {
+            return;
+        }
+
+        try {
+            persistTogether(persistingTasks);
+        } catch (RuntimeException e) {
+            if (persistingTasks.size() == 1) {
+                persistingTasks.getFirst().result.completeExceptionally(e);
+                return;
+            }
+
+            for (ScanTask task : persistingTasks) {
+                try {
+                    persistTogether(List.of(task));
+                } catch (RuntimeException taskError) {
+                    task.result.completeExceptionally(taskError);
+                }
+            }
+        }
+    }
+
+    private void persistTogether(List<ScanTask> tasks) {
+        List<Scan> scans = transactionTemplate.execute(_ -> {
+            List<Scan> createdScans = new ArrayList<>(tasks.size());
+            List<Issue> issues = new ArrayList<>();
+
+            for (ScanTask task : tasks) {
+                if (task.unchangedScanId != -1) {
+                    createdScans.add(copyScan(task));
+                    continue;
+                }
+
+                Scan scan = createScan(task);
+                for (Issue issue : task.issues) {
+                    issues.add(issue.withScanId(scan.id()));
+                }
+                createdScans.add(scan);
+            }
+
+            issueRepository.createAll(issues);
+
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).unchangedScanId == -1) {
+                    linkService.saveLinksToScan(tasks.get(i).links, createdScans.get(i).id());
+                }
+            }
+            return createdScans;
+        });
+
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).result.complete(scans.get(i));
+        }
+    }
+
+    private Scan createScan(ScanTask task) {
+        Instant timeScanned = Instant.now();
+
+        int scanId = scanRepository.create(task.webPageId, timeScanned, task.html, task.contentHash, checkerService.checkerSetDigest(), task.elementFingerprints, task.incompleteCheckers, task.skippedCheckers);
+
+        return new Scan(scanId, task.webPageId, timeScanned, task.html, task.contentHash, task.incompleteCheckers, task.skippedCheckers);
+    }
+
+    private Scan copyScan(ScanTask task) {
+        Instant timeScanned = Instant.now();
+
+        List<String> skippedCheckers = scanRepository.getSkippedCheckers(task.unchangedScanId);
+        int scanId = scanRepository.create(task.webPageId, timeScanned, task.html, task.contentHash, checkerService.checkerSetDigest(), scanRepository.getElementFingerprints(task.unchangedScanId), List.of(), skippedCheckers);
+
+        issueRepository.copyAll(task.unchangedScanId, scanId);
+        linkService.copyLinksToScan(task.unchangedScanId, scanId);
+
+        return new Scan(scanId, task.webPageId, timeScanned, task.html, task.contentHash, List.of(), skippedCheckers);
+    }
+
+    private PreviousElementIssues loadPreviousElementIssues(int previousScanId) {
+        long[] previousElementFingerprints = scanRepository.getElementFingerprints(previousScanId);
+        if (previousElementFingerprints == null || !scanRepository.getIncompleteCheckers(previousScanId).isEmpty()) {
+            return null;
+        }
+
+        return new PreviousElementIssues(scanRepository.getCheckerSetDigest(previousScanId), previousElementFingerprints, issueRepository.getAllWithElementFingerprint(previousScanId));
+    }
+
+    private void forward(ScanTask task, PipelineStage<ScanTask> stage) {
+        try {
+            if (!stage.submit(task, task.priority)) {
+                task.result.completeExceptionally(new ScanPipelineStoppedException());
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            task.result.completeExceptionally(new ScanPipelineStoppedException());
+        }
+    }
+
+    private boolean reserve(ScanTask task, PipelineStage<ScanTask> stage) {
+        try {
+            if (stage.reserve(task.priority)) {
+                return true;
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        task.result.completeExceptionally(new ScanPipelineStoppedException());
+        return false;
+    }
+
+    private void forwardReserved(ScanTask task, PipelineStage<ScanTask> stage) {
+        if (!stage.submitReserved(task, task.priority)) {
+            task.result.completeExceptionally(new ScanPipelineStoppedException());
+        }
+    }
+
+    private static Consumer<List<ScanTask>> each(Consumer<ScanTask> handler) {
+        return tasks -> {
+            for (ScanTask task : tasks) {
+                try {
+                    handler.accept(task);
+                } catch (RuntimeException e) {
+                    task.result.completeExceptionally(e);
+                }
+            }
+        };
+    }
+
+    private String hash(String html, List<Stylesheet> stylesheets) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        digest.update(html.getBytes(StandardCharsets.UTF_8));
+        for (Stylesheet stylesheet : stylesheets) {
+            digest.update(stylesheet.digest().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(checkerService.checkerSetDigest().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static RuntimeException fetchFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        return switch (cause) {
+            case URISyntaxException _, IllegalArgumentException _ -> new InvalidUrlException();
+            case IOException _ -> new CouldNotFetchPageException();
+            case RuntimeException runtimeException -> runtimeException;
+            default -> new CouldNotFetchPageException();
+        };
+    }
+
+}
@@ -0,0 +1,43 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.checker.PreviousElementIssues;
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.stylesheet.Stylesheet;
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+class ScanTask {
+
+    final String url;
+    final int accountId;
+    final ScanPriority priority;
+    final Consumer<ScanJobStatus> onProgress;
+    final CompletableFuture<Scan> result = new CompletableFuture<>();
+
+    String html;
+    String contentHash;
+    int webPageId = -1;
+    int unchangedScanId = -1;
+    PreviousElementIssues previousElementIssues;
+    Document document;
+    List<Stylesheet> stylesheets = List.of();
+    long[] elementFingerprints;
+    List<String> links;
+    List<Issue> issues;
+    List<String> incompleteCheckers;
+    List<String> skippedCheckers;
+
+    ScanTask(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+        this.url = url;
+        this.accountId = accountId;
+        this.priority = priority;
+        this.onProgress = onProgress;
+    }
+
+}
@@ -0,0 +1,32 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface IScanJobRepository {
+
+    int create(int accountId, String url, ScanPriority priority);
+
+    ScanJob get(int scanJobId);
+
+    List<ScanJob> claim(String workerId, int limit, Duration lease);
+
+    void renewLeases(String workerId, Collection<Integer> scanJobIds, Duration lease);
+
+    void updateStatus(int scanJobId, String workerId, ScanJobStatus status);
+
+    void complete(int scanJobId, String workerId, int scanId);
+
+    void retry(int scanJobId, String workerId, String errorMessage, Instant runAfter);
+
+    void fail(int scanJobId, String workerId, String errorMessage);
+
+    int deleteFinishedBefore(Instant cutoff);
+
+}
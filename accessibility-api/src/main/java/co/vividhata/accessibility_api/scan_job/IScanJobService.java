@@ -0,0 +1,14 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanPriority;
+
+public interface IScanJobService {
+
+    ScanJob submit(String url, int accountId, ScanPriority priority);
+
+    ScanJob getScanJob(int scanJobId);
+
+    int getOwner(int scanJobId);
+
+}
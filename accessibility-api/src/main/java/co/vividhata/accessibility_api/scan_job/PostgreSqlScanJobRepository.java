@@ -0,0 +1,123 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class PostgreSqlScanJobRepository implements IScanJobRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${scan.priority.aging-seconds:30}")
+    private long agingSeconds;
+
+    @Override
+    public int create(int accountId, String url, ScanPriority priority) {
+        String sql = "INSERT INTO ac.scan_job(account_id, url, priority, status, attempts, run_after, time_submitted, time_updated) VALUES (?, ?, ?, 'QUEUED', 0, now(), now(), now());";
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(con -> {
+
+            PreparedStatement ps = con.prepareStatement(sql, new String[]{"id"});
+            ps.setInt(1, accountId);
+            ps.setString(2, url);
+            ps.setInt(3, priority.lane());
+            return ps;
+
+        }, keyHolder);
+
+        Number id = keyHolder.getKey();
+        if (id == null) {
+            return -1;
+        }
+        return id.intValue();
+    }
+
+    @Override
+    public ScanJob get(int scanJobId) {
+        String sql = "SELECT * FROM ac.scan_job WHERE id = ?;";
+
+        List<ScanJob> scanJobs = jdbcTemplate.query(sql, ScanJob::fromRow, scanJobId);
+        return scanJobs.isEmpty() ? null : scanJobs.getFirst();
+    }
+
+    @Override
+    public List<ScanJob> claim(String workerId, int limit, Duration lease) {
+        String sql = """
+                UPDATE ac.scan_job
+                SET status = 'FETCHING', locked_by = ?, lease_expires_at = now() + ? * INTERVAL '1 second', attempts = attempts + 1, time_updated = now()
+                WHERE id IN (
+                    SELECT id FROM ac.scan_job
+                    WHERE (status = 'QUEUED' AND run_after <= now())
+                       OR (status IN ('FETCHING', 'CHECKING', 'PERSISTING') AND lease_expires_at < now())
+                    ORDER BY priority - floor(extract(epoch FROM now() - run_after) / ?), priority, run_after, id
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING *;""";
+
+        return jdbcTemplate.query(sql, ScanJob::fromRow, workerId, lease.toSeconds(), Math.max(1, agingSeconds), limit);
+    }
+
+    @Override
+    public void renewLeases(String workerId, Collection<Integer> scanJobIds, Duration lease) {
+        String sql = "UPDATE ac.scan_job SET lease_expires_at = now() + ? * INTERVAL '1 second' WHERE id = ? AND locked_by = ?;";
+
+        jdbcTemplate.batchUpdate(sql, scanJobIds, scanJobIds.size(), (ps, scanJobId) -> {
+            ps.setLong(1, lease.toSeconds());
+            ps.setInt(2, scanJobId);
+            ps.setString(3, workerId);
+        });
+    }
+
+    @Override
+    public void updateStatus(int scanJobId, String workerId, ScanJobStatus status) {
+        String sql = "UPDATE ac.scan_job SET status = ?, time_updated = now() WHERE id = ? AND locked_by = ?;";
+
+        jdbcTemplate.update(sql, status.name(), scanJobId, workerId);
+    }
+
+    @Override
+    public void complete(int scanJobId, String workerId, int scanId) {
+        String sql = "UPDATE ac.scan_job SET status = 'DONE', scan_id = ?, error_message = NULL, locked_by = NULL, lease_expires_at = NULL, time_updated = now() WHERE id = ? AND locked_by = ?;";
+
+        jdbcTemplate.update(sql, scanId, scanJobId, workerId);
+    }
+
+    @Override
+    public void retry(int scanJobId, String workerId, String errorMessage, Instant runAfter) {
+        String sql = "UPDATE ac.scan_job SET status = 'QUEUED', error_message = ?, run_after = ?, locked_by = NULL, lease_expires_at = NULL, time_updated = now() WHERE id = ? AND locked_by = ?;";
+
+        jdbcTemplate.update(sql, errorMessage, Timestamp.from(runAfter), scanJobId, workerId);
+    }
+
+    @Override
+    public void fail(int scanJobId, String workerId, String errorMessage) {
+        String sql = "UPDATE ac.scan_job SET status = 'FAILED', error_message = ?, locked_by = NULL, lease_expires_at = NULL, time_updated = now() WHERE id = ? AND locked_by = ?;";
+
+        jdbcTemplate.update(sql, errorMessage, scanJobId, workerId);
+    }
+
+    @Override
+    public int deleteFinishedBefore(Instant cutoff) {
+        String sql = "DELETE FROM ac.scan_job WHERE status IN ('DONE', 'FAILED') AND time_updated < ?;";
+
+        return jdbcTemplate.update(sql, Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,58 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.issue.IIssueService;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.model.Account;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.IScanService;
+import co.vividhata.accessibility_api.scan.admission.AdmissionControlledScanService;
+import co.vividhata.accessibility_api.scan.dto.ScanResponse;
+import co.vividhata.accessibility_api.scan_job.dto.ScanJobResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/scan-job")
+public class ScanJobController {
+
+    @Autowired
+    private IScanJobService scanJobService;
+    @Autowired
+    private IScanService scanService;
+    @Autowired
+    private AdmissionControlledScanService admissionControlledScanService;
+    @Autowired
+    private IIssueService issueService;
+    @Autowired
+    private ILinkService linkService;
+
+    @PostMapping("/from-url")
+    public ResponseEntity<ScanJob> submitFromUrl(@RequestBody String url, @AuthenticationPrincipal Account account) {
+        admissionControlledScanService.acquireToken(account.id());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scanJobService.submit(url, account.id(), ScanPriority.INTERACTIVE));
+    }
+
+    @GetMapping("/{scanJobId}")
+    public ResponseEntity<?> getScanJob(@PathVariable int scanJobId, @AuthenticationPrincipal Account account) {
+        if (scanJobService.getOwner(scanJobId) != account.id()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Scan job does not belong to current user");
+        }
+
+        ScanJob scanJob = scanJobService.getScanJob(scanJobId);
+        if (scanJob.status() != ScanJobStatus.DONE) {
+            return ResponseEntity.ok(new ScanJobResponse(scanJob, null));
+        }
+
+        Scan scan = scanService.getScan(scanJob.scanId());
+        ScanResponse result = new ScanResponse(scan, issueService.getIssues(scan), linkService.getLinks(scan.id()));
+
+        return ResponseEntity.ok(new ScanJobResponse(scanJob, result));
+    }
+
+}
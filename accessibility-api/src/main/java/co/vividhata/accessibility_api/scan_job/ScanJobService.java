@@ -0,0 +1,38 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan_job.exceptions.ScanJobDoesNotExistException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ScanJobService implements IScanJobService {
+
+    @Autowired
+    private IScanJobRepository scanJobRepository;
+
+    @Override
+    public ScanJob submit(String url, int accountId, ScanPriority priority) {
+        int scanJobId = scanJobRepository.create(accountId, url, priority);
+
+        return scanJobRepository.get(scanJobId);
+    }
+
+    @Override
+    public ScanJob getScanJob(int scanJobId) {
+        ScanJob scanJob = scanJobRepository.get(scanJobId);
+
+        if (scanJob == null) {
+            throw new ScanJobDoesNotExistException();
+        }
+
+        return scanJob;
+    }
+
+    @Override
+    public int getOwner(int scanJobId) {
+        return getScanJob(scanJobId).accountId();
+    }
+
+}
@@ -0,0 +1,146 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.scan.ScanService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+@ConditionalOnProperty(name = "scan.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class ScanJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanJobWorker.class);
+
+    @Autowired
+    private ScanService scanService;
+    @Autowired
+    private IScanJobRepository scanJobRepository;
+
+    private final String workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final Set<Integer> runningJobIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${scan.worker.max-in-flight:8}")
+    private int maximumInFlight;
+    @Value("${scan.worker.claim-batch-size:4}")
+    private int claimBatchSize;
+    @Value("${scan.worker.lease-seconds:60}")
+    private long leaseSeconds;
+    @Value("${scan.worker.max-attempts:3}")
+    private int maximumAttempts;
+    @Value("${scan.worker.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+    @Value("${scan.worker.max-retry-backoff-seconds:900}")
+    private long maximumRetryBackoffSeconds;
+    @Value("${scan.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Scheduled(fixedDelayString = "${scan.worker.poll-interval-ms:1000}")
+    public void poll() {
+        int capacity = Math.min(claimBatchSize, maximumInFlight - runningJobIds.size());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<ScanJob> scanJobs;
+        try {
+            scanJobs = scanJobRepository.claim(workerId, capacity, Duration.ofSeconds(leaseSeconds));
+        } catch (DataAccessException e) {
+            logger.warn("Could not claim scan jobs: {}", e.getMessage());
+            return;
+        }
+
+        for (ScanJob scanJob : scanJobs) {
+            runningJobIds.add(scanJob.id());
+            executor.execute(() -> {
+                try {
+                    run(scanJob);
+                } finally {
+                    runningJobIds.remove(scanJob.id());
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scan.worker.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (runningJobIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            scanJobRepository.renewLeases(workerId, List.copyOf(runningJobIds), Duration.ofSeconds(leaseSeconds));
+        } catch (DataAccessException e) {
+            logger.warn("Could not renew scan job leases: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scan.worker.cleanup-interval-ms:600000}")
+    public void removeExpired() {
+        try {
+            scanJobRepository.deleteFinishedBefore(Instant.now().minus(Duration.ofMinutes(retentionMinutes)));
+        } catch (DataAccessException e) {
+            logger.warn("Could not remove finished scan jobs: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void run(ScanJob scanJob) {
+        if (scanJob.attempts() > maximumAttempts) {
+            scanJobRepository.fail(scanJob.id(), workerId, "Scan job exceeded the maximum number of attempts");
+            return;
+        }
+
+        try {
+            Scan scan = scanService.scanFrom(scanJob.url(), scanJob.accountId(), scanJob.priority(), status -> scanJobRepository.updateStatus(scanJob.id(), workerId, status));
+            scanJobRepository.complete(scanJob.id(), workerId, scan.id());
+        } catch (BadRequestException e) {
+            scanJobRepository.fail(scanJob.id(), workerId, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Scan job {} for {} failed on attempt {}", scanJob.id(), scanJob.url(), scanJob.attempts(), e);
+            if (scanJob.attempts() < maximumAttempts) {
+                scanJobRepository.retry(scanJob.id(), workerId, e.getMessage(), Instant.now().plus(backoff(scanJob.attempts())));
+            } else {
+                scanJobRepository.fail(scanJob.id(), workerId, e.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = retryBackoffSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, maximumRetryBackoffSeconds));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException _) {
+            return "worker";
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package co.vividhata.accessibility_api.scan_job.dto;
+
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.scan.dto.ScanResponse;
+
+public record ScanJobResponse(ScanJob scanJob, ScanResponse result) { }
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan_job.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+
+public class ScanJobDoesNotExistException extends BadRequestException {
+    public ScanJobDoesNotExistException() {
+        super("No scan job exists with that ID");
+    }
+}
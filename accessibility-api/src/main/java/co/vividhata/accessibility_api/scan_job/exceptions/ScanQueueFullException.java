@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan_job.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.ServiceUnavailableException;
+
+public class ScanQueueFullException extends ServiceUnavailableException {
+    public ScanQueueFullException() {
+        super("Scan queue is full, try again later");
+    }
+}
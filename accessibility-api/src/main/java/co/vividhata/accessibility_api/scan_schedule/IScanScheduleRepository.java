@@ -0,0 +1,27 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.DueScan;
+import co.vividhata.accessibility_api.model.ScanFrequency;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public interface IScanScheduleRepository {
+
+    void save(int webPageId, ScanFrequency frequency, Instant nextRun);
+
+    ScanSchedule get(int webPageId);
+
+    void delete(int webPageId);
+
+    List<DueScan> claimDue(int limit, Duration lease);
+
+    void advance(int webPageId, Instant nextRun);
+
+    void release(int webPageId, Instant nextRun);
+
+    int countStartedSince(Instant since);
+
+}
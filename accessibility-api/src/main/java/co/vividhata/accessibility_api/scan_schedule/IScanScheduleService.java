@@ -0,0 +1,14 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.ScanFrequency;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+
+public interface IScanScheduleService {
+
+    ScanSchedule setSchedule(int webPageId, ScanFrequency frequency);
+
+    ScanSchedule getSchedule(int webPageId);
+
+    void deleteSchedule(int webPageId);
+
+}
@@ -0,0 +1,83 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.DueScan;
+import co.vividhata.accessibility_api.model.ScanFrequency;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class PostgreSqlScanScheduleRepository implements IScanScheduleRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(int webPageId, ScanFrequency frequency, Instant nextRun) {
+        String sql = "INSERT INTO ac.scan_schedule(web_page_id, frequency, next_run) VALUES (?, ?, ?) ON CONFLICT (web_page_id) DO UPDATE SET frequency = EXCLUDED.frequency, next_run = EXCLUDED.next_run;";
+
+        jdbcTemplate.update(sql, webPageId, frequency.name(), Timestamp.from(nextRun));
+    }
+
+    @Override
+    public ScanSchedule get(int webPageId) {
+        String sql = "SELECT * FROM ac.scan_schedule WHERE web_page_id = ?;";
+
+        List<ScanSchedule> scanSchedules = jdbcTemplate.query(sql, ScanSchedule::fromRow, webPageId);
+        return scanSchedules.isEmpty() ? null : scanSchedules.getFirst();
+    }
+
+    @Override
+    public void delete(int webPageId) {
+        String sql = "DELETE FROM ac.scan_schedule WHERE web_page_id = ?;";
+
+        jdbcTemplate.update(sql, webPageId);
+    }
+
+    @Override
+    public List<DueScan> claimDue(int limit, Duration lease) {
+        String sql = """
+                UPDATE ac.scan_schedule ss
+                SET next_run = now() + ? * INTERVAL '1 second'
+                FROM ac.web_page wp, (
+                    SELECT web_page_id, next_run FROM ac.scan_schedule
+                    WHERE next_run <= now()
+                    ORDER BY next_run
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ) due
+                WHERE wp.id = ss.web_page_id
+                  AND due.web_page_id = ss.web_page_id
+                RETURNING wp.*, ss.frequency, due.next_run AS due_at;""";
+
+        return jdbcTemplate.query(sql, DueScan::fromRow, lease.toSeconds(), limit);
+    }
+
+    @Override
+    public void advance(int webPageId, Instant nextRun) {
+        String sql = "UPDATE ac.scan_schedule SET last_run = now(), next_run = ? WHERE web_page_id = ?;";
+
+        jdbcTemplate.update(sql, Timestamp.from(nextRun), webPageId);
+    }
+
+    @Override
+    public void release(int webPageId, Instant nextRun) {
+        String sql = "UPDATE ac.scan_schedule SET next_run = ? WHERE web_page_id = ?;";
+
+        jdbcTemplate.update(sql, Timestamp.from(nextRun), webPageId);
+    }
+
+    @Override
+    public int countStartedSince(Instant since) {
+        String sql = "SELECT count(*) FROM ac.scan_schedule WHERE last_run >= ?;";
+
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, Timestamp.from(since));
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,51 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.Account;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+import co.vividhata.accessibility_api.scan_schedule.dto.ScanScheduleRequest;
+import co.vividhata.accessibility_api.web_page.IWebPageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/web-page/{webPageId}/schedule")
+public class ScanScheduleController {
+
+    @Autowired
+    private IScanScheduleService scanScheduleService;
+    @Autowired
+    private IWebPageService webPageService;
+
+    @PutMapping
+    public ResponseEntity<?> setSchedule(@PathVariable int webPageId, @RequestBody ScanScheduleRequest scanScheduleRequest, @AuthenticationPrincipal Account account) {
+        if (webPageService.getOwner(webPageId) != account.id()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Web page does not belong to current user");
+        }
+
+        ScanSchedule scanSchedule = scanScheduleService.setSchedule(webPageId, scanScheduleRequest.frequency());
+        return ResponseEntity.ok(scanSchedule);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getSchedule(@PathVariable int webPageId, @AuthenticationPrincipal Account account) {
+        if (webPageService.getOwner(webPageId) != account.id()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Web page does not belong to current user");
+        }
+
+        return ResponseEntity.ok(scanScheduleService.getSchedule(webPageId));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> deleteSchedule(@PathVariable int webPageId, @AuthenticationPrincipal Account account) {
+        if (webPageService.getOwner(webPageId) != account.id()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Web page does not belong to current user");
+        }
+
+        scanScheduleService.deleteSchedule(webPageId);
+        return ResponseEntity.ok().build();
+    }
+
+}
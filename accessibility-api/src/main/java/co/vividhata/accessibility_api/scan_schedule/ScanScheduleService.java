@@ -0,0 +1,47 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.ScanFrequency;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+import co.vividhata.accessibility_api.scan_schedule.exceptions.InvalidScanFrequencyException;
+import co.vividhata.accessibility_api.scan_schedule.exceptions.ScanScheduleDoesNotExistException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class ScanScheduleService implements IScanScheduleService {
+
+    @Autowired
+    private IScanScheduleRepository scanScheduleRepository;
+
+    @Override
+    public ScanSchedule setSchedule(int webPageId, ScanFrequency frequency) {
+        if (frequency == null) {
+            throw new InvalidScanFrequencyException();
+        }
+
+        long offsetSeconds = ThreadLocalRandom.current().nextLong(frequency.interval().toSeconds());
+        scanScheduleRepository.save(webPageId, frequency, Instant.now().plusSeconds(offsetSeconds));
+
+        return scanScheduleRepository.get(webPageId);
+    }
+
+    @Override
+    public ScanSchedule getSchedule(int webPageId) {
+        ScanSchedule scanSchedule = scanScheduleRepository.get(webPageId);
+
+        if (scanSchedule == null) {
+            throw new ScanScheduleDoesNotExistException();
+        }
+
+        return scanSchedule;
+    }
+
+    @Override
+    public void deleteSchedule(int webPageId) {
+        scanScheduleRepository.delete(webPageId);
+    }
+
+}
@@ -0,0 +1,97 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.DueScan;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.model.WebPage;
+import co.vividhata.accessibility_api.scan_job.IScanJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@ConditionalOnProperty(name = "scan.schedule.enabled", havingValue = "true", matchIfMissing = true)
+public class ScanScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanScheduler.class);
+
+    @Autowired
+    private IScanScheduleRepository scanScheduleRepository;
+    @Autowired
+    private IScanJobService scanJobService;
+
+    @Value("${scan.schedule.max-per-minute:60}")
+    private int maximumPerMinute;
+    @Value("${scan.schedule.claim-batch-size:20}")
+    private int claimBatchSize;
+    @Value("${scan.schedule.jitter-minutes:30}")
+    private long jitterMinutes;
+    @Value("${scan.schedule.claim-lease-seconds:300}")
+    private long claimLeaseSeconds;
+
+    @Scheduled(fixedDelayString = "${scan.schedule.poll-interval-ms:30000}")
+    public void submitDueScans() {
+        List<DueScan> dueScans;
+        try {
+            int startedLastMinute = scanScheduleRepository.countStartedSince(Instant.now().minus(Duration.ofMinutes(1)));
+            int limit = Math.min(claimBatchSize, maximumPerMinute - startedLastMinute);
+            if (limit <= 0) {
+                return;
+            }
+
+            dueScans = scanScheduleRepository.claimDue(limit, Duration.ofSeconds(claimLeaseSeconds));
+        } catch (DataAccessException e) {
+            logger.warn("Could not claim scheduled scans: {}", e.getMessage());
+            return;
+        }
+
+        for (DueScan dueScan : dueScans) {
+            WebPage webPage = dueScan.webPage();
+            try {
+                scanJobService.submit(webPage.url(), webPage.accountId(), ScanPriority.SCHEDULED);
+            } catch (RuntimeException e) {
+                logger.warn("Could not submit scheduled scan of {}", webPage.url(), e);
+                release(dueScan);
+                continue;
+            }
+
+            try {
+                scanScheduleRepository.advance(webPage.id(), nextRun(dueScan));
+            } catch (DataAccessException e) {
+                logger.warn("Could not advance the schedule of {}: {}", webPage.url(), e.getMessage());
+            }
+        }
+    }
+
+    private void release(DueScan dueScan) {
+        try {
+            scanScheduleRepository.release(dueScan.webPage().id(), dueScan.dueAt());
+        } catch (DataAccessException e) {
+            logger.warn("Could not release the schedule of {}: {}", dueScan.webPage().url(), e.getMessage());
+        }
+    }
+
+    private Instant nextRun(DueScan dueScan) {
+        Instant now = Instant.now();
+        Instant nextRun = dueScan.dueAt().plus(dueScan.frequency().interval());
+        if (nextRun.isBefore(now)) {
+            nextRun = now;
+        }
+
+        long jitterSeconds = Duration.ofMinutes(jitterMinutes).toSeconds();
+        if (jitterSeconds <= 0) {
+            return nextRun;
+        }
+        return nextRun.plusSeconds(ThreadLocalRandom.current().nextLong(-jitterSeconds, jitterSeconds + 1));
+    }
+
+}
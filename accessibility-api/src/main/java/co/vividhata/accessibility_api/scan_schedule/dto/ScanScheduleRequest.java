@@ -0,0 +1,5 @@
+package co.vividhata.accessibility_api.scan_schedule.dto;
+
+import co.vividhata.accessibility_api.model.ScanFrequency;
+
+public record ScanScheduleRequest(ScanFrequency frequency) { }
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan_schedule.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+
+public class InvalidScanFrequencyException extends BadRequestException {
+    public InvalidScanFrequencyException() {
+        super("Frequency must be DAILY or WEEKLY");
+    }
+}
@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.scan_schedule.exceptions;
+
+import co.vividhata.accessibility_api.exceptions.BadRequestException;
+
+public class ScanScheduleDoesNotExistException extends BadRequestException {
+    public ScanScheduleDoesNotExistException() {
+        super("No scan schedule exists for that web page");
+    }
+}
@@ -0,0 +1,12 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface IStylesheetService {
+
+    CompletableFuture<List<Stylesheet>> loadStylesheets(Document document, String pageUrl);
+
+}
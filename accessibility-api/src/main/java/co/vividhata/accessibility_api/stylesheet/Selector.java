@@ -0,0 +1,118 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record Selector(List<Compound> compounds, List<Character> combinators, int specificity) {
+
+    private static final Pattern COMPOUND = Pattern.compile("([a-zA-Z][\\w-]*|\\*)?((?:[#.][\\w-]+)*)");
+    private static final Pattern COMBINATOR = Pattern.compile("\\s*>\\s*|\\s+");
+
+    public record Compound(String tag, String id, List<String> classes) {
+
+        boolean matches(Element element) {
+            if (tag != null && !tag.equalsIgnoreCase(element.tagName())) {
+                return false;
+            }
+            if (id != null && !id.equals(element.attr("id"))) {
+                return false;
+            }
+            if (!classes.isEmpty()) {
+                List<String> elementClasses = List.of(element.attr("class").trim().split("\\s+"));
+                return elementClasses.containsAll(classes);
+            }
+            return true;
+        }
+
+    }
+
+    public static Selector parse(String text) {
+        String selector = text.trim();
+        if (selector.isEmpty()) {
+            return null;
+        }
+
+        List<Compound> compounds = new ArrayList<>();
+        List<Character> combinators = new ArrayList<>();
+        int specificity = 0;
+
+        Matcher combinator = COMBINATOR.matcher(selector);
+        int start = 0;
+        while (true) {
+            boolean found = combinator.find();
+            String part = selector.substring(start, found ? combinator.start() : selector.length());
+
+            Matcher compound = COMPOUND.matcher(part);
+            if (part.isEmpty() || !compound.matches()) {
+                return null;
+            }
+
+            String tag = compound.group(1) == null || compound.group(1).equals("*") ? null : compound.group(1).toLowerCase(Locale.ROOT);
+            String id = null;
+            List<String> classes = new ArrayList<>();
+            for (String simple : compound.group(2).split("(?=[#.])")) {
+                if (simple.startsWith("#")) {
+                    id = simple.substring(1);
+                    specificity += 10_000;
+                } else if (simple.startsWith(".")) {
+                    classes.add(simple.substring(1));
+                    specificity += 100;
+                }
+            }
+            if (tag != null) {
+                specificity += 1;
+            }
+            compounds.add(new Compound(tag, id, List.copyOf(classes)));
+
+            if (!found) {
+                break;
+            }
+            combinators.add(combinator.group().trim().isEmpty() ? ' ' : '>');
+            start = combinator.end();
+        }
+
+        return new Selector(List.copyOf(compounds.reversed()), List.copyOf(combinators.reversed()), specificity);
+    }
+
+    public Compound subject() {
+        return compounds.getFirst();
+    }
+
+    public boolean matches(Element element) {
+        return matches(element, 0);
+    }
+
+    private boolean matches(Element element, int index) {
+        if (!compounds.get(index).matches(element)) {
+            return false;
+        }
+        if (index == compounds.size() - 1) {
+            return true;
+        }
+
+        Element ancestor = parentOf(element);
+        if (combinators.get(index) == '>') {
+            return ancestor != null && matches(ancestor, index + 1);
+        }
+
+        while (ancestor != null) {
+            if (matches(ancestor, index + 1)) {
+                return true;
+            }
+            ancestor = parentOf(ancestor);
+        }
+        return false;
+    }
+
+    private static Element parentOf(Element element) {
+        Element parent = element.parent();
+        return parent instanceof Document ? null : parent;
+    }
+
+}
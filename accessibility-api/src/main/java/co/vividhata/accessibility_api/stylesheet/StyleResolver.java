@@ -0,0 +1,99 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class StyleResolver {
+
+    private static final String STYLESHEETS_KEY = "stylesheets";
+    private static final String PROPERTIES_KEY = "styleProperties";
+    private static final Pattern IMPORTANT = Pattern.compile("!\\s*important\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private StyleResolver() {}
+
+    public static void attach(Document document, List<Stylesheet> stylesheets) {
+        document.attributes().userData(STYLESHEETS_KEY, List.copyOf(stylesheets));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> propertiesOf(Element element) {
+        String inlineStyle = element.attr("style");
+
+        Document document = element.ownerDocument();
+        List<Stylesheet> stylesheets = document == null ? null : (List<Stylesheet>) document.attributes().userData(STYLESHEETS_KEY);
+        if (stylesheets == null || stylesheets.isEmpty()) {
+            return resolve(element, inlineStyle, List.of());
+        }
+
+        Map<String, String> properties = (Map<String, String>) element.attributes().userData(PROPERTIES_KEY);
+        if (properties == null) {
+            properties = resolve(element, inlineStyle, stylesheets);
+            element.attributes().userData(PROPERTIES_KEY, properties);
+        }
+        return properties;
+    }
+
+    private static Map<String, String> resolve(Element element, String inlineStyle, List<Stylesheet> stylesheets) {
+        List<RankedRule> matches = new ArrayList<>();
+        List<StyleRule> sheetMatches = new ArrayList<>();
+
+        for (int i = 0; i < stylesheets.size(); i++) {
+            sheetMatches.clear();
+            stylesheets.get(i).collectMatchingRules(element, sheetMatches);
+            for (StyleRule rule : sheetMatches) {
+                matches.add(new RankedRule(rule, i));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt((RankedRule ranked) -> ranked.rule().selector().specificity())
+                .thenComparingInt(RankedRule::sheet)
+                .thenComparingInt(ranked -> ranked.rule().order())
+                .reversed());
+
+        Map<String, String> normal = new HashMap<>();
+        Map<String, String> important = new HashMap<>();
+        addDeclarations(inlineStyle, normal, important);
+        for (RankedRule ranked : matches) {
+            addDeclarations(ranked.rule().declarations(), normal, important);
+        }
+
+        normal.putAll(important);
+        return Map.copyOf(normal);
+    }
+
+    private static void addDeclarations(String declarations, Map<String, String> normal, Map<String, String> important) {
+        Map<String, String> blockNormal = new HashMap<>();
+        Map<String, String> blockImportant = new HashMap<>();
+
+        for (String declaration : declarations.split(";")) {
+            int colon = declaration.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+
+            String property = declaration.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = declaration.substring(colon + 1).trim();
+            Matcher importance = IMPORTANT.matcher(value);
+            if (importance.find()) {
+                blockImportant.put(property, value.substring(0, importance.start()).trim());
+            } else if (!value.isEmpty()) {
+                blockNormal.put(property, value);
+            }
+        }
+
+        blockNormal.forEach(normal::putIfAbsent);
+        blockImportant.forEach(important::putIfAbsent);
+    }
+
+    private record RankedRule(StyleRule rule, int sheet) {}
+
+}
@@ -0,0 +1,4 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+public record StyleRule(Selector selector, String declarations, int order) {
+}
@@ -0,0 +1,72 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class Stylesheet {
+
+    private final String source;
+    private final String digest;
+    private final int ruleCount;
+    private final Map<String, List<StyleRule>> rulesById = new HashMap<>();
+    private final Map<String, List<StyleRule>> rulesByClass = new HashMap<>();
+    private final Map<String, List<StyleRule>> rulesByTag = new HashMap<>();
+    private final List<StyleRule> universalRules = new ArrayList<>();
+
+    public Stylesheet(String source, String digest, List<StyleRule> rules) {
+        this.source = source;
+        this.digest = digest;
+        this.ruleCount = rules.size();
+
+        for (StyleRule rule : rules) {
+            Selector.Compound subject = rule.selector().subject();
+            if (subject.id() != null) {
+                rulesById.computeIfAbsent(subject.id(), _ -> new ArrayList<>()).add(rule);
+            } else if (!subject.classes().isEmpty()) {
+                rulesByClass.computeIfAbsent(subject.classes().getFirst(), _ -> new ArrayList<>()).add(rule);
+            } else if (subject.tag() != null) {
+                rulesByTag.computeIfAbsent(subject.tag(), _ -> new ArrayList<>()).add(rule);
+            } else {
+                universalRules.add(rule);
+            }
+        }
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public String digest() {
+        return digest;
+    }
+
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    public void collectMatchingRules(Element element, List<StyleRule> matches) {
+        collect(rulesById.get(element.attr("id")), element, matches);
+        for (String className : element.attr("class").trim().split("\\s+")) {
+            collect(rulesByClass.get(className), element, matches);
+        }
+        collect(rulesByTag.get(element.tagName().toLowerCase(Locale.ROOT)), element, matches);
+        collect(universalRules, element, matches);
+    }
+
+    private static void collect(List<StyleRule> candidates, Element element, List<StyleRule> matches) {
+        if (candidates == null) {
+            return;
+        }
+        for (StyleRule rule : candidates) {
+            if (rule.selector().matches(element)) {
+                matches.add(rule);
+            }
+        }
+    }
+
+}
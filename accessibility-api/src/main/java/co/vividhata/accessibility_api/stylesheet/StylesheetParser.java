@@ -0,0 +1,90 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class StylesheetParser {
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+
+    private StylesheetParser() {}
+
+    public static Stylesheet parse(String source, String css) {
+        List<StyleRule> rules = new ArrayList<>();
+        parseRules(COMMENT.matcher(css).replaceAll(" "), 0, rules);
+        return new Stylesheet(source, digest(css), rules);
+    }
+
+    public static String digest(String css) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(css.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int parseRules(String css, int position, List<StyleRule> rules) {
+        while (position < css.length()) {
+            int open = css.indexOf('{', position);
+            int close = css.indexOf('}', position);
+            int semicolon = css.indexOf(';', position);
+
+            if (close != -1 && (open == -1 || close < open)) {
+                return close + 1;
+            }
+            if (open == -1) {
+                return css.length();
+            }
+
+            String prelude = css.substring(position, open).trim();
+            if (semicolon != -1 && semicolon < open && prelude.startsWith("@")) {
+                position = semicolon + 1;
+                continue;
+            }
+
+            if (prelude.startsWith("@")) {
+                String atRule = prelude.toLowerCase(Locale.ROOT);
+                if ((atRule.startsWith("@media") && !atRule.contains("print")) || atRule.startsWith("@supports") || atRule.startsWith("@layer")) {
+                    position = parseRules(css, open + 1, rules);
+                } else {
+                    position = skipBlock(css, open);
+                }
+                continue;
+            }
+
+            int end = css.indexOf('}', open);
+            if (end == -1) {
+                end = css.length();
+            }
+            String declarations = css.substring(open + 1, end).trim().replaceAll("[;\\s]+$", "");
+            for (String selectorText : prelude.split(",")) {
+                Selector selector = Selector.parse(selectorText);
+                if (selector != null && !declarations.isEmpty()) {
+                    rules.add(new StyleRule(selector, declarations, rules.size()));
+                }
+            }
+            position = end + 1;
+        }
+        return position;
+    }
+
+    private static int skipBlock(String css, int open) {
+        int depth = 0;
+        for (int i = open; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return css.length();
+    }
+
+}
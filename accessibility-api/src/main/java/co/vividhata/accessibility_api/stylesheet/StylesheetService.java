@@ -0,0 +1,195 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class StylesheetService implements IStylesheetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StylesheetService.class);
+
+    private static final String ACCEPT_CSS = "text/css,*/*;q=0.1";
+
+    @Autowired
+    private IHtmlFetcher htmlFetcher;
+
+    private final int maximumPerPage;
+    private final long maximumCachedChars;
+    private final Duration revalidateAfter;
+
+    private final LinkedHashMap<String, CachedStylesheet> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Stylesheet>> inFlight = new ConcurrentHashMap<>();
+    private long cachedChars;
+
+    public StylesheetService(
+            @Value("${scan.stylesheet.max-per-page:20}") int maximumPerPage,
+            @Value("${scan.stylesheet.cache.max-chars:33554432}") long maximumCachedChars,
+            @Value("${scan.stylesheet.cache.revalidate-seconds:300}") long revalidateSeconds
+    ) {
+        this.maximumPerPage = maximumPerPage;
+        this.maximumCachedChars = maximumCachedChars;
+        this.revalidateAfter = Duration.ofSeconds(revalidateSeconds);
+    }
+
+    @Override
+    public CompletableFuture<List<Stylesheet>> loadStylesheets(Document document, String pageUrl) {
+        List<CompletableFuture<Stylesheet>> stylesheets = new ArrayList<>();
+        URI baseUri = baseUriOf(document, pageUrl);
+
+        for (Element element : document.select("style, link")) {
+            if (stylesheets.size() >= maximumPerPage) {
+                break;
+            }
+            String tagName = element.tagName();
+
+            if (tagName.equals("style") && !isPrintOnly(element)) {
+                String css = element.data();
+                stylesheets.add(CompletableFuture.completedFuture(inlineStylesheet(css)));
+            } else if (tagName.equals("link") && isStylesheetLink(element) && !isPrintOnly(element) && baseUri != null) {
+                String url = resolve(baseUri, element.attr("href"));
+                if (url != null) {
+                    stylesheets.add(externalStylesheet(url));
+                }
+            }
+        }
+
+        return CompletableFuture.allOf(stylesheets.toArray(CompletableFuture[]::new))
+                .handle((_, _) -> stylesheets.stream()
+                        .map(stylesheet -> stylesheet.getNow(null))
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    private Stylesheet inlineStylesheet(String css) {
+        String key = "inline:" + StylesheetParser.digest(css);
+
+        CachedStylesheet cached = getCached(key);
+        if (cached != null) {
+            return cached.stylesheet();
+        }
+
+        Stylesheet stylesheet = StylesheetParser.parse(key, css);
+        putCached(key, new CachedStylesheet(key, stylesheet, css.length(), Instant.MAX));
+        return stylesheet;
+    }
+
+    private CompletableFuture<Stylesheet> externalStylesheet(String url) {
+        CachedStylesheet cached = getCached(url);
+        if (cached != null && Instant.now().isBefore(cached.revalidateAt())) {
+            return CompletableFuture.completedFuture(cached.stylesheet());
+        }
+
+        CompletableFuture<Stylesheet> load = new CompletableFuture<>();
+        CompletableFuture<Stylesheet> existing = inFlight.putIfAbsent(url, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        htmlFetcher.fetchAsync(url, ACCEPT_CSS)
+                .thenApply(css -> {
+                    String validator = StylesheetParser.digest(css);
+                    Instant revalidateAt = Instant.now().plus(revalidateAfter);
+
+                    if (cached != null && cached.validator().equals(validator)) {
+                        putCached(url, new CachedStylesheet(validator, cached.stylesheet(), cached.chars(), revalidateAt));
+                        return cached.stylesheet();
+                    }
+
+                    Stylesheet stylesheet = StylesheetParser.parse(url, css);
+                    putCached(url, new CachedStylesheet(validator, stylesheet, css.length(), revalidateAt));
+                    return stylesheet;
+                })
+                .exceptionally(e -> {
+                    logger.debug("Could not load stylesheet {}: {}", url, e.getMessage());
+                    return cached == null ? null : cached.stylesheet();
+                })
+                .whenComplete((stylesheet, _) -> {
+                    inFlight.remove(url, load);
+                    load.complete(stylesheet);
+                });
+        return load;
+    }
+
+    private synchronized CachedStylesheet getCached(String key) {
+        return cache.get(key);
+    }
+
+    private synchronized void putCached(String key, CachedStylesheet stylesheet) {
+        if (stylesheet.chars() > maximumCachedChars) {
+            return;
+        }
+
+        CachedStylesheet previous = cache.put(key, stylesheet);
+        cachedChars += stylesheet.chars() - (previous == null ? 0 : previous.chars());
+
+        Iterator<CachedStylesheet> eldest = cache.values().iterator();
+        while (cachedChars > maximumCachedChars && eldest.hasNext()) {
+            cachedChars -= eldest.next().chars();
+            eldest.remove();
+        }
+    }
+
+    private static boolean isStylesheetLink(Element element) {
+        for (String rel : element.attr("rel").toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (rel.equals("stylesheet")) {
+                return !element.attr("rel").toLowerCase(Locale.ROOT).contains("alternate");
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPrintOnly(Element element) {
+        String media = element.attr("media").toLowerCase(Locale.ROOT).trim();
+        return media.equals("print");
+    }
+
+    private static URI baseUriOf(Document document, String pageUrl) {
+        try {
+            URI pageUri = new URI(pageUrl);
+            for (Element base : document.getElementsByTag("base")) {
+                String href = base.attr("href").trim();
+                if (!href.isEmpty()) {
+                    return pageUri.resolve(href);
+                }
+            }
+            return pageUri;
+        } catch (Exception _) {
+            return null;
+        }
+    }
+
+    private static String resolve(URI baseUri, String href) {
+        if (href.isBlank()) {
+            return null;
+        }
+        try {
+            URI resolved = baseUri.resolve(href.trim());
+            String scheme = resolved.getScheme();
+            return "http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme) ? resolved.toString() : null;
+        } catch (IllegalArgumentException _) {
+            return null;
+        }
+    }
+
+    private record CachedStylesheet(String validator, Stylesheet stylesheet, long chars, Instant revalidateAt) {}
+
+}
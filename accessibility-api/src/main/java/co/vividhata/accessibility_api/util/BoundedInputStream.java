@@ -0,0 +1,47 @@
+package co.vividhata.accessibility_api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class BoundedInputStream extends InputStream {
+
+    private final InputStream in;
+    private final long maximumBytes;
+    private long read;
+
+    public BoundedInputStream(InputStream in, long maximumBytes) {
+        this.in = in;
+        this.maximumBytes = maximumBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = in.read(buffer, offset, length);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void count(int n) throws IOException {
+        read += n;
+        if (read > maximumBytes) {
+            throw new IOException("Response body is larger than " + maximumBytes + " bytes");
+        }
+    }
+
+}
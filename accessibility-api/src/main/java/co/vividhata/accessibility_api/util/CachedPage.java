@@ -0,0 +1,15 @@
+package co.vividhata.accessibility_api.util;
+
+import java.time.Instant;
+
+public record CachedPage(String url, String etag, String lastModified, Instant expires, String html) {
+
+    public boolean isFresh(Instant now) {
+        return now.isBefore(expires);
+    }
+
+    public CachedPage withExpires(Instant expires) {
+        return new CachedPage(url, etag, lastModified, expires, html);
+    }
+
+}
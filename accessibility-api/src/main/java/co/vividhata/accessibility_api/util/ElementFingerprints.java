@@ -0,0 +1,165 @@
+package co.vividhata.accessibility_api.util;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class ElementFingerprints {
+
+    private static final String USER_DATA_KEY = "elementFingerprint";
+    private static final String DETACHED_CHILDREN_KEY = "detachedChildrenHash";
+    private static final String DETACHED_ELEMENTS_KEY = "detachedElementCount";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long ELEMENT_MARKER = 1;
+    private static final long TEXT_MARKER = 2;
+    private static final long COMMENT_MARKER = 3;
+
+    public static void compute(Document document) {
+        Element root = document.firstElementChild();
+        if (root != null) {
+            compute(root);
+        }
+    }
+
+    public static long of(Element element) {
+        Object fingerprint = element.attributes().userData(USER_DATA_KEY);
+        if (fingerprint instanceof Long value) {
+            return value;
+        }
+        return compute(element);
+    }
+
+    public static long[] collect(Document document) {
+        Elements elements = ElementTraversal.allElements(document);
+        long[] fingerprints = new long[elements.size()];
+
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = of(elements.get(i));
+        }
+
+        Arrays.sort(fingerprints);
+        return fingerprints;
+    }
+
+    public static byte[] toBytes(long[] fingerprints) {
+        ByteBuffer buffer = ByteBuffer.allocate(fingerprints.length * Long.BYTES);
+        buffer.asLongBuffer().put(fingerprints);
+        return buffer.array();
+    }
+
+    public static long[] fromBytes(byte[] bytes) {
+        long[] fingerprints = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(fingerprints);
+        return fingerprints;
+    }
+
+    public static void detachThrough(Element child) {
+        Element parent = child.parent();
+        if (parent == null) {
+            return;
+        }
+
+        long hash = partialHash(parent);
+        int detachedElements = detachedElementCount(parent);
+        Node node = parent.firstChild();
+        while (node != null) {
+            hash = combine(hash, node);
+            if (node instanceof Element) {
+                detachedElements++;
+            }
+            if (node == child) {
+                break;
+            }
+            node = node.nextSibling();
+        }
+        parent.attributes().userData(DETACHED_CHILDREN_KEY, hash);
+        parent.attributes().userData(DETACHED_ELEMENTS_KEY, detachedElements);
+
+        if (child == parent.lastChild()) {
+            parent.empty();
+            return;
+        }
+        while (parent.firstChild() != child) {
+            parent.firstChild().remove();
+        }
+        child.remove();
+    }
+
+    public static int detachedElementCount(Element parent) {
+        Object detachedElements = parent.attributes().userData(DETACHED_ELEMENTS_KEY);
+        return detachedElements instanceof Integer value ? value : 0;
+    }
+
+    private static long compute(Element element) {
+        long hash = partialHash(element);
+        for (Node child = element.firstChild(); child != null; child = child.nextSibling()) {
+            hash = combine(hash, child);
+        }
+
+        long fingerprint = mix(hash);
+        element.attributes().userData(USER_DATA_KEY, fingerprint);
+        return fingerprint;
+    }
+
+    private static long partialHash(Element element) {
+        Object detachedChildren = element.attributes().userData(DETACHED_CHILDREN_KEY);
+        if (detachedChildren instanceof Long value) {
+            return value;
+        }
+
+        long hash = combine(FNV_OFFSET_BASIS, ELEMENT_MARKER);
+        hash = combine(hash, hash(element.tagName()));
+
+        long attributesHash = 0;
+        for (Attribute attribute : element.attributes()) {
+            attributesHash += mix(combine(hash(attribute.getKey()), hash(attribute.getValue())));
+        }
+        return combine(hash, attributesHash);
+    }
+
+    private static long combine(long hash, Node child) {
+        return switch (child) {
+            case Element childElement -> combine(hash, of(childElement));
+            case TextNode text -> combine(combine(hash, TEXT_MARKER), hash(text.getWholeText()));
+            case DataNode data -> combine(combine(hash, TEXT_MARKER), hash(data.getWholeData()));
+            case Comment comment -> combine(combine(hash, COMMENT_MARKER), hash(comment.getData()));
+            default -> hash;
+        };
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        if (value == null) {
+            return hash;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long combine(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
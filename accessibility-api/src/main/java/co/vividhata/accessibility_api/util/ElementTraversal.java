@@ -0,0 +1,14 @@
+package co.vividhata.accessibility_api.util;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+public class ElementTraversal {
+
+    public static Elements allElements(Document document) {
+        Element root = document.firstElementChild();
+        return root == null ? new Elements() : root.getAllElements();
+    }
+
+}
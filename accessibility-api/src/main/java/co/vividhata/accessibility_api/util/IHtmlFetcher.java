@@ -1,10 +1,53 @@
 package co.vividhata.accessibility_api.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 public interface IHtmlFetcher {
 
-    String fetchFrom(String url) throws URISyntaxException, IOException, IllegalArgumentException;
+    CompletableFuture<String> fetchAsync(String url);
+
+    default CompletableFuture<String> fetchAsync(String url, String accept) {
+        return fetchAsync(url);
+    }
+
+    default CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+        return fetchAsync(url).thenApply(body ->
+                new BoundedInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), maximumBytes));
+    }
+
+    default String cachedHtml(String url) {
+        return null;
+    }
+
+    default String fetchFrom(String url) throws URISyntaxException, IOException, IllegalArgumentException {
+        return await(url, fetchAsync(url));
+    }
+
+    default InputStream fetchStreamFrom(String url, long maximumBytes) throws URISyntaxException, IOException, IllegalArgumentException {
+        return await(url, fetchStreamAsync(url, maximumBytes));
+    }
+
+    private static <T> T await(String url, CompletableFuture<T> fetch) throws URISyntaxException, IOException {
+        try {
+            return fetch.get();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Fetch of " + url + " was interrupted");
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case URISyntaxException cause -> throw cause;
+                case IOException cause -> throw cause;
+                case RuntimeException cause -> throw cause;
+                default -> throw new IOException(e.getCause());
+            }
+        }
+    }
 
 }
@@ -1,9 +1,14 @@
 package co.vividhata.accessibility_api.util;
 
-import org.w3c.dom.Document;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.stream.Stream;
 
 public interface IHtmlParser {
 
     Document parse(String html);
 
+    Stream<Element> stream(String html);
+
 }
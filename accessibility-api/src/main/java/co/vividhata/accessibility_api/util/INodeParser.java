@@ -1,9 +1,15 @@
 package co.vividhata.accessibility_api.util;
 
-import org.w3c.dom.Node;
+import co.vividhata.accessibility_api.model.IssueLocation;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
 
 public interface INodeParser {
 
     String nodeToHtml(Node node);
 
+    IssueLocation locate(Element element);
+
+    String locationToHtml(String html, IssueLocation location);
+
 }
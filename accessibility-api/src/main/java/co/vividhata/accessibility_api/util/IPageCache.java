@@ -0,0 +1,9 @@
+package co.vividhata.accessibility_api.util;
+
+public interface IPageCache {
+
+    CachedPage get(String url);
+
+    void put(CachedPage page);
+
+}
@@ -0,0 +1,112 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+public class PriorityLanes<T> {
+
+    private final long agingNanos;
+    private final LongSupplier clock;
+    private final List<Deque<Entry<T>>> lanes = new ArrayList<>();
+    private int size;
+
+    public PriorityLanes(Duration aging) {
+        this(aging, System::nanoTime);
+    }
+
+    PriorityLanes(Duration aging, LongSupplier clock) {
+        this.agingNanos = Math.max(1, aging.toNanos());
+        this.clock = clock;
+        for (int i = 0; i < ScanPriority.values().length; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+    }
+
+    public void add(ScanPriority priority, T item) {
+        lanes.get(priority.lane()).addLast(new Entry<>(item, clock.getAsLong()));
+        size++;
+    }
+
+    public T poll() {
+        Deque<Entry<T>> lane = nextLane();
+        if (lane == null) {
+            return null;
+        }
+
+        size--;
+        return lane.removeFirst().item();
+    }
+
+    public long rank() {
+        Deque<Entry<T>> lane = nextLane();
+        return lane == null ? Long.MAX_VALUE : rank(lanes.indexOf(lane), lane.peekFirst(), clock.getAsLong());
+    }
+
+    public boolean remove(T item) {
+        for (Deque<Entry<T>> lane : lanes) {
+            if (lane.removeIf(entry -> entry.item() == item)) {
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<T> drain() {
+        List<T> items = new ArrayList<>(size);
+        for (Deque<Entry<T>> lane : lanes) {
+            for (Entry<T> entry : lane) {
+                items.add(entry.item());
+            }
+            lane.clear();
+        }
+        size = 0;
+        return items;
+    }
+
+    public int size(ScanPriority priority) {
+        return lanes.get(priority.lane()).size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Deque<Entry<T>> nextLane() {
+        long now = clock.getAsLong();
+        Deque<Entry<T>> best = null;
+        long bestRank = Long.MAX_VALUE;
+
+        for (int i = 0; i < lanes.size(); i++) {
+            Deque<Entry<T>> lane = lanes.get(i);
+            if (lane.isEmpty()) {
+                continue;
+            }
+
+            long rank = rank(i, lane.peekFirst(), now);
+            if (rank < bestRank) {
+                best = lane;
+                bestRank = rank;
+            }
+        }
+
+        return best;
+    }
+
+    private long rank(int lane, Entry<T> head, long now) {
+        return lane - (now - head.enqueuedAt()) / agingNanos;
+    }
+
+    private record Entry<T>(T item, long enqueuedAt) {}
+
+}
@@ -0,0 +1,19 @@
+package co.vividhata.accessibility_api.util;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class RetryAfterException extends IOException {
+
+    private final Duration retryAfter;
+
+    public RetryAfterException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -0,0 +1,333 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import co.vividhata.accessibility_api.util.BoundedInputStream;
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import co.vividhata.accessibility_api.util.RetryAfterException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+@Service
+public class ArchiveHtmlFetcher implements IHtmlFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveHtmlFetcher.class);
+
+    private static final int MAGIC = 0x48464132;
+    private static final byte PAGE = 0;
+    private static final byte FAILURE = 1;
+    private static final byte STREAM = 2;
+    private static final byte STREAM_FAILURE = 3;
+
+    private final IHtmlFetcher htmlFetcher;
+    private final Mode mode;
+    private final long latencyMillis;
+
+    private FileChannel recording;
+    private MappedByteBuffer archive;
+    private final Map<String, Integer> offsets = new HashMap<>();
+    private final Map<String, Integer> streamOffsets = new HashMap<>();
+
+    public ArchiveHtmlFetcher(
+            @Qualifier("httpClientHtmlFetcher") IHtmlFetcher htmlFetcher,
+            @Value("${scan.fetch.archive.mode:off}") String mode,
+            @Value("${scan.fetch.archive.file:fetch-archive.bin}") String file,
+            @Value("${scan.fetch.archive.replay-latency-ms:0}") long latencyMillis
+    ) throws IOException {
+        this.htmlFetcher = htmlFetcher;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.latencyMillis = latencyMillis;
+
+        switch (this.mode) {
+            case RECORD -> openRecording(Path.of(file));
+            case REPLAY -> openReplay(Path.of(file));
+            case OFF -> { }
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        return fetchPage(url, () -> htmlFetcher.fetchAsync(url));
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url, String accept) {
+        return fetchPage(url, () -> htmlFetcher.fetchAsync(url, accept));
+    }
+
+    private CompletableFuture<String> fetchPage(String url, Supplier<CompletableFuture<String>> live) {
+        return switch (mode) {
+            case OFF -> live.get();
+            case RECORD -> live.get().whenComplete((html, error) ->
+                    record(url, PAGE, FAILURE, html == null ? null : html.getBytes(StandardCharsets.UTF_8), error));
+            case REPLAY -> replay(url, offsets, body -> new String(body, StandardCharsets.UTF_8));
+        };
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+        return switch (mode) {
+            case OFF -> htmlFetcher.fetchStreamAsync(url, maximumBytes);
+            case RECORD -> htmlFetcher.fetchStreamAsync(url, maximumBytes)
+                    .thenApply(ArchiveHtmlFetcher::readFully)
+                    .whenComplete((body, error) -> record(url, STREAM, STREAM_FAILURE, body, error))
+                    .thenApply(ByteArrayInputStream::new);
+            case REPLAY -> replay(url, streamOffsets, body -> new BoundedInputStream(new ByteArrayInputStream(body), maximumBytes));
+        };
+    }
+
+    @Override
+    public String cachedHtml(String url) {
+        return switch (mode) {
+            case OFF -> htmlFetcher.cachedHtml(url);
+            case RECORD -> {
+                String html = htmlFetcher.cachedHtml(url);
+                if (html != null) {
+                    record(url, PAGE, FAILURE, html.getBytes(StandardCharsets.UTF_8), null);
+                }
+                yield html;
+            }
+            case REPLAY -> null;
+        };
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void openRecording(Path file) throws IOException {
+        recording = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (recording.size() == 0) {
+            recording.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC));
+        }
+        logger.info("Recording fetched pages to {}", file.toAbsolutePath());
+    }
+
+    private void openReplay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Fetch archive " + file + " is larger than 2GB");
+            }
+            archive = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (archive.limit() < Integer.BYTES || archive.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a fetch archive");
+        }
+
+        int position = Integer.BYTES;
+        while (position < archive.limit()) {
+            int end = entryEnd(position);
+            if (end == -1) {
+                logger.warn("Ignoring truncated entry at offset {} of {}", position, file);
+                break;
+            }
+            int urlLength = archive.getInt(position);
+            byte kind = archive.get(position + Integer.BYTES + urlLength);
+            Map<String, Integer> entries = kind == STREAM || kind == STREAM_FAILURE ? streamOffsets : offsets;
+            entries.put(readString(position + Integer.BYTES, urlLength), position);
+            position = end;
+        }
+        logger.info("Replaying {} fetched pages and {} sitemaps from {}", offsets.size(), streamOffsets.size(), file.toAbsolutePath());
+    }
+
+    private void record(String url, byte success, byte failure, byte[] value, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        byte kind = cause == null ? success : failure;
+        byte[] body = cause == null ? value : Failure.describe(cause).getBytes(StandardCharsets.UTF_8);
+        byte[] urlBytes = url.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = deflate(body);
+
+        ByteBuffer entry = ByteBuffer.allocate(3 * Integer.BYTES + urlBytes.length + 1 + stored.length)
+                .putInt(urlBytes.length)
+                .put(urlBytes)
+                .put(kind)
+                .putInt(body.length)
+                .putInt(stored.length)
+                .put(stored)
+                .flip();
+
+        synchronized (this) {
+            try {
+                while (entry.hasRemaining()) {
+                    recording.write(entry);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not record {}: {}", url, e.getMessage());
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> replay(String url, Map<String, Integer> offsets, Function<byte[], T> decode) {
+        Integer offset = offsets.get(url);
+        if (offset == null) {
+            return CompletableFuture.failedFuture(new IOException("No archived response for " + url));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable complete = () -> {
+            try {
+                int position = offset + Integer.BYTES + archive.getInt(offset);
+                byte kind = archive.get(position);
+                int bodyLength = archive.getInt(position + 1);
+                int storedLength = archive.getInt(position + 1 + Integer.BYTES);
+                byte[] stored = new byte[storedLength];
+                archive.get(position + 1 + 2 * Integer.BYTES, stored);
+
+                byte[] body = inflate(stored, bodyLength);
+                if (kind == FAILURE || kind == STREAM_FAILURE) {
+                    result.completeExceptionally(Failure.rebuild(url, new String(body, StandardCharsets.UTF_8)));
+                } else {
+                    result.complete(decode.apply(body));
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        if (latencyMillis > 0) {
+            CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS).execute(complete);
+        } else {
+            complete.run();
+        }
+        return result;
+    }
+
+    private int entryEnd(int position) {
+        long lengthsAt = position + (long) Integer.BYTES;
+        if (lengthsAt > archive.limit()) {
+            return -1;
+        }
+
+        int urlLength = archive.getInt(position);
+        lengthsAt += urlLength + 1L;
+        if (urlLength < 0 || lengthsAt + 2 * Integer.BYTES > archive.limit()) {
+            return -1;
+        }
+
+        int storedLength = archive.getInt((int) lengthsAt + Integer.BYTES);
+        long end = lengthsAt + 2 * Integer.BYTES + storedLength;
+        return storedLength < 0 || end > archive.limit() ? -1 : (int) end;
+    }
+
+    private String readString(int position, int length) {
+        byte[] bytes = new byte[length];
+        archive.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readFully(InputStream stream) {
+        try (stream) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream stored = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                stored.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return stored.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(body, read, length - read);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length) {
+                throw new UncheckedIOException(new IOException("Archived response is corrupt"));
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Archived response is corrupt", e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private enum Mode { OFF, RECORD, REPLAY }
+
+    private enum Failure {
+        IO, URI_SYNTAX, ILLEGAL_ARGUMENT, RETRY_AFTER;
+
+        private static String describe(Throwable cause) {
+            Failure failure = switch (cause) {
+                case RetryAfterException _ -> RETRY_AFTER;
+                case URISyntaxException _ -> URI_SYNTAX;
+                case IllegalArgumentException _ -> ILLEGAL_ARGUMENT;
+                default -> IO;
+            };
+            String detail = switch (cause) {
+                case RetryAfterException retryAfterException -> String.valueOf(retryAfterException.getRetryAfter().toMillis());
+                case URISyntaxException uriSyntaxException -> uriSyntaxException.getReason();
+                default -> "";
+            };
+            return failure.name() + "\n" + detail + "\n" + cause.getMessage();
+        }
+
+        private static Exception rebuild(String url, String description) {
+            String[] parts = description.split("\n", 3);
+            if (parts.length < 3) {
+                return new IOException(description);
+            }
+
+            String message = parts[2];
+            return switch (valueOf(parts[0])) {
+                case IO -> new IOException(message);
+                case URI_SYNTAX -> new URISyntaxException(url, parts[1]);
+                case ILLEGAL_ARGUMENT -> new IllegalArgumentException(message);
+                case RETRY_AFTER -> new RetryAfterException(message, Duration.ofMillis(Long.parseLong(parts[1])));
+            };
+        }
+    }
+
+}
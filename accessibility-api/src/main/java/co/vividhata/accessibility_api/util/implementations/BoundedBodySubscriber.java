@@ -0,0 +1,86 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+class BoundedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private final int maximumBytes;
+    private final long contentLength;
+    private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+    private byte[] buffer;
+    private int size;
+
+    BoundedBodySubscriber(int maximumBytes, long contentLength) {
+        this.maximumBytes = maximumBytes;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public CompletionStage<byte[]> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+
+        if (contentLength > maximumBytes) {
+            fail();
+            return;
+        }
+
+        buffer = new byte[contentLength > 0 ? (int) contentLength : Math.min(INITIAL_CAPACITY, maximumBytes)];
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        if (body.isDone()) {
+            return;
+        }
+
+        for (ByteBuffer item : items) {
+            int remaining = item.remaining();
+            if (remaining > maximumBytes - size) {
+                fail();
+                return;
+            }
+
+            if (size + remaining > buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maximumBytes, Math.max(size + remaining, 2L * buffer.length)));
+            }
+            item.get(buffer, size, remaining);
+            size += remaining;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (body.isDone()) {
+            return;
+        }
+        body.complete(size == buffer.length ? buffer : Arrays.copyOf(buffer, size));
+    }
+
+    private void fail() {
+        subscription.cancel();
+        body.completeExceptionally(new IOException("Response body is larger than " + maximumBytes + " bytes"));
+    }
+
+}
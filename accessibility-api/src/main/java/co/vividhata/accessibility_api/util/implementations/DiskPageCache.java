@@ -0,0 +1,221 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import co.vividhata.accessibility_api.util.CachedPage;
+import co.vividhata.accessibility_api.util.IPageCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+public class DiskPageCache implements IPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskPageCache.class);
+
+    private static final String PAGE_SUFFIX = ".page";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maximumBytes;
+
+    private final LinkedHashMap<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public DiskPageCache(
+            @Value("${scan.fetch.cache.enabled:true}") boolean enabled,
+            @Value("${scan.fetch.cache.directory:${java.io.tmpdir}/accessibility-api-page-cache}") String directory,
+            @Value("${scan.fetch.cache.max-bytes:268435456}") long maximumBytes
+    ) {
+        this.directory = Path.of(directory);
+        this.maximumBytes = maximumBytes;
+        this.enabled = enabled && load();
+    }
+
+    @Override
+    public CachedPage get(String url) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = keyOf(url);
+        synchronized (this) {
+            if (entrySizes.get(key) == null) {
+                return null;
+            }
+        }
+
+        Path file = directory.resolve(key + PAGE_SUFFIX);
+        try {
+            CachedPage page = read(Files.readAllBytes(file));
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return url.equals(page.url()) ? page : null;
+        } catch (IOException e) {
+            logger.warn("Could not read cached page for {}: {}", url, e.getMessage());
+            synchronized (this) {
+                remove(key);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void put(CachedPage page) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = keyOf(page.url());
+        try {
+            byte[] bytes = write(page);
+            if (bytes.length > maximumBytes) {
+                synchronized (this) {
+                    remove(key);
+                }
+                return;
+            }
+
+            Path temporaryFile = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            Files.write(temporaryFile, bytes);
+            Files.move(temporaryFile, directory.resolve(key + PAGE_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (this) {
+                Long previousSize = entrySizes.put(key, (long) bytes.length);
+                totalBytes += bytes.length - (previousSize == null ? 0 : previousSize);
+                evict();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not cache page {}: {}", page.url(), e.getMessage());
+            synchronized (this) {
+                remove(key);
+            }
+        }
+    }
+
+    private boolean load() {
+        try {
+            Files.createDirectories(directory);
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.toList();
+            }
+
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+
+            List<Path> pages = files.stream()
+                    .filter(file -> file.getFileName().toString().endsWith(PAGE_SUFFIX))
+                    .sorted(Comparator.comparing(DiskPageCache::lastModified))
+                    .toList();
+
+            synchronized (this) {
+                for (Path page : pages) {
+                    String fileName = page.getFileName().toString();
+                    long size = Files.size(page);
+                    entrySizes.put(fileName.substring(0, fileName.length() - PAGE_SUFFIX.length()), size);
+                    totalBytes += size;
+                }
+                evict();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Page cache in {} is disabled: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = entrySizes.entrySet().iterator();
+        while (totalBytes > maximumBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            deleteFile(entry.getKey());
+        }
+    }
+
+    private void remove(String key) {
+        Long size = entrySizes.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+            deleteFile(key);
+        }
+    }
+
+    private void deleteFile(String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + PAGE_SUFFIX));
+        } catch (IOException e) {
+            logger.warn("Could not delete cached page {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static byte[] write(CachedPage page) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(page.html().length() + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(page.url());
+            out.writeUTF(page.etag() == null ? "" : page.etag());
+            out.writeUTF(page.lastModified() == null ? "" : page.lastModified());
+            out.writeLong(page.expires().toEpochMilli());
+
+            byte[] html = page.html().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(html.length);
+            out.write(html);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CachedPage read(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String url = in.readUTF();
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            Instant expires = Instant.ofEpochMilli(in.readLong());
+            byte[] html = in.readNBytes(in.readInt());
+
+            return new CachedPage(url, etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified, expires, new String(html, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String keyOf(String url) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException _) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import co.vividhata.accessibility_api.util.RetryAfterException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Service
+@Primary
+public class HostScheduledHtmlFetcher implements IHtmlFetcher {
+
+    private final IHtmlFetcher htmlFetcher;
+    private final int maximumInFlight;
+    private final int originConcurrency;
+    private final long originDelayNanos;
+    private final long maximumRetryAfterNanos;
+
+    private final Map<String, Origin> origins = new HashMap<>();
+    private final Deque<Origin> roundRobin = new ArrayDeque<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("fetch-scheduler").factory());
+    private final ExecutorService starter = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fetch-start-", 0).factory());
+    private int running;
+    private long nextWakeUp = Long.MAX_VALUE;
+
+    public HostScheduledHtmlFetcher(
+            @Qualifier("archiveHtmlFetcher") IHtmlFetcher htmlFetcher,
+            @Value("${scan.fetch.max-in-flight:64}") int maximumInFlight,
+            @Value("${scan.fetch.origin-max-in-flight:2}") int originConcurrency,
+            @Value("${scan.fetch.origin-delay-ms:500}") long originDelayMillis,
+            @Value("${scan.fetch.max-retry-after-seconds:60}") long maximumRetryAfterSeconds
+    ) {
+        this.htmlFetcher = htmlFetcher;
+        this.maximumInFlight = maximumInFlight;
+        this.originConcurrency = originConcurrency;
+        this.originDelayNanos = TimeUnit.MILLISECONDS.toNanos(originDelayMillis);
+        this.maximumRetryAfterNanos = TimeUnit.SECONDS.toNanos(maximumRetryAfterSeconds);
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        return fetchPage(url, () -> htmlFetcher.fetchAsync(url));
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url, String accept) {
+        return fetchPage(url, () -> htmlFetcher.fetchAsync(url, accept));
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+        return schedule(url, () -> htmlFetcher.fetchStreamAsync(url, maximumBytes));
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        starter.shutdownNow();
+
+        List<PendingFetch<?>> abandoned = new ArrayList<>();
+        synchronized (this) {
+            for (Origin origin : origins.values()) {
+                abandoned.addAll(origin.pending);
+                origin.pending.clear();
+            }
+        }
+        abandoned.forEach(fetch -> fetch.result.completeExceptionally(new IOException("Fetch scheduler stopped")));
+    }
+
+    private CompletableFuture<String> fetchPage(String url, Supplier<CompletableFuture<String>> request) {
+        String cachedHtml = htmlFetcher.cachedHtml(url);
+        if (cachedHtml != null) {
+            return CompletableFuture.completedFuture(cachedHtml);
+        }
+
+        return schedule(url, request);
+    }
+
+    private <T> CompletableFuture<T> schedule(String url, Supplier<CompletableFuture<T>> request) {
+        String origin;
+        try {
+            origin = originOf(url);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        PendingFetch<T> fetch = new PendingFetch<>(request);
+        List<Start> starts;
+        synchronized (this) {
+            Origin queue = origins.computeIfAbsent(origin, _ -> new Origin());
+            queue.pending.addLast(fetch);
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                roundRobin.addLast(queue);
+            }
+            starts = dispatch();
+        }
+        start(starts);
+
+        return fetch.result;
+    }
+
+    private List<Start> dispatch() {
+        List<Start> starts = new ArrayList<>();
+        long now = System.nanoTime();
+        long earliestStart = Long.MAX_VALUE;
+
+        for (int checked = 0; running < maximumInFlight && checked < roundRobin.size(); ) {
+            Origin origin = roundRobin.peekFirst();
+
+            if (origin.pending.isEmpty()) {
+                roundRobin.removeFirst();
+                origin.scheduled = false;
+                continue;
+            }
+
+            roundRobin.addLast(roundRobin.removeFirst());
+            if (origin.running >= originConcurrency) {
+                checked++;
+                continue;
+            }
+            if (origin.nextStart - now > 0) {
+                earliestStart = Math.min(earliestStart, origin.nextStart);
+                checked++;
+                continue;
+            }
+
+            PendingFetch<?> fetch = origin.pending.removeFirst();
+            origin.running++;
+            origin.nextStart = now + originDelayNanos;
+            running++;
+            checked = 0;
+            starts.add(new Start(origin, fetch));
+        }
+
+        origins.values().removeIf(origin -> !origin.scheduled && origin.running == 0 && origin.nextStart - now <= 0);
+        scheduleWakeUp(earliestStart, now);
+        return starts;
+    }
+
+    private void start(List<Start> starts) {
+        for (Start start : starts) {
+            try {
+                starter.execute(() -> begin(start.origin, start.fetch));
+            } catch (RejectedExecutionException _) {
+                start.fetch.result.completeExceptionally(new IOException("Fetch scheduler stopped"));
+            }
+        }
+    }
+
+    private <T> void begin(Origin origin, PendingFetch<T> fetch) {
+        CompletableFuture<T> request;
+        try {
+            request = fetch.request.get();
+        } catch (RuntimeException e) {
+            finish(origin, fetch, null, e);
+            return;
+        }
+
+        if (request == null) {
+            finish(origin, fetch, null, new IOException("Fetcher returned no result"));
+            return;
+        }
+        request.whenComplete((value, error) -> finish(origin, fetch, value, error));
+    }
+
+    private <T> void finish(Origin origin, PendingFetch<T> fetch, T value, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        boolean retry = false;
+
+        List<Start> starts;
+        synchronized (this) {
+            origin.running--;
+            running--;
+
+            if (cause instanceof RetryAfterException retryAfterException) {
+                long retryAfterNanos = retryAfterException.getRetryAfter().toNanos();
+                long now = System.nanoTime();
+                if (now + retryAfterNanos - origin.nextStart > 0) {
+                    origin.nextStart = now + Math.min(retryAfterNanos, maximumRetryAfterNanos);
+                }
+
+                retry = !fetch.retried && retryAfterNanos <= maximumRetryAfterNanos;
+                if (retry) {
+                    fetch.retried = true;
+                    origin.pending.addFirst(fetch);
+                    if (!origin.scheduled) {
+                        origin.scheduled = true;
+                        roundRobin.addLast(origin);
+                    }
+                }
+            }
+
+            starts = dispatch();
+        }
+
+        if (!retry) {
+            if (error != null) {
+                fetch.result.completeExceptionally(cause);
+            } else {
+                fetch.result.complete(value);
+            }
+        }
+        start(starts);
+    }
+
+    private void scheduleWakeUp(long earliestStart, long now) {
+        if (earliestStart == Long.MAX_VALUE || (nextWakeUp != Long.MAX_VALUE && nextWakeUp - earliestStart <= 0)) {
+            return;
+        }
+
+        nextWakeUp = earliestStart;
+        timer.schedule(this::wakeUp, earliestStart - now, TimeUnit.NANOSECONDS);
+    }
+
+    private void wakeUp() {
+        List<Start> starts;
+        synchronized (this) {
+            nextWakeUp = Long.MAX_VALUE;
+            starts = dispatch();
+        }
+        start(starts);
+    }
+
+    private static String originOf(String url) throws URISyntaxException {
+        URI uri = new URI(url);
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException("URL has no scheme or host: " + url);
+        }
+        return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + uri.getPort();
+    }
+
+    private static class Origin {
+        private final Deque<PendingFetch<?>> pending = new ArrayDeque<>();
+        private int running;
+        private long nextStart = System.nanoTime();
+        private boolean scheduled;
+    }
+
+    private record Start(Origin origin, PendingFetch<?> fetch) {}
+
+    private static class PendingFetch<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private boolean retried;
+
+        private PendingFetch(Supplier<CompletableFuture<T>> request) {
+            this.request = request;
+        }
+    }
+
+}
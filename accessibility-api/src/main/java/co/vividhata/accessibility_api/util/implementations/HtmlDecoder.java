@@ -0,0 +1,118 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import co.vividhata.accessibility_api.util.BoundedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+final class HtmlDecoder {
+
+    private static final int SNIFF_BYTES = 1024;
+    private static final Pattern CONTENT_TYPE_CHARSET = Pattern.compile("charset\\s*=\\s*[\"']?([^\\s\"';]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern META_CHARSET = Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?\\s*([^\\s\"'/>;]+)", Pattern.CASE_INSENSITIVE);
+
+    private HtmlDecoder() {}
+
+    static String decode(byte[] body, HttpHeaders headers, int maximumBytes) throws IOException {
+        byte[] bytes = decompress(body, headers.firstValue("Content-Encoding").orElse(""), maximumBytes);
+
+        if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) {
+            return new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        }
+        if (startsWith(bytes, 0xFE, 0xFF)) {
+            return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16BE);
+        }
+        if (startsWith(bytes, 0xFF, 0xFE)) {
+            return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16LE);
+        }
+
+        Charset charset = charsetIn(CONTENT_TYPE_CHARSET, headers.firstValue("Content-Type").orElse(""));
+        if (charset == null) {
+            charset = charsetIn(META_CHARSET, new String(bytes, 0, Math.min(bytes.length, SNIFF_BYTES), StandardCharsets.ISO_8859_1));
+        }
+
+        return new String(bytes, charset == null ? StandardCharsets.UTF_8 : charset);
+    }
+
+    static InputStream decompressing(byte[] body, HttpHeaders headers, long maximumBytes) throws IOException {
+        String contentEncoding = headers.firstValue("Content-Encoding").orElse("");
+        InputStream in = new ByteArrayInputStream(body);
+        InputStream decoded = switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "", "identity" -> in;
+            case "gzip", "x-gzip" -> new GZIPInputStream(in);
+            case "deflate" -> new InflaterInputStream(in, new Inflater(!isZlib(body)));
+            default -> throw new IOException("Unsupported content encoding " + contentEncoding);
+        };
+        return new BoundedInputStream(decoded, maximumBytes);
+    }
+
+    private static byte[] decompress(byte[] body, String contentEncoding, int maximumBytes) throws IOException {
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "", "identity" -> body;
+            case "gzip", "x-gzip" -> readBounded(new GZIPInputStream(new ByteArrayInputStream(body)), maximumBytes);
+            case "deflate" -> inflate(body, maximumBytes);
+            default -> throw new IOException("Unsupported content encoding " + contentEncoding);
+        };
+    }
+
+    private static byte[] inflate(byte[] body, int maximumBytes) throws IOException {
+        try {
+            return readBounded(new InflaterInputStream(new ByteArrayInputStream(body), new Inflater()), maximumBytes);
+        } catch (ZipException _) {
+            return readBounded(new InflaterInputStream(new ByteArrayInputStream(body), new Inflater(true)), maximumBytes);
+        }
+    }
+
+    private static boolean isZlib(byte[] body) {
+        return body.length >= 2 && (body[0] & 0x0F) == 8 && ((body[0] & 0xFF) << 8 | (body[1] & 0xFF)) % 31 == 0;
+    }
+
+    private static byte[] readBounded(InputStream in, int maximumBytes) throws IOException {
+        try (in) {
+            byte[] bytes = in.readNBytes(maximumBytes);
+            if (in.read() != -1) {
+                throw new IOException("Decoded response body is larger than " + maximumBytes + " bytes");
+            }
+            return bytes;
+        }
+    }
+
+    private static Charset charsetIn(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        try {
+            return Charset.forName(matcher.group(1));
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException _) {
+            return null;
+        }
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
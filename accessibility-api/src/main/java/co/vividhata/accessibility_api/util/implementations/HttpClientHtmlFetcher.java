@@ -0,0 +1,241 @@
+package co.vividhata.accessibility_api.util.implementations;
+
+import co.vividhata.accessibility_api.util.CachedPage;
+import co.vividhata.accessibility_api.util.IHtmlFetcher;
+import co.vividhata.accessibility_api.util.IPageCache;
+import co.vividhata.accessibility_api.util.RetryAfterException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+public class HttpClientHtmlFetcher implements IHtmlFetcher {
+
+    private static final String ACCEPT_HTML = "text/html,application/xhtml+xml";
+    private static final Pattern MAX_AGE = Pattern.compile("max-age\\s*=\\s*\"?(\\d{1,10})", Pattern.CASE_INSENSITIVE);
+
+    private final IPageCache pageCache;
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final int maximumRedirects;
+    private final int maximumBodyBytes;
+
+    public HttpClientHtmlFetcher(
+            IPageCache pageCache,
+            @Value("${scan.fetch.connect-timeout-ms:5000}") long connectTimeoutMillis,
+            @Value("${scan.fetch.read-timeout-ms:15000}") long readTimeoutMillis,
+            @Value("${scan.fetch.max-redirects:5}") int maximumRedirects,
+            @Value("${scan.fetch.max-body-bytes:10485760}") int maximumBodyBytes
+    ) {
+        this.pageCache = pageCache;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.maximumRedirects = maximumRedirects;
+        this.maximumBodyBytes = maximumBodyBytes;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url) {
+        return fetchAsync(url, ACCEPT_HTML);
+    }
+
+    @Override
+    public CompletableFuture<String> fetchAsync(String url, String accept) {
+        try {
+            return fetch(new URI(url), accept, 0);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+        try {
+            return fetchStream(new URI(url), 0, maximumBytes);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public String cachedHtml(String url) {
+        CachedPage cachedPage = pageCache.get(url);
+        return cachedPage != null && cachedPage.isFresh(Instant.now()) ? cachedPage.html() : null;
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.shutdownNow();
+    }
+
+    private CompletableFuture<String> fetch(URI uri, String accept, int redirects) {
+        CachedPage cachedPage = pageCache.get(uri.toString());
+        if (cachedPage != null && cachedPage.isFresh(Instant.now())) {
+            return CompletableFuture.completedFuture(cachedPage.html());
+        }
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Accept", accept)
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET();
+        if (cachedPage != null && cachedPage.etag() != null) {
+            requestBuilder.header("If-None-Match", cachedPage.etag());
+        }
+        if (cachedPage != null && cachedPage.lastModified() != null) {
+            requestBuilder.header("If-Modified-Since", cachedPage.lastModified());
+        }
+        HttpRequest request = requestBuilder.build();
+
+        return httpClient.sendAsync(request, this::boundedBody)
+                .thenCompose(response -> handle(uri, accept, response, redirects, cachedPage));
+    }
+
+    private CompletableFuture<InputStream> fetchStream(URI uri, int redirects, long maximumBytes) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, this::boundedBody).thenCompose(response -> {
+            CompletableFuture<InputStream> redirectOrFailure =
+                    followOrFail(uri, response, redirects, location -> fetchStream(location, redirects + 1, maximumBytes));
+            if (redirectOrFailure != null) {
+                return redirectOrFailure;
+            }
+
+            try {
+                return CompletableFuture.completedFuture(HtmlDecoder.decompressing(response.body(), response.headers(), maximumBytes));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    private HttpResponse.BodySubscriber<byte[]> boundedBody(HttpResponse.ResponseInfo responseInfo) {
+        return new BoundedBodySubscriber(maximumBodyBytes, responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1));
+    }
+
+    private CompletableFuture<String> handle(URI uri, String accept, HttpResponse<byte[]> response, int redirects, CachedPage cachedPage) {
+        int status = response.statusCode();
+
+        if (status == 304 && cachedPage != null) {
+            Instant expires = expiresFrom(response.headers());
+            if (expires != null) {
+                pageCache.put(cachedPage.withExpires(expires));
+            }
+            return CompletableFuture.completedFuture(cachedPage.html());
+        }
+
+        CompletableFuture<String> redirectOrFailure = followOrFail(uri, response, redirects, location -> fetch(location, accept, redirects + 1));
+        if (redirectOrFailure != null) {
+            return redirectOrFailure;
+        }
+
+        String html;
+        try {
+            html = HtmlDecoder.decode(response.body(), response.headers(), maximumBodyBytes);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Instant expires = expiresFrom(response.headers());
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (expires != null && (etag != null || lastModified != null || expires.isAfter(Instant.now()))) {
+            pageCache.put(new CachedPage(uri.toString(), etag, lastModified, expires, html));
+        }
+
+        return CompletableFuture.completedFuture(html);
+    }
+
+    private <T> CompletableFuture<T> followOrFail(URI uri, HttpResponse<?> response, int redirects, Function<URI, CompletableFuture<T>> follow) {
+        int status = response.statusCode();
+
+        if (status >= 300 && status < 400) {
+            URI location;
+            try {
+                location = response.headers().firstValue("Location").map(uri::resolve).orElse(null);
+            } catch (IllegalArgumentException _) {
+                location = null;
+            }
+            if (location == null) {
+                return CompletableFuture.failedFuture(new IOException("Redirect from " + uri + " has no valid location"));
+            }
+            if (redirects >= maximumRedirects) {
+                return CompletableFuture.failedFuture(new IOException("Too many redirects from " + uri));
+            }
+            if ("https".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(location.getScheme())) {
+                return CompletableFuture.failedFuture(new IOException("Refusing to follow redirect from " + uri + " to " + location));
+            }
+            return follow.apply(location);
+        }
+
+        if ((status == 429 || status == 503) && response.headers().firstValue("Retry-After").isPresent()) {
+            Duration retryAfter = retryAfter(response.headers().firstValue("Retry-After").get());
+            return CompletableFuture.failedFuture(new RetryAfterException("Fetching " + uri + " returned status " + status, retryAfter));
+        }
+
+        if (status >= 400) {
+            return CompletableFuture.failedFuture(new IOException("Fetching " + uri + " returned status " + status));
+        }
+
+        return null;
+    }
+
+    private static Duration retryAfter(String value) {
+        String trimmed = value.trim();
+        if (!trimmed.isEmpty() && trimmed.length() <= 10 && trimmed.chars().allMatch(Character::isDigit)) {
+            return Duration.ofSeconds(Long.parseLong(trimmed));
+        }
+
+        try {
+            Duration untilDate = Duration.between(Instant.now(), ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException _) {
+            return Duration.ZERO;
+        }
+    }
+
+    private static Instant expiresFrom(HttpHeaders headers) {
+        String cacheControl = String.join(",", headers.allValues("Cache-Control")).toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store")) {
+            return null;
+        }
+
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        if (cacheControl.contains("no-cache") || !maxAge.find()) {
+            return Instant.now();
+        }
+
+        long age = headers.firstValueAsLong("Age").orElse(0);
+        return Instant.now().plusSeconds(Math.max(0, Long.parseLong(maxAge.group(1)) - age));
+    }
+
+}
@@ -1,21 +1,114 @@
 package co.vividhata.accessibility_api.util.implementations;
 
+import co.vividhata.accessibility_api.util.ElementFingerprints;
 import co.vividhata.accessibility_api.util.IHtmlParser;
-import org.jsoup.helper.W3CDom;
-import org.jsoup.parser.HtmlTreeBuilder;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.StringReader;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 @Service
 public class JSoupHtmlParser implements IHtmlParser {
 
-    Parser jsoupParser = new Parser(new HtmlTreeBuilder());
-    W3CDom w3CDom = new W3CDom();
+    private final int maximumRetainedElements;
+
+    public JSoupHtmlParser(@Value("${scan.parse.streaming.max-retained-elements:10000}") int maximumRetainedElements) {
+        this.maximumRetainedElements = maximumRetainedElements;
+    }
+
+    @Override
+    public Document parse(String html) {
+        Document document = Parser.htmlParser().setTrackPosition(true).parseInput(html, "");
+        ElementFingerprints.compute(document);
+        return document;
+    }
 
     @Override
-    public org.w3c.dom.Document parse(String html) {
-        org.jsoup.nodes.Document jsoupDocument = jsoupParser.parseInput(html, "");
-        return w3CDom.fromJsoup(jsoupDocument);
+    public Stream<Element> stream(String html) {
+        StreamParser streamParser = new StreamParser(Parser.htmlParser().setTrackPosition(true));
+        streamParser.parse(new StringReader(html), "");
+
+        ClosedElements closedElements = new ClosedElements(streamParser.iterator(), maximumRetainedElements);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(closedElements, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(streamParser::close);
+    }
+
+    private static class ClosedElements implements Iterator<Element> {
+
+        private final Iterator<Element> elements;
+        private final int maximumRetainedElements;
+        private final Map<Element, Integer> retainedElements = new IdentityHashMap<>();
+
+        private Element next;
+        private Element previous;
+
+        ClosedElements(Iterator<Element> elements, int maximumRetainedElements) {
+            this.elements = elements;
+            this.maximumRetainedElements = maximumRetainedElements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                release(previous);
+                previous = null;
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Element next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            previous = next;
+            next = null;
+            return previous;
+        }
+
+        private Element advance() {
+            while (elements.hasNext()) {
+                Element element = elements.next();
+                if (!(element instanceof Document)) {
+                    ElementFingerprints.of(element);
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        private void release(Element element) {
+            if (element == null) {
+                return;
+            }
+
+            Integer retainedChildren = retainedElements.remove(element);
+            int size = 1 + (retainedChildren == null ? 0 : retainedChildren);
+
+            Element parent = element.parent();
+            if (parent == null || parent instanceof Document) {
+                return;
+            }
+
+            if (retainedElements.merge(parent, size, Integer::sum) > maximumRetainedElements) {
+                ElementFingerprints.detachThrough(element);
+                retainedElements.remove(parent);
+            }
+        }
+
     }
 
 }
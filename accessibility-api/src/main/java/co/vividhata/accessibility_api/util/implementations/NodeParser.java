@@ -1,46 +1,193 @@
 package co.vividhata.accessibility_api.util.implementations;
 
+import co.vividhata.accessibility_api.model.IssueLocation;
+import co.vividhata.accessibility_api.util.ElementFingerprints;
 import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.internal.Normalizer;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.Range;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.TokenQueue;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Node;
 
-import javax.xml.transform.*;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 public class NodeParser implements INodeParser {
 
-    private final Transformer transformer;
+    private static final String TRUNCATED = "...";
 
-    public NodeParser() {
-        TransformerFactory tf = TransformerFactory.newInstance();
-        try {
-            transformer = tf.newTransformer();
-        } catch (TransformerConfigurationException e) {
-            throw new RuntimeException(e);
-        }
-        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-        transformer.setOutputProperty(OutputKeys.INDENT, "no");
+    private final int maximumSnippetChars;
+    private final ThreadLocal<StringBuilder> buffer;
+
+    public NodeParser(@Value("${scan.check.max-snippet-chars:4096}") int maximumSnippetChars) {
+        this.maximumSnippetChars = maximumSnippetChars;
+        this.buffer = ThreadLocal.withInitial(StringBuilder::new);
     }
 
     @Override
     public String nodeToHtml(Node node) {
-        String xml = nodeToXml(node);
+        if (!(node instanceof Element element)) {
+            return node.outerHtml();
+        }
+
+        StringBuilder out = buffer.get();
+        out.setLength(0);
+
+        NodeTraversor.filter(new SnippetWriter(out, maximumSnippetChars), element);
+
+        if (out.length() > maximumSnippetChars) {
+            out.setLength(maximumSnippetChars);
+            out.append(TRUNCATED);
+        }
+        return out.toString();
+    }
+
+    @Override
+    public IssueLocation locate(Element element) {
+        Range start = element.sourceRange();
+        Range end = element.endSourceRange();
+
+        int sourceEnd = end.isTracked() ? Math.max(start.endPos(), end.endPos()) : start.endPos();
+        return new IssueLocation(start.startPos(), sourceEnd, cssPath(element));
+    }
 
-        xml = xml.replaceAll("\\s+xmlns(:\\w+)?=\"[^\"]*\"", "");
+    @Override
+    public String locationToHtml(String html, IssueLocation location) {
+        int start = location.sourceStart();
+        int end = location.sourceEnd();
+        if (html == null || start < 0 || end < start || end > html.length()) {
+            return null;
+        }
 
-        return xml;
+        if (end - start > maximumSnippetChars) {
+            return html.substring(start, start + maximumSnippetChars) + TRUNCATED;
+        }
+        return html.substring(start, end);
     }
 
-    private String nodeToXml(Node node) {
-        StringWriter writer = new StringWriter();
-        try {
-            transformer.transform(new DOMSource(node), new StreamResult(writer));
-        } catch (TransformerException e) {
-            throw new RuntimeException(e);
+    private static String cssPath(Element element) {
+        Deque<String> steps = new ArrayDeque<>();
+        for (Element current = element; current != null && !(current instanceof Document); current = current.parent()) {
+            String step = TokenQueue.escapeCssIdentifier(current.tagName()).replace("\\:", "|");
+
+            Element parent = current.parent();
+            if (parent != null && !(parent instanceof Document)) {
+                int index = ElementFingerprints.detachedElementCount(parent) + current.elementSiblingIndex() + 1;
+                step += ":nth-child(" + index + ")";
+            }
+            steps.addFirst(step);
         }
-        return writer.toString();
+        return String.join(" > ", steps);
+    }
+
+    private record SnippetWriter(StringBuilder out, int limit) implements NodeFilter {
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            switch (node) {
+                case Element element -> writeStartTag(element);
+                case DataNode data -> writeText(data.getWholeData());
+                case TextNode text -> writeText(text.getWholeText());
+                case Comment comment -> writeComment(comment.getData());
+                default -> { }
+            }
+            return out.length() > limit ? FilterResult.STOP : FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (node instanceof Element element && hasContent(element)) {
+                out.append("</").append(Normalizer.xmlSafeTagName(element.tagName())).append('>');
+            }
+            return out.length() > limit ? FilterResult.STOP : FilterResult.CONTINUE;
+        }
+
+        private void writeStartTag(Element element) {
+            out.append('<').append(Normalizer.xmlSafeTagName(element.tagName()));
+
+            Map<String, String> attributes = new TreeMap<>();
+            for (Attribute attribute : element.attributes()) {
+                String key = Attribute.getValidKey(attribute.getKey(), Document.OutputSettings.Syntax.xml);
+                if (key != null && !key.startsWith("xmlns")) {
+                    attributes.put(key, attribute.getValue());
+                }
+            }
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                out.append(' ').append(attribute.getKey()).append("=\"");
+                writeEscaped(attribute.getValue(), true);
+                out.append('"');
+            }
+
+            out.append(hasContent(element) ? ">" : "/>");
+        }
+
+        private static boolean hasContent(Element element) {
+            for (Node child : element.childNodes()) {
+                if (child instanceof Element || child instanceof Comment
+                        || (child instanceof DataNode data && !data.getWholeData().isEmpty())
+                        || (child instanceof TextNode text && !text.getWholeText().isEmpty())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void writeText(String text) {
+            writeEscaped(text, false);
+        }
+
+        private void writeComment(String data) {
+            out.append("<!--");
+            boolean wasDash = false;
+            for (int i = 0; i < data.length(); i++) {
+                char c = data.charAt(i);
+                if (wasDash && c == '-') {
+                    out.append(' ');
+                }
+                out.append(c);
+                wasDash = c == '-';
+            }
+            if (wasDash) {
+                out.append(' ');
+            }
+            out.append("-->");
+        }
+
+        private void writeEscaped(String value, boolean inAttribute) {
+            for (int i = 0; i < value.length() && out.length() <= limit; i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> out.append("&amp;");
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '"' -> out.append(inAttribute ? "&quot;" : "\"");
+                    case '\r' -> out.append("&#13;");
+                    case '\n' -> out.append(inAttribute ? "&#10;" : "\n");
+                    case '\t' -> out.append(inAttribute ? "&#9;" : "\t");
+                    default -> {
+                        if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                            out.append("&#").append(Character.toCodePoint(c, value.charAt(++i))).append(';');
+                        } else if (c < 0x20 || (!inAttribute && c >= 0x7f && c <= 0x9f) || Character.isSurrogate(c)) {
+                            out.append("&#").append((int) c).append(';');
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+        }
+
     }
 }
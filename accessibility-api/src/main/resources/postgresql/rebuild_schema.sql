@@ -21,18 +21,76 @@ CREATE TABLE ac.scan (
     id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
     web_page_id INT REFERENCES ac.web_page(id) ON DELETE CASCADE,
     time_scanned TIMESTAMP WITH TIME ZONE,
-    html_content TEXT
+    html_content TEXT,
+    content_hash CHAR(64),
+    checker_set_digest CHAR(64),
+    element_fingerprints BYTEA,
+    incomplete_checkers TEXT[] NOT NULL DEFAULT '{}',
+    skipped_checkers TEXT[] NOT NULL DEFAULT '{}'
 );
 
+CREATE INDEX scan_web_page_id_time_scanned_idx ON ac.scan(web_page_id, time_scanned DESC);
+
 CREATE TABLE ac.issue (
     id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
     scan_id INT REFERENCES ac.scan(id) ON DELETE CASCADE,
     issue_type VARCHAR(100),
-    html_snippet TEXT
+    html_snippet TEXT,
+    source_start INT,
+    source_end INT,
+    css_path TEXT,
+    element_fingerprint BIGINT
 );
 
 CREATE TABLE ac.link (
     id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
     scan_id INT REFERENCES ac.scan(id) ON DELETE CASCADE,
     link TEXT
-)
+);
+
+CREATE TABLE ac.crawl (
+    id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    account_id INT REFERENCES ac.account(id),
+    seed_url TEXT,
+    max_depth INT,
+    max_pages INT,
+    status VARCHAR(20),
+    time_started TIMESTAMP WITH TIME ZONE,
+    time_finished TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE ac.crawl_scan (
+    crawl_id INT REFERENCES ac.crawl(id) ON DELETE CASCADE,
+    scan_id INT REFERENCES ac.scan(id) ON DELETE CASCADE,
+    depth INT,
+    PRIMARY KEY (crawl_id, scan_id)
+);
+
+CREATE TABLE ac.scan_job (
+    id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    account_id INT REFERENCES ac.account(id),
+    url TEXT,
+    priority SMALLINT DEFAULT 0,
+    status VARCHAR(20),
+    scan_id INT REFERENCES ac.scan(id) ON DELETE SET NULL,
+    error_message TEXT,
+    attempts INT DEFAULT 0,
+    run_after TIMESTAMP WITH TIME ZONE,
+    locked_by VARCHAR(100),
+    lease_expires_at TIMESTAMP WITH TIME ZONE,
+    time_submitted TIMESTAMP WITH TIME ZONE,
+    time_updated TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX scan_job_queued_run_after_idx ON ac.scan_job(run_after) WHERE status = 'QUEUED';
+CREATE INDEX scan_job_running_lease_expires_at_idx ON ac.scan_job(lease_expires_at) WHERE status IN ('FETCHING', 'CHECKING', 'PERSISTING');
+
+CREATE TABLE ac.scan_schedule (
+    web_page_id INT PRIMARY KEY REFERENCES ac.web_page(id) ON DELETE CASCADE,
+    frequency VARCHAR(20),
+    next_run TIMESTAMP WITH TIME ZONE,
+    last_run TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX scan_schedule_next_run_idx ON ac.scan_schedule(next_run);
+CREATE INDEX scan_schedule_last_run_idx ON ac.scan_schedule(last_run);
@@ -0,0 +1,26 @@
+package co.vividhata.accessibility_api;
+
+import co.vividhata.accessibility_api.scan.pipeline.IScanPipeline;
+import co.vividhata.accessibility_api.scan.pipeline.QueuedScanPipeline;
+import co.vividhata.accessibility_api.scan_job.ScanJobWorker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("api")
+public class ApiProfileTests {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void testQueuesScansInsteadOfRunningThem() {
+        Assertions.assertInstanceOf(QueuedScanPipeline.class, applicationContext.getBean(IScanPipeline.class));
+        Assertions.assertTrue(applicationContext.getBeansOfType(ScanJobWorker.class).isEmpty());
+    }
+
+}
@@ -2,11 +2,11 @@ package co.vividhata.accessibility_api;
 
 import co.vividhata.accessibility_api.link.LinkService;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -46,4 +46,28 @@ public class LinkServiceTests {
         Assertions.assertEquals(3, links.size());
     }
 
+    @Test
+    public void testResolveSameOriginLinks() {
+        List<String> hrefs = List.of(
+                "/about",
+                "contact?ref=home#form",
+                "https://EXAMPLE.com/news",
+                "https://other.com/page",
+                "http://example.com/insecure",
+                "mailto:someone@example.com",
+                "javascript:void(0)",
+                "#top",
+                "/about"
+        );
+
+        List<String> links = linkService.resolveSameOriginLinks("https://example.com/docs/index.html", hrefs);
+
+        Assertions.assertEquals(List.of(
+                "https://example.com/about",
+                "https://example.com/docs/contact?ref=home",
+                "https://example.com/news",
+                "https://example.com/docs/index.html"
+        ), links);
+    }
+
 }
@@ -0,0 +1,28 @@
+package co.vividhata.accessibility_api;
+
+import co.vividhata.accessibility_api.scan.pipeline.IScanPipeline;
+import co.vividhata.accessibility_api.scan.pipeline.ScanPipeline;
+import co.vividhata.accessibility_api.scan_job.ScanJobWorker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@ActiveProfiles("worker")
+public class WorkerProfileTests {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void testRunsScansWithoutServingRequests() {
+        Assertions.assertFalse(applicationContext instanceof WebApplicationContext);
+        Assertions.assertInstanceOf(ScanPipeline.class, applicationContext.getBean(IScanPipeline.class));
+        Assertions.assertNotNull(applicationContext.getBean(ScanJobWorker.class));
+    }
+
+}
@@ -0,0 +1,39 @@
+package co.vividhata.accessibility_api.checker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+public class CheckerBudgetTests {
+
+    @Test
+    void testCheckpointOutsideBudgetDoesNothing() {
+        Assertions.assertDoesNotThrow(CheckerBudget::checkpoint);
+    }
+
+    @Test
+    void testCheckpointStopsLoopPastDeadline() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+
+        Assertions.assertThrows(CheckerBudgetExceededException.class, () -> CheckerBudget.runUntil(deadline, () -> {
+            while (true) {
+                CheckerBudget.checkpoint();
+            }
+        }));
+        Assertions.assertDoesNotThrow(CheckerBudget::checkpoint);
+    }
+
+    @Test
+    void testReturnsResultWithinDeadline() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        Assertions.assertEquals(42, CheckerBudget.runUntil(deadline, () -> {
+            CheckerBudget.checkpoint();
+            return 42;
+        }));
+    }
+
+}
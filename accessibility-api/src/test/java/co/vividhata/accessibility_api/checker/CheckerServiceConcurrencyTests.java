@@ -0,0 +1,123 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.util.ElementTraversal;
+import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest(properties = {"scan.check.deadline-ms=600000", "scan.check.checker-budget-ms=600000"})
+public class CheckerServiceConcurrencyTests {
+
+    private static final int PAGES = 32;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private IHtmlParser htmlParser;
+
+    @Autowired
+    private ICheckerService checkerService;
+
+    @Autowired
+    private INodeParser nodeParser;
+
+    @Test
+    void testParallelScansMatchSerialScans() throws Exception {
+        List<String> pages = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            pages.add(page(i));
+        }
+
+        List<CheckResult> serialResults = new ArrayList<>();
+        for (String page : pages) {
+            serialResults.add(checkerService.checkAll(htmlParser.parse(page)));
+        }
+
+        List<Callable<CheckResult>> scans = new ArrayList<>();
+        for (int round = 0; round < 2; round++) {
+            for (String page : pages) {
+                scans.add(() -> checkerService.checkAll(htmlParser.parse(page)));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<CheckResult>> parallelResults = executor.invokeAll(scans);
+            for (int i = 0; i < parallelResults.size(); i++) {
+                Assertions.assertEquals(serialResults.get(i % PAGES), parallelResults.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelSnippetsMatchSerialSnippets() throws Exception {
+        List<String> pages = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            pages.add(page(i));
+        }
+
+        List<List<String>> serialSnippets = new ArrayList<>();
+        for (String page : pages) {
+            serialSnippets.add(snippets(page));
+        }
+
+        List<Callable<List<String>>> scans = new ArrayList<>();
+        for (int round = 0; round < 8; round++) {
+            for (String page : pages) {
+                scans.add(() -> snippets(page));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<String>>> parallelSnippets = executor.invokeAll(scans);
+            for (int i = 0; i < parallelSnippets.size(); i++) {
+                Assertions.assertEquals(serialSnippets.get(i % PAGES), parallelSnippets.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> snippets(String page) {
+        List<String> snippets = new ArrayList<>();
+        for (Element element : ElementTraversal.allElements(htmlParser.parse(page))) {
+            snippets.add(nodeParser.nodeToHtml(element));
+        }
+        return snippets;
+    }
+
+    private static String page(int i) {
+        return """
+        <!doctype html>
+        <html lang="en">
+          <head>
+            <title>Page %1$d</title>
+            <style>.faint-%1$d { color: #ccc; background-color: #fff; }</style>
+          </head>
+          <body>
+            <h1>Page %1$d</h1>
+            <p class="faint-%1$d">Faint text on page %1$d</p>
+            <img src="/image-%1$d.png">
+            <a href="/page-%1$d">click here</a>
+            <input type="text" value="a&quot;b %1$d" disabled>
+            <div tabindex="%2$d" onclick="go(%1$d)">Go</div>
+            <table><tr><td>Row %1$d</td></tr></table>
+            <script>if (%1$d < 2) { go(); }</script>
+          </body>
+        </html>""".formatted(i, i % 3);
+    }
+
+}
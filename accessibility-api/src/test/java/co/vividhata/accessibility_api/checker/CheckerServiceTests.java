@@ -0,0 +1,106 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
+import co.vividhata.accessibility_api.stylesheet.StylesheetParser;
+import co.vividhata.accessibility_api.util.ElementFingerprints;
+import co.vividhata.accessibility_api.util.IHtmlParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@SpringBootTest(properties = {"scan.check.deadline-ms=600000", "scan.check.checker-budget-ms=600000"})
+public class CheckerServiceTests {
+
+    private static final String HTML = """
+<!doctype html>
+<html lang="en">
+  <head><title>Styles</title></head>
+  <body>
+    <h1>Styles</h1>
+    <p class="note">Some text to read</p>
+    <img src="/photo.png">
+  </body>
+</html>""";
+
+    @Autowired
+    private IHtmlParser htmlParser;
+    @Autowired
+    private ICheckerService checkerService;
+
+    @Test
+    void testRechecksStyledElementsWhenOnlyTheStylesheetChanged() {
+        Document faint = documentWithCss(".note { color: #ccc; }");
+        CheckResult faintResult = checkerService.checkAll(faint);
+        Assertions.assertEquals(1, count(faintResult.issues(), IssueType.TEXT_CONTRAST_VIOLATION));
+
+        Document dark = documentWithCss(".note { color: #000; }");
+        CheckResult darkResult = checkerService.checkChanged(dark, previousIssues(faint, faintResult));
+
+        Assertions.assertEquals(0, count(darkResult.issues(), IssueType.TEXT_CONTRAST_VIOLATION));
+        Assertions.assertEquals(1, count(darkResult.issues(), IssueType.ALT_TEXT_MISSING));
+    }
+
+    @Test
+    void testDoesNotCarryStyledIssuesForward() {
+        Document dark = documentWithCss(".note { color: #000; }");
+        CheckResult darkResult = checkerService.checkAll(dark);
+
+        Document faint = documentWithCss(".note { color: #ccc; }");
+        CheckResult faintResult = checkerService.checkChanged(faint, previousIssues(dark, darkResult));
+
+        Assertions.assertEquals(1, count(faintResult.issues(), IssueType.TEXT_CONTRAST_VIOLATION));
+        Assertions.assertTrue(faintResult.issues().stream()
+                .filter(issue -> issue.issueType() == IssueType.TEXT_CONTRAST_VIOLATION)
+                .allMatch(issue -> issue.elementFingerprint() == null));
+    }
+
+    @Test
+    void testChecksEveryElementWhenTheCheckersChanged() {
+        Document document = documentWithCss("");
+        long[] elementFingerprints = ElementFingerprints.collect(document);
+
+        CheckResult sameCheckers = checkerService.checkChanged(document, new PreviousElementIssues(checkerService.checkerSetDigest(), elementFingerprints, List.of()));
+        CheckResult otherCheckers = checkerService.checkChanged(document, new PreviousElementIssues("other", elementFingerprints, List.of()));
+
+        Assertions.assertEquals(0, count(sameCheckers.issues(), IssueType.ALT_TEXT_MISSING));
+        Assertions.assertEquals(1, count(otherCheckers.issues(), IssueType.ALT_TEXT_MISSING));
+    }
+
+    @Test
+    void testStreamingListsWholePageCheckersAsSkippedNotIncomplete() {
+        CheckResult checkResult;
+        try (Stream<Element> elements = htmlParser.stream(HTML)) {
+            checkResult = checkerService.checkStream(elements, null);
+        }
+
+        Assertions.assertTrue(checkResult.incompleteCheckers().isEmpty());
+        Assertions.assertFalse(checkResult.skippedCheckers().isEmpty());
+        Assertions.assertEquals(1, count(checkResult.issues(), IssueType.ALT_TEXT_MISSING));
+    }
+
+    private Document documentWithCss(String css) {
+        Document document = htmlParser.parse(HTML);
+        StyleResolver.attach(document, List.of(StylesheetParser.parse("test", css)));
+        return document;
+    }
+
+    private PreviousElementIssues previousIssues(Document document, CheckResult checkResult) {
+        List<Issue> elementIssues = checkResult.issues().stream()
+                .filter(issue -> issue.elementFingerprint() != null)
+                .toList();
+        return new PreviousElementIssues(checkerService.checkerSetDigest(), ElementFingerprints.collect(document), elementIssues);
+    }
+
+    private static long count(List<Issue> issues, IssueType issueType) {
+        return issues.stream().filter(issue -> issue.issueType() == issueType).count();
+    }
+
+}
@@ -0,0 +1,70 @@
+package co.vividhata.accessibility_api.checker;
+
+import co.vividhata.accessibility_api.util.ElementTraversal;
+import co.vividhata.accessibility_api.util.IHtmlParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+@SpringBootTest
+public class ElementFilterTests {
+
+    private static final String HTML = """
+<!doctype html>
+<html>
+  <head>
+    <meta http-equiv="refresh" content="5;url=/timeout">
+    <title>Filters</title>
+  </head>
+  <body>
+    <div onclick="go()" style="outline:none; color: #ccc; line-height: 1.0">Go</div>
+    <span role="button" tabindex="2" style="width: 10px; height: 10px">x</span>
+    <p role="bogus" aria-label="">Click the red button on the right</p>
+    <section style="position: absolute; font-size: 8px">Section text</section>
+    <a href="#" draggable="true">here</a>
+    <img src="a.png" ondragstart="drag()">
+    <input id="loop" onfocus="this.focus()" onkeydown="event.preventDefault()" class="no-focus">
+    <button style="outline: 0">Press</button>
+    <nav tabindex="0" onmouseup="up()">Menu</nav>
+    <em style="color: red">Required fields are red</em>
+    <li aria-live="polite">Saved</li>
+  </body>
+</html>""";
+
+    @Autowired
+    private IHtmlParser htmlParser;
+    @Autowired
+    private List<IElementIssueChecker> elementIssueCheckers;
+
+    @Test
+    void testFilteredOutElementsHaveNoIssues() {
+        Document document = htmlParser.parse(HTML);
+
+        for (IElementIssueChecker elementIssueChecker : elementIssueCheckers) {
+            ElementFilter elementFilter = elementIssueChecker.elementFilter();
+            for (Element element : ElementTraversal.allElements(document)) {
+                if (!elementFilter.matches(element)) {
+                    Assertions.assertEquals(List.of(), elementIssueChecker.checkElement(element),
+                            elementIssueChecker.getClass().getSimpleName() + " skips " + element.normalName());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMatchesTagsOrAttributes() {
+        Document document = htmlParser.parse(HTML);
+        ElementFilter elementFilter = ElementFilter.tags("img").orAttributes("tabindex");
+
+        Assertions.assertTrue(elementFilter.matches(document.selectFirst("img")));
+        Assertions.assertTrue(elementFilter.matches(document.selectFirst("nav")));
+        Assertions.assertFalse(elementFilter.matches(document.selectFirst("button")));
+        Assertions.assertTrue(ElementFilter.ALL_ELEMENTS.matches(document.selectFirst("button")));
+    }
+
+}
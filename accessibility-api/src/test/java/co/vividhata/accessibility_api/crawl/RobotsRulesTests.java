@@ -0,0 +1,62 @@
+package co.vividhata.accessibility_api.crawl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+@SpringBootTest
+public class RobotsRulesTests {
+
+    private static final String ROBOTS_TXT = """
+            # Example robots.txt
+            User-agent: *
+            Disallow: /private/
+            Allow: /private/public
+            Disallow: /*.pdf$
+
+            User-agent: Accessibility-API
+            User-agent: other-bot
+            Disallow: /admin
+            Crawl-delay: 5
+
+            Sitemap: https://example.com/sitemap.xml
+            Sitemap: https://cdn.example.com/sitemap-index.xml.gz
+            """;
+
+    @Test
+    void testUsesMostSpecificUserAgentGroup() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS_TXT, "accessibility-api");
+
+        Assertions.assertFalse(rules.isAllowed("/admin/users"));
+        Assertions.assertTrue(rules.isAllowed("/private/secret"));
+    }
+
+    @Test
+    void testFallsBackToWildcardGroup() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS_TXT, "some-other-crawler");
+
+        Assertions.assertTrue(rules.isAllowed("/admin"));
+        Assertions.assertFalse(rules.isAllowed("/private/secret"));
+        Assertions.assertTrue(rules.isAllowed("/private/public/page"));
+        Assertions.assertFalse(rules.isAllowed("/files/report.pdf"));
+        Assertions.assertTrue(rules.isAllowed("/files/report.pdf?download=1"));
+    }
+
+    @Test
+    void testCollectsSitemaps() {
+        RobotsRules rules = RobotsRules.parse(ROBOTS_TXT, "accessibility-api");
+
+        Assertions.assertEquals(List.of("https://example.com/sitemap.xml", "https://cdn.example.com/sitemap-index.xml.gz"), rules.sitemaps());
+    }
+
+    @Test
+    void testEmptyDisallowAllowsEverything() {
+        RobotsRules rules = RobotsRules.parse("User-agent: *\nDisallow:\n", "accessibility-api");
+
+        Assertions.assertTrue(rules.isAllowed("/anything"));
+        Assertions.assertTrue(RobotsRules.ALLOW_ALL.isAllowed("/"));
+    }
+
+}
@@ -0,0 +1,111 @@
+package co.vividhata.accessibility_api.crawl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@SpringBootTest
+public class SitemapReaderTests {
+
+    private static final long MAXIMUM_BYTES = 1024 * 1024;
+
+    private static final String URL_SET = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9"
+                    xmlns:image="http://www.google.com/schemas/sitemap-image/1.1">
+              <url>
+                <loc>https://example.com/</loc>
+                <lastmod>2025-09-10</lastmod>
+              </url>
+              <url>
+                <loc> https://example.com/about </loc>
+                <lastmod>2025-09-10T03:32:11+02:00</lastmod>
+                <image:image><image:loc>https://example.com/logo.png</image:loc></image:image>
+              </url>
+              <url>
+                <loc><![CDATA[https://example.com/contact?a=1&b=2]]></loc>
+              </url>
+            </urlset>""";
+
+    @Test
+    void testReadsUrlSet() throws IOException {
+        List<SitemapEntry> entries = readAll(stream(URL_SET));
+
+        Assertions.assertEquals(List.of(
+                new SitemapEntry("https://example.com/", Instant.parse("2025-09-10T00:00:00Z"), false),
+                new SitemapEntry("https://example.com/about", Instant.parse("2025-09-10T01:32:11Z"), false),
+                new SitemapEntry("https://example.com/contact?a=1&b=2", null, false)
+        ), entries);
+    }
+
+    @Test
+    void testReadsGzippedSitemapIndex() throws IOException {
+        String index = """
+                <sitemapindex xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                  <sitemap><loc>https://example.com/pages.xml.gz</loc><lastmod>not a date</lastmod></sitemap>
+                </sitemapindex>""";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(index.getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<SitemapEntry> entries = readAll(new ByteArrayInputStream(compressed.toByteArray()));
+
+        Assertions.assertEquals(List.of(new SitemapEntry("https://example.com/pages.xml.gz", null, true)), entries);
+    }
+
+    @Test
+    void testStopsWhenAskedTo() throws IOException {
+        List<SitemapEntry> entries = new ArrayList<>();
+
+        SitemapReader.read(stream(URL_SET), MAXIMUM_BYTES, entry -> {
+            entries.add(entry);
+            return false;
+        });
+
+        Assertions.assertEquals(1, entries.size());
+    }
+
+    @Test
+    void testRejectsDoctypeEntities() {
+        String sitemap = """
+                <?xml version="1.0"?>
+                <!DOCTYPE urlset [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <urlset><url><loc>&secret;</loc></url></urlset>""";
+
+        Assertions.assertThrows(IOException.class, () -> readAll(stream(sitemap)));
+    }
+
+    @Test
+    void testRejectsSitemapsThatDecompressPastTheLimit() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("<urlset>".getBytes(StandardCharsets.UTF_8));
+            gzip.write(new byte[(int) MAXIMUM_BYTES]);
+        }
+
+        Assertions.assertTrue(compressed.size() < MAXIMUM_BYTES / 100);
+        Assertions.assertThrows(IOException.class, () -> readAll(new ByteArrayInputStream(compressed.toByteArray())));
+    }
+
+    private static List<SitemapEntry> readAll(InputStream inputStream) throws IOException {
+        List<SitemapEntry> entries = new ArrayList<>();
+        SitemapReader.read(inputStream, MAXIMUM_BYTES, entries::add);
+        return entries;
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -3,11 +3,12 @@ package co.vividhata.accessibility_api.issue_checkers;
 import co.vividhata.accessibility_api.checker.issue_checkers.AltTextMissingIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -35,6 +36,8 @@ public class AltTextMissingIssueCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
     @Autowired
+    private INodeParser nodeParser;
+    @Autowired
     private AltTextMissingIssueChecker issueChecker;
 
     @Test
@@ -44,9 +47,9 @@ public class AltTextMissingIssueCheckerTests {
         List<Issue> issues = issueChecker.check(document);
 
         Assertions.assertEquals(3, issues.size());
-        Assertions.assertEquals("<img src=\"img_2.jpg\"/>", issues.getFirst().htmlSnippet());
-        Assertions.assertEquals("<img src=\"img_4.jpg\"/>", issues.get(1).htmlSnippet());
-        Assertions.assertEquals("<img src=\"img_5.jpg\"/>", issues.get(2).htmlSnippet());
+        Assertions.assertEquals("<img src=\"img_2.jpg\"/>", nodeParser.locationToHtml(HTML_THREE_MISSING_ALT_TEXTS, issues.getFirst().location()));
+        Assertions.assertEquals("<img src=\"img_4.jpg\"/>", nodeParser.locationToHtml(HTML_THREE_MISSING_ALT_TEXTS, issues.get(1).location()));
+        Assertions.assertEquals("<img src=\"img_5.jpg\"/>", nodeParser.locationToHtml(HTML_THREE_MISSING_ALT_TEXTS, issues.get(2).location()));
 
     }
 
@@ -4,11 +4,12 @@ import co.vividhata.accessibility_api.checker.issue_checkers.CaptionsForVideoAud
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -68,6 +69,8 @@ public class CaptionsForVideoAudioCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
     @Autowired
+    private INodeParser nodeParser;
+    @Autowired
     private CaptionsForVideoAudioChecker issueChecker;
 
     @Test
@@ -84,7 +87,7 @@ public class CaptionsForVideoAudioCheckerTests {
             Assertions.assertEquals(-1, issue.scanId());
         }
         
-        String htmlSnippets = issues.get(0).htmlSnippet() + issues.get(1).htmlSnippet();
+        String htmlSnippets = nodeParser.locationToHtml(HTML_WITH_VIDEO_AUDIO_NO_CAPTIONS, issues.get(0).location()) + nodeParser.locationToHtml(HTML_WITH_VIDEO_AUDIO_NO_CAPTIONS, issues.get(1).location());
         Assertions.assertTrue(htmlSnippets.contains("video1.mp4"));
         Assertions.assertTrue(htmlSnippets.contains("audio1.mp3"));
     }
@@ -105,7 +108,7 @@ public class CaptionsForVideoAudioCheckerTests {
         List<Issue> issues = issueChecker.check(document);
 
         Assertions.assertEquals(1, issues.size());
-        Assertions.assertTrue(issues.get(0).htmlSnippet().contains("audio1.mp3"));
+        Assertions.assertTrue(nodeParser.locationToHtml(HTML_WITH_ARIA_LABELLEDBY, issues.get(0).location()).contains("audio1.mp3"));
     }
 
     @Test
@@ -165,7 +168,7 @@ public class CaptionsForVideoAudioCheckerTests {
 
         List<Issue> issues = issueChecker.check(document);
         Assertions.assertEquals(1, issues.size());
-        Assertions.assertTrue(issues.get(0).htmlSnippet().contains("audio1.mp3"));
+        Assertions.assertTrue(nodeParser.locationToHtml(html, issues.get(0).location()).contains("audio1.mp3"));
     }
 
     @Test
@@ -193,7 +196,7 @@ public class CaptionsForVideoAudioCheckerTests {
 
         List<Issue> issues = issueChecker.check(document);
         Assertions.assertEquals(1, issues.size());
-        Assertions.assertTrue(issues.get(0).htmlSnippet().contains("video1.mp4"));
+        Assertions.assertTrue(nodeParser.locationToHtml(html, issues.get(0).location()).contains("video1.mp4"));
     }
 
     @Test
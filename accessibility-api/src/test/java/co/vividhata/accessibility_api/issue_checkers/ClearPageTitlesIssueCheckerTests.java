@@ -2,11 +2,11 @@ package co.vividhata.accessibility_api.issue_checkers;
 
 import java.util.List;
 
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import co.vividhata.accessibility_api.checker.issue_checkers.ClearPageTitlesIssueChecker;
 import co.vividhata.accessibility_api.model.Issue;
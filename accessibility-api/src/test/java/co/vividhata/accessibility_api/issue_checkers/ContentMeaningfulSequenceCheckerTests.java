@@ -4,11 +4,12 @@ import co.vividhata.accessibility_api.checker.issue_checkers.ContentMeaningfulSe
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -178,6 +179,8 @@ public class ContentMeaningfulSequenceCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
     @Autowired
+    private INodeParser nodeParser;
+    @Autowired
     private ContentMeaningfulSequenceChecker issueChecker;
 
     @Test
@@ -195,7 +198,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         }
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_ABSOLUTE_POSITIONING, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("position: absolute"));
@@ -211,7 +214,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(2, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_FIXED_POSITIONING, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("position: fixed"));
@@ -227,7 +230,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(3, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_FLOAT_POSITIONING, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("float: left"));
@@ -243,7 +246,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(4, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_NEGATIVE_MARGINS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("margin-left: -10px"));
@@ -261,7 +264,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(2, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_TRANSFORM_POSITIONING, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("transform: translate"));
@@ -277,7 +280,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(16, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_PROBLEMATIC_CLASSES, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("absolute"));
@@ -296,7 +299,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(11, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_PROBLEMATIC_IDS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("absolute"));
@@ -324,7 +327,7 @@ public class ContentMeaningfulSequenceCheckerTests {
         Assertions.assertEquals(3, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_MIXED_POSITIONING, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("position: absolute"));
@@ -3,12 +3,15 @@ package co.vividhata.accessibility_api.issue_checkers;
 import co.vividhata.accessibility_api.checker.issue_checkers.LineHeightSpacingChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
+import co.vividhata.accessibility_api.stylesheet.StylesheetParser;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -20,6 +23,9 @@ public class LineHeightSpacingCheckerTests {
     
     @Autowired
     private IHtmlParser htmlParser;
+    
+    @Autowired
+    private INodeParser nodeParser;
 
     @Test
     void testLineHeightViolationsInStyle() {
@@ -48,7 +54,7 @@ public class LineHeightSpacingCheckerTests {
         
         for (Issue issue : issues) {
             Assertions.assertEquals(IssueType.LINE_HEIGHT_SPACING_VIOLATION, issue.issueType());
-            Assertions.assertTrue(issue.htmlSnippet().contains("line-height"));
+            Assertions.assertTrue(nodeParser.locationToHtml(html, issue.location()).contains("line-height"));
         }
     }
 
@@ -108,7 +114,7 @@ public class LineHeightSpacingCheckerTests {
         
         for (Issue issue : issues) {
             Assertions.assertEquals(IssueType.LINE_HEIGHT_SPACING_VIOLATION, issue.issueType());
-            Assertions.assertTrue(issue.htmlSnippet().contains("letter-spacing"));
+            Assertions.assertTrue(nodeParser.locationToHtml(html, issue.location()).contains("letter-spacing"));
         }
     }
 
@@ -166,7 +172,7 @@ public class LineHeightSpacingCheckerTests {
         
         for (Issue issue : issues) {
             Assertions.assertEquals(IssueType.LINE_HEIGHT_SPACING_VIOLATION, issue.issueType());
-            Assertions.assertTrue(issue.htmlSnippet().contains("word-spacing"));
+            Assertions.assertTrue(nodeParser.locationToHtml(html, issue.location()).contains("word-spacing"));
         }
     }
 
@@ -225,7 +231,7 @@ public class LineHeightSpacingCheckerTests {
         
         for (Issue issue : issues) {
             Assertions.assertEquals(IssueType.LINE_HEIGHT_SPACING_VIOLATION, issue.issueType());
-            Assertions.assertTrue(issue.htmlSnippet().contains("margin"));
+            Assertions.assertTrue(nodeParser.locationToHtml(html, issue.location()).contains("margin"));
         }
     }
 
@@ -359,4 +365,29 @@ public class LineHeightSpacingCheckerTests {
             Assertions.assertEquals(IssueType.LINE_HEIGHT_SPACING_VIOLATION, issue.issueType());
         }
     }
+
+    @Test
+    void testOverriddenLineHeight() {
+        String html = """
+        <!doctype html>
+        <html lang="en">
+          <head>
+            <meta charset="utf-8"/>
+            <title>Overridden Line Height</title>
+          </head>
+          <body>
+            <p style="line-height: 1.0; line-height: 1.6;">Inline override</p>
+            <div class="article"><p>Stylesheet override</p></div>
+            <p>Tight line height</p>
+          </body>
+        </html>""";
+
+        Document document = htmlParser.parse(html);
+        StyleResolver.attach(document, List.of(StylesheetParser.parse("test", "p { line-height: 1.0; } .article p { line-height: 1.6; }")));
+
+        List<Issue> issues = issueChecker.check(document);
+
+        Assertions.assertEquals(1, issues.size());
+        Assertions.assertTrue(nodeParser.locationToHtml(html, issues.getFirst().location()).contains("Tight line height"));
+    }
 }
@@ -2,10 +2,10 @@ package co.vividhata.accessibility_api.issue_checkers;
 
 import java.util.List;
 
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.w3c.dom.Document;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import co.vividhata.accessibility_api.checker.issue_checkers.MultipleWaysToNavigateIssueChecker;
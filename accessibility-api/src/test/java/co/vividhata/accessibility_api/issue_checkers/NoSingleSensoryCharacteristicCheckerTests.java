@@ -4,11 +4,12 @@ import co.vividhata.accessibility_api.checker.issue_checkers.NoSingleSensoryChar
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -195,6 +196,8 @@ public class NoSingleSensoryCharacteristicCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
     @Autowired
+    private INodeParser nodeParser;
+    @Autowired
     private NoSingleSensoryCharacteristicChecker issueChecker;
 
     @Test
@@ -212,7 +215,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         }
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_COLOR_ONLY_INDICATORS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("red"));
@@ -231,7 +234,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         Assertions.assertEquals(10, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_POSITION_ONLY_INDICATORS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("left"));
@@ -250,7 +253,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         Assertions.assertEquals(9, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_SHAPE_ONLY_INDICATORS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("circle"));
@@ -269,7 +272,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         Assertions.assertEquals(9, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_SIZE_ONLY_INDICATORS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("small"));
@@ -288,7 +291,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         Assertions.assertEquals(3, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_AUDIO_NO_ALTERNATIVES, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("sound1.mp3"));
@@ -314,7 +317,7 @@ public class NoSingleSensoryCharacteristicCheckerTests {
         Assertions.assertEquals(5, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_MIXED_INDICATORS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("red"));
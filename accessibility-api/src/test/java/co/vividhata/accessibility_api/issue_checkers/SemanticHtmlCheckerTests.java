@@ -4,11 +4,12 @@ import co.vividhata.accessibility_api.checker.issue_checkers.SemanticHtmlChecker
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import co.vividhata.accessibility_api.util.INodeParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -116,6 +117,8 @@ public class SemanticHtmlCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
     @Autowired
+    private INodeParser nodeParser;
+    @Autowired
     private SemanticHtmlChecker issueChecker;
 
     @Test
@@ -133,7 +136,7 @@ public class SemanticHtmlCheckerTests {
         }
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_NON_SEMANTIC_DIVS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("header"));
@@ -156,7 +159,7 @@ public class SemanticHtmlCheckerTests {
         }
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_NON_SEMANTIC_SPANS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("button"));
@@ -192,7 +195,7 @@ public class SemanticHtmlCheckerTests {
         Assertions.assertEquals(3, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_MIXED_SEMANTIC_AND_NON_SEMANTIC, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("nav"));
@@ -209,7 +212,7 @@ public class SemanticHtmlCheckerTests {
         Assertions.assertEquals(4, issues.size());
         
         String htmlSnippets = issues.stream()
-            .map(Issue::htmlSnippet)
+            .map(issue -> nodeParser.locationToHtml(HTML_WITH_ARTICLE_AND_SECTION_PATTERNS, issue.location()))
             .reduce("", String::concat);
         
         Assertions.assertTrue(htmlSnippets.contains("article"));
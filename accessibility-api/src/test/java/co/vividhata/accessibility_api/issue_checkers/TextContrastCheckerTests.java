@@ -3,12 +3,14 @@ package co.vividhata.accessibility_api.issue_checkers;
 import co.vividhata.accessibility_api.checker.issue_checkers.TextContrastChecker;
 import co.vividhata.accessibility_api.model.Issue;
 import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.stylesheet.IStylesheetService;
+import co.vividhata.accessibility_api.stylesheet.StyleResolver;
 import co.vividhata.accessibility_api.util.IHtmlParser;
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
 
 import java.util.List;
 
@@ -21,6 +23,9 @@ public class TextContrastCheckerTests {
     @Autowired
     private IHtmlParser htmlParser;
 
+    @Autowired
+    private IStylesheetService stylesheetService;
+
     @Test
     void testLowContrastInStyle() {
         String html = """
@@ -376,4 +381,64 @@ public class TextContrastCheckerTests {
             Assertions.assertEquals(IssueType.TEXT_CONTRAST_VIOLATION, issue.issueType());
         }
     }
+
+    @Test
+    void testLowContrastInStylesheet() {
+        String html = """
+        <!doctype html>
+        <html lang="en">
+          <head>
+            <meta charset="utf-8"/>
+            <title>Low Contrast in Stylesheet</title>
+            <style>
+              p { color: black; background-color: white; }
+              .notice p { color: yellow; background-color: white; }
+              #footer > p { color: black; background-color: white; }
+            </style>
+          </head>
+          <body>
+            <p>Good contrast text</p>
+            <div class="notice">
+              <p>Low contrast text</p>
+            </div>
+            <div id="footer" class="notice">
+              <p>Good contrast text</p>
+            </div>
+          </body>
+        </html>""";
+
+        Document document = htmlParser.parse(html);
+        StyleResolver.attach(document, stylesheetService.loadStylesheets(document, "https://example.com/").join());
+
+        List<Issue> issues = issueChecker.check(document);
+
+        Assertions.assertEquals(1, issues.size());
+        Assertions.assertEquals(IssueType.TEXT_CONTRAST_VIOLATION, issues.getFirst().issueType());
+    }
+
+    @Test
+    void testBackgroundColorDeclaredBeforeColor() {
+        String html = """
+        <!doctype html>
+        <html lang="en">
+          <head>
+            <meta charset="utf-8"/>
+            <title>Background Color First</title>
+            <style>
+              .btn{background-color:#000;color:#fff}
+            </style>
+          </head>
+          <body>
+            <a class="btn" href="/buy">Buy now</a>
+            <p style="background-color: black; color: white;">Good contrast text</p>
+          </body>
+        </html>""";
+
+        Document document = htmlParser.parse(html);
+        StyleResolver.attach(document, stylesheetService.loadStylesheets(document, "https://example.com/").join());
+
+        List<Issue> issues = issueChecker.check(document);
+
+        Assertions.assertEquals(0, issues.size());
+    }
 }
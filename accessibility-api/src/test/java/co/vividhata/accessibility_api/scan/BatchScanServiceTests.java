@@ -0,0 +1,161 @@
+package co.vividhata.accessibility_api.scan;
+
+import co.vividhata.accessibility_api.issue.IIssueService;
+import co.vividhata.accessibility_api.issue.IssueService;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.link.LinkService;
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Link;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.dto.BatchScanResult;
+import co.vividhata.accessibility_api.scan.exceptions.InvalidUrlException;
+import co.vividhata.accessibility_api.scan.exceptions.TooManyUrlsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@SpringBootTest(properties = {
+        "scan.batch.max-urls=6",
+        "scan.batch.global-concurrency=3",
+        "scan.batch.account-concurrency=2"
+})
+public class BatchScanServiceTests {
+
+    @Autowired
+    private IBatchScanService batchScanService;
+    @TestBean
+    private ScanService scanService;
+    @TestBean
+    private IIssueService issueService;
+    @TestBean
+    private ILinkService linkService;
+
+    static ScanService scanService() {
+        return new FakeScanService();
+    }
+
+    static IIssueService issueService() {
+        return new IssueService() {
+            @Override
+            public List<Issue> getIssues(Scan scan) {
+                return List.of();
+            }
+        };
+    }
+
+    static ILinkService linkService() {
+        return new LinkService() {
+            @Override
+            public List<Link> getLinks(int scanId) {
+                return List.of();
+            }
+        };
+    }
+
+    @BeforeEach
+    void clear() {
+        ((FakeScanService) scanService).clear();
+    }
+
+    @Test
+    void testReturnsAResultForEveryUrlInOrder() {
+        List<String> urls = List.of("https://example.com/", "https://example.com/invalid", "https://example.com/broken", "https://example.com/about");
+
+        List<BatchScanResult> results = batchScanService.scanAll(urls, 1);
+
+        Assertions.assertEquals(urls, results.stream().map(BatchScanResult::url).toList());
+        Assertions.assertEquals("https://example.com/", results.get(0).result().scan().htmlContent());
+        Assertions.assertNull(results.get(0).errorMessage());
+        Assertions.assertEquals("Invalid Url", results.get(1).errorMessage());
+        Assertions.assertEquals("Scan failed", results.get(2).errorMessage());
+        Assertions.assertEquals("https://example.com/about", results.get(3).result().scan().htmlContent());
+    }
+
+    @Test
+    void testScansAsBatchPriority() {
+        batchScanService.scanAll(List.of("https://example.com/"), 1);
+
+        Assertions.assertEquals(List.of(ScanPriority.BATCH), ((FakeScanService) scanService).priorities);
+    }
+
+    @Test
+    void testRejectsTooManyUrls() {
+        List<String> urls = List.of("https://example.com/1", "https://example.com/2", "https://example.com/3", "https://example.com/4", "https://example.com/5", "https://example.com/6", "https://example.com/7");
+
+        Assertions.assertThrows(TooManyUrlsException.class, () -> batchScanService.scanAll(urls, 1));
+        Assertions.assertTrue(((FakeScanService) scanService).priorities.isEmpty());
+    }
+
+    @Test
+    void testLimitsConcurrentScansPerAccountAndOverall() throws InterruptedException {
+        List<String> urls = List.of("https://example.com/1", "https://example.com/2", "https://example.com/3", "https://example.com/4", "https://example.com/5", "https://example.com/6");
+
+        Thread first = Thread.ofVirtual().start(() -> batchScanService.scanAll(urls, 1));
+        Thread second = Thread.ofVirtual().start(() -> batchScanService.scanAll(urls, 2));
+        first.join();
+        second.join();
+
+        FakeScanService fake = (FakeScanService) scanService;
+        Assertions.assertEquals(12, fake.priorities.size());
+        Assertions.assertTrue(fake.mostInFlightPerAccount.get(1) <= 2);
+        Assertions.assertTrue(fake.mostInFlightPerAccount.get(2) <= 2);
+        Assertions.assertTrue(fake.mostInFlight.get() <= 3);
+    }
+
+    static class FakeScanService extends ScanService {
+
+        final List<ScanPriority> priorities = new CopyOnWriteArrayList<>();
+        final Map<Integer, AtomicInteger> inFlightPerAccount = new ConcurrentHashMap<>();
+        final Map<Integer, Integer> mostInFlightPerAccount = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger mostInFlight = new AtomicInteger();
+        private final AtomicInteger scanIds = new AtomicInteger();
+
+        void clear() {
+            priorities.clear();
+            inFlightPerAccount.clear();
+            mostInFlightPerAccount.clear();
+            inFlight.set(0);
+            mostInFlight.set(0);
+        }
+
+        @Override
+        public Scan scanFrom(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+            priorities.add(priority);
+            AtomicInteger accountInFlight = inFlightPerAccount.computeIfAbsent(accountId, _ -> new AtomicInteger());
+            mostInFlightPerAccount.merge(accountId, accountInFlight.incrementAndGet(), Math::max);
+            mostInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } finally {
+                accountInFlight.decrementAndGet();
+                inFlight.decrementAndGet();
+            }
+
+            if (url.endsWith("/invalid")) {
+                throw new InvalidUrlException();
+            }
+            if (url.endsWith("/broken")) {
+                throw new IllegalStateException("Pipeline broke");
+            }
+            return new Scan(scanIds.incrementAndGet(), 1, Instant.now(), url, "hash", List.of(), List.of());
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package co.vividhata.accessibility_api.scan.admission;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.exceptions.TooManyScansQueuedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@SpringBootTest
+public class FairScanSchedulerTests {
+
+    @Test
+    void testDispatchesAccountsInWeightedRoundRobin() throws InterruptedException {
+        Map<Integer, Integer> weights = Map.of(1, 2, 2, 1);
+        FairScanScheduler scheduler = new FairScanScheduler(1, 1, 10, accountId -> weights.getOrDefault(accountId, 1), Duration.ofMinutes(1));
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        scheduler.acquire(9, ScanPriority.INTERACTIVE);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int accountId : new int[]{1, 1, 1, 2, 2, 2}) {
+            int waitingBefore = scheduler.waiting();
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    scheduler.acquire(accountId, ScanPriority.INTERACTIVE);
+                    order.add(accountId);
+                    scheduler.release(accountId);
+                } catch (InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            while (scheduler.waiting() == waitingBefore) {
+                Thread.onSpinWait();
+            }
+        }
+
+        scheduler.release(9);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(List.of(1, 1, 2, 1, 2, 2), order);
+    }
+
+    @Test
+    void testRejectsWhenAccountQueueIsFull() throws InterruptedException {
+        FairScanScheduler scheduler = new FairScanScheduler(1, 1, 1, _ -> 1, Duration.ofMinutes(1));
+
+        scheduler.acquire(1, ScanPriority.INTERACTIVE);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                scheduler.acquire(1, ScanPriority.INTERACTIVE);
+                scheduler.release(1);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (scheduler.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        Assertions.assertThrows(TooManyScansQueuedException.class, () -> scheduler.acquire(1, ScanPriority.INTERACTIVE));
+
+        scheduler.release(1);
+        waiter.join();
+    }
+
+    @Test
+    void testTokenBucketReportsRetryAfterWhenEmpty() {
+        TokenBucket tokenBucket = new TokenBucket(2, 0.5);
+
+        Assertions.assertEquals(0, tokenBucket.tryAcquire());
+        Assertions.assertEquals(0, tokenBucket.tryAcquire());
+        Assertions.assertEquals(2, tokenBucket.tryAcquire());
+    }
+
+    @Test
+    void testPrunesTokenBucketsThatHaveRefilled() throws InterruptedException {
+        AdmissionControlledScanService refilling = new AdmissionControlledScanService(2, 1000, 1, 1, 1, "", 30);
+        AdmissionControlledScanService slow = new AdmissionControlledScanService(2, 0.001, 1, 1, 1, "", 30);
+
+        for (int accountId = 1; accountId <= 3; accountId++) {
+            refilling.acquireToken(accountId);
+            slow.acquireToken(accountId);
+        }
+        Thread.sleep(20);
+        refilling.pruneTokenBuckets();
+        slow.pruneTokenBuckets();
+
+        Assertions.assertEquals(0, refilling.tokenBucketCount());
+        Assertions.assertEquals(3, slow.tokenBucketCount());
+    }
+
+}
@@ -0,0 +1,125 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+public class PipelineStageTests {
+
+    @Test
+    void testProcessesEveryItemInBoundedBatches() throws InterruptedException {
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(10);
+
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 1, 16, 0, 4, Duration.ofMinutes(1), batch -> {
+            batchSizes.add(batch.size());
+            for (Integer item : batch) {
+                processed.add(item);
+                done.countDown();
+            }
+        });
+
+        for (int i = 0; i < 10; i++) {
+            stage.submit(i, ScanPriority.INTERACTIVE);
+        }
+        stage.start();
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), processed);
+        Assertions.assertTrue(batchSizes.stream().allMatch(size -> size <= 4));
+        Assertions.assertTrue(stage.stop().isEmpty());
+    }
+
+    @Test
+    void testStopReturnsQueuedItems() throws InterruptedException {
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 1, 4, 0, 1, Duration.ofMinutes(1), _ -> { });
+
+        stage.submit(1, ScanPriority.INTERACTIVE);
+        stage.submit(2, ScanPriority.INTERACTIVE);
+
+        Assertions.assertEquals(List.of(1, 2), stage.stop());
+    }
+
+    @Test
+    void testDrainsInteractiveLaneFirst() throws InterruptedException {
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 1, 4, 0, 1, Duration.ofMinutes(1), batch -> {
+            processed.addAll(batch);
+            batch.forEach(_ -> done.countDown());
+        });
+
+        stage.submit(1, ScanPriority.SCHEDULED);
+        stage.submit(2, ScanPriority.BATCH);
+        stage.submit(3, ScanPriority.INTERACTIVE);
+        stage.submit(4, ScanPriority.BATCH);
+        stage.start();
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(3, 2, 4, 1), processed);
+        stage.stop();
+    }
+
+    @Test
+    void testBoundsTotalSizeAndKeepsHeadroomForInteractive() throws InterruptedException {
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 1, 4, 1, 1, Duration.ofMinutes(1), _ -> { });
+
+        stage.submit(1, ScanPriority.BATCH);
+        stage.submit(2, ScanPriority.SCHEDULED);
+        stage.submit(3, ScanPriority.BATCH);
+
+        Thread blockedBatch = submitInBackground(stage, 4, ScanPriority.BATCH);
+        Assertions.assertFalse(blockedBatch.join(Duration.ofMillis(200)));
+
+        stage.submit(5, ScanPriority.INTERACTIVE);
+        Thread blockedInteractive = submitInBackground(stage, 6, ScanPriority.INTERACTIVE);
+        Assertions.assertFalse(blockedInteractive.join(Duration.ofMillis(200)));
+
+        blockedBatch.interrupt();
+        blockedInteractive.interrupt();
+        blockedBatch.join();
+        blockedInteractive.join();
+
+        Assertions.assertEquals(List.of(5, 1, 3, 2), stage.stop());
+    }
+
+    @Test
+    void testReservedPlacesCountTowardsCapacity() throws InterruptedException {
+        PipelineStage<Integer> stage = new PipelineStage<>("test", 1, 2, 0, 1, Duration.ofMinutes(1), _ -> { });
+
+        Assertions.assertTrue(stage.reserve(ScanPriority.BATCH));
+        stage.submit(1, ScanPriority.BATCH);
+
+        Thread blocked = submitInBackground(stage, 2, ScanPriority.BATCH);
+        Assertions.assertFalse(blocked.join(Duration.ofMillis(200)));
+
+        Assertions.assertTrue(stage.submitReserved(3, ScanPriority.BATCH));
+        blocked.interrupt();
+        blocked.join();
+
+        Assertions.assertEquals(List.of(1, 3), stage.stop());
+        Assertions.assertFalse(stage.submit(4, ScanPriority.INTERACTIVE));
+        Assertions.assertFalse(stage.reserve(ScanPriority.INTERACTIVE));
+    }
+
+    private static Thread submitInBackground(PipelineStage<Integer> stage, int item, ScanPriority priority) {
+        return Thread.ofVirtual().start(() -> {
+            try {
+                stage.submit(item, priority);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,276 @@
+package co.vividhata.accessibility_api.scan.pipeline;
+
+import co.vividhata.accessibility_api.issue.IIssueRepository;
+import co.vividhata.accessibility_api.link.ILinkRepository;
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.IssueLocation;
+import co.vividhata.accessibility_api.model.IssueType;
+import co.vividhata.accessibility_api.model.Link;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.IScanRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+public class ScanPipelinePersistTests {
+
+    private static final String FAILING_SNIPPET = "<img src=\"fails-to-insert.png\">";
+
+    @Autowired
+    private ScanPipeline scanPipeline;
+    @Autowired
+    private InMemoryScanRepository scanRepository;
+    @Autowired
+    private InMemoryIssueRepository issueRepository;
+
+    @BeforeEach
+    void clear() {
+        scanRepository.scans.clear();
+        issueRepository.issues.clear();
+    }
+
+    @Test
+    void testFailedIssueInsertLeavesNoScanBehind() {
+        ScanTask task = checkedTask(FAILING_SNIPPET);
+
+        scanPipeline.persist(List.of(task));
+
+        Assertions.assertTrue(task.result.isCompletedExceptionally());
+        Assertions.assertTrue(scanRepository.scans.isEmpty());
+    }
+
+    @Test
+    void testFailedTaskDoesNotFailTheRestOfTheBatch() {
+        ScanTask failing = checkedTask(FAILING_SNIPPET);
+        ScanTask passing = checkedTask("<img src=\"photo.png\">");
+
+        scanPipeline.persist(List.of(failing, passing));
+
+        Assertions.assertTrue(failing.result.isCompletedExceptionally());
+        Scan scan = passing.result.join();
+        Assertions.assertEquals(List.of(scan.id()), List.copyOf(scanRepository.scans.keySet()));
+        Assertions.assertEquals(List.of(scan.id()), issueRepository.issues.stream().map(Issue::scanId).toList());
+    }
+
+    private static ScanTask checkedTask(String htmlSnippet) {
+        ScanTask task = new ScanTask("https://example.com/", 1, ScanPriority.INTERACTIVE, _ -> { });
+        task.html = "<html><body>" + htmlSnippet + "</body></html>";
+        task.contentHash = "hash";
+        task.webPageId = 1;
+        task.elementFingerprints = new long[0];
+        task.incompleteCheckers = List.of();
+        task.skippedCheckers = List.of();
+        task.links = List.of("https://example.com/about");
+        task.issues = List.of(new Issue(-1, -1, IssueType.ALT_TEXT_MISSING, htmlSnippet));
+        return task;
+    }
+
+    private static void undoOnRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    undo.run();
+                }
+            }
+        });
+    }
+
+    @TestConfiguration
+    static class InMemoryPersistence {
+
+        @Bean
+        @Primary
+        PlatformTransactionManager inMemoryTransactionManager() {
+            return new InMemoryTransactionManager();
+        }
+
+        @Bean
+        @Primary
+        InMemoryScanRepository inMemoryScanRepository() {
+            return new InMemoryScanRepository();
+        }
+
+        @Bean
+        @Primary
+        InMemoryIssueRepository inMemoryIssueRepository() {
+            return new InMemoryIssueRepository();
+        }
+
+        @Bean
+        @Primary
+        ILinkRepository inMemoryLinkRepository() {
+            return new InMemoryLinkRepository();
+        }
+
+    }
+
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+    }
+
+    static class InMemoryScanRepository implements IScanRepository {
+
+        private final AtomicInteger ids = new AtomicInteger();
+        private final Map<Integer, Scan> scans = new ConcurrentHashMap<>();
+
+        @Override
+        public int create(int webPageId, Instant timeScanned, String htmlContent, String contentHash, String checkerSetDigest, long[] elementFingerprints, List<String> incompleteCheckers, List<String> skippedCheckers) {
+            int scanId = ids.incrementAndGet();
+            scans.put(scanId, new Scan(scanId, webPageId, timeScanned, htmlContent, contentHash, incompleteCheckers, skippedCheckers));
+            undoOnRollback(() -> scans.remove(scanId));
+            return scanId;
+        }
+
+        @Override
+        public Scan get(int scanId) {
+            return scans.get(scanId);
+        }
+
+        @Override
+        public int getOwner(int scanId) {
+            return -1;
+        }
+
+        @Override
+        public int getLatest(int webPageId) {
+            return -1;
+        }
+
+        @Override
+        public int getLatestWithContentHash(int webPageId, String contentHash) {
+            return -1;
+        }
+
+        @Override
+        public long[] getElementFingerprints(int scanId) {
+            return null;
+        }
+
+        @Override
+        public List<String> getIncompleteCheckers(int scanId) {
+            return List.of();
+        }
+
+        @Override
+        public List<String> getSkippedCheckers(int scanId) {
+            return List.of();
+        }
+
+        @Override
+        public String getCheckerSetDigest(int scanId) {
+            return null;
+        }
+
+        @Override
+        public Map<String, Instant> getLatestCompleteTimesScanned(int accountId, List<String> urls) {
+            return Map.of();
+        }
+
+        @Override
+        public List<Scan> getAll(int webPageId) {
+            return List.of();
+        }
+
+    }
+
+    static class InMemoryIssueRepository implements IIssueRepository {
+
+        private final List<Issue> issues = new CopyOnWriteArrayList<>();
+
+        @Override
+        public int create(int scanId, IssueType issueType, String htmlSnippet, IssueLocation location, Long elementFingerprint) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void createAll(List<Issue> newIssues) {
+            if (newIssues.stream().anyMatch(issue -> FAILING_SNIPPET.equals(issue.htmlSnippet()))) {
+                throw new DataIntegrityViolationException("Could not insert issue");
+            }
+            issues.addAll(newIssues);
+            undoOnRollback(() -> issues.removeAll(newIssues));
+        }
+
+        @Override
+        public void copyAll(int fromScanId, int toScanId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Issue> getAll(int scanId) {
+            return issues.stream().filter(issue -> issue.scanId() == scanId).toList();
+        }
+
+        @Override
+        public List<Issue> getAllWithElementFingerprint(int scanId) {
+            return List.of();
+        }
+
+    }
+
+    static class InMemoryLinkRepository implements ILinkRepository {
+
+        @Override
+        public int create(int scanId, String link) {
+            return -1;
+        }
+
+        @Override
+        public void createAll(int scanId, List<String> links) {
+        }
+
+        @Override
+        public void copyAll(int fromScanId, int toScanId) {
+        }
+
+        @Override
+        public List<Link> getAll(int scanId) {
+            return List.of();
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.issue.IIssueService;
+import co.vividhata.accessibility_api.issue.IssueService;
+import co.vividhata.accessibility_api.link.ILinkService;
+import co.vividhata.accessibility_api.link.LinkService;
+import co.vividhata.accessibility_api.model.Account;
+import co.vividhata.accessibility_api.model.Issue;
+import co.vividhata.accessibility_api.model.Link;
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.ScanService;
+import co.vividhata.accessibility_api.scan_job.dto.ScanJobResponse;
+import co.vividhata.accessibility_api.scan_job.exceptions.ScanJobDoesNotExistException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(properties = "scan.worker.enabled=false")
+public class ScanJobControllerTests {
+
+    private static final Account OWNER = new Account(1, "owner@example.com", "", "Owner", "Account");
+    private static final Account OTHER = new Account(2, "other@example.com", "", "Other", "Account");
+
+    @Autowired
+    private ScanJobController scanJobController;
+    @TestBean
+    private IScanJobRepository scanJobRepository;
+    @TestBean
+    private ScanService scanService;
+    @TestBean
+    private IIssueService issueService;
+    @TestBean
+    private ILinkService linkService;
+
+    static IScanJobRepository scanJobRepository() {
+        return new InMemoryScanJobRepository();
+    }
+
+    static ScanService scanService() {
+        return new ScanService() {
+            @Override
+            public Scan getScan(int scanId) {
+                return new Scan(scanId, 1, Instant.now(), "<html></html>", "hash", List.of(), List.of());
+            }
+        };
+    }
+
+    static IIssueService issueService() {
+        return new IssueService() {
+            @Override
+            public List<Issue> getIssues(Scan scan) {
+                return List.of();
+            }
+        };
+    }
+
+    static ILinkService linkService() {
+        return new LinkService() {
+            @Override
+            public List<Link> getLinks(int scanId) {
+                return List.of();
+            }
+        };
+    }
+
+    @BeforeEach
+    void clear() {
+        ((InMemoryScanJobRepository) scanJobRepository).scanJobs.clear();
+    }
+
+    @Test
+    void testSubmitReturnsAQueuedJobImmediately() {
+        ResponseEntity<ScanJob> response = scanJobController.submitFromUrl("https://example.com/", OWNER);
+
+        Assertions.assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        ScanJob scanJob = response.getBody();
+        Assertions.assertNotNull(scanJob);
+        Assertions.assertEquals(ScanJobStatus.QUEUED, scanJob.status());
+        Assertions.assertEquals(ScanPriority.INTERACTIVE, scanJob.priority());
+        Assertions.assertEquals(OWNER.id(), scanJob.accountId());
+    }
+
+    @Test
+    void testUnfinishedJobHasNoResult() {
+        ScanJob submitted = scanJobController.submitFromUrl("https://example.com/", OWNER).getBody();
+        Assertions.assertNotNull(submitted);
+        scanJobRepository.updateStatus(submitted.id(), "worker", ScanJobStatus.CHECKING);
+
+        ScanJobResponse response = (ScanJobResponse) scanJobController.getScanJob(submitted.id(), OWNER).getBody();
+
+        Assertions.assertNotNull(response);
+        Assertions.assertEquals(ScanJobStatus.CHECKING, response.scanJob().status());
+        Assertions.assertNull(response.result());
+    }
+
+    @Test
+    void testFinishedJobReturnsTheScan() {
+        ScanJob submitted = scanJobController.submitFromUrl("https://example.com/", OWNER).getBody();
+        Assertions.assertNotNull(submitted);
+        scanJobRepository.complete(submitted.id(), "worker", 42);
+
+        ScanJobResponse response = (ScanJobResponse) scanJobController.getScanJob(submitted.id(), OWNER).getBody();
+
+        Assertions.assertNotNull(response);
+        Assertions.assertEquals(42, response.result().scan().id());
+    }
+
+    @Test
+    void testOnlyTheOwnerCanPollAJob() {
+        ScanJob submitted = scanJobController.submitFromUrl("https://example.com/", OWNER).getBody();
+        Assertions.assertNotNull(submitted);
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED, scanJobController.getScanJob(submitted.id(), OTHER).getStatusCode());
+        Assertions.assertThrows(ScanJobDoesNotExistException.class, () -> scanJobController.getScanJob(submitted.id() + 1, OWNER));
+    }
+
+    static class InMemoryScanJobRepository implements IScanJobRepository {
+
+        final Map<Integer, ScanJob> scanJobs = new ConcurrentHashMap<>();
+        private final AtomicInteger scanJobIds = new AtomicInteger();
+
+        @Override
+        public int create(int accountId, String url, ScanPriority priority) {
+            int id = scanJobIds.incrementAndGet();
+            Instant now = Instant.now();
+            scanJobs.put(id, new ScanJob(id, accountId, url, priority, ScanJobStatus.QUEUED, -1, null, 0, now, now));
+            return id;
+        }
+
+        @Override
+        public ScanJob get(int scanJobId) {
+            return scanJobs.get(scanJobId);
+        }
+
+        @Override
+        public List<ScanJob> claim(String workerId, int limit, Duration lease) {
+            return List.of();
+        }
+
+        @Override
+        public void renewLeases(String workerId, Collection<Integer> scanJobIds, Duration lease) {
+        }
+
+        @Override
+        public void updateStatus(int scanJobId, String workerId, ScanJobStatus status) {
+            update(scanJobId, status, -1);
+        }
+
+        @Override
+        public void complete(int scanJobId, String workerId, int scanId) {
+            update(scanJobId, ScanJobStatus.DONE, scanId);
+        }
+
+        @Override
+        public void retry(int scanJobId, String workerId, String errorMessage, Instant runAfter) {
+            update(scanJobId, ScanJobStatus.QUEUED, -1);
+        }
+
+        @Override
+        public void fail(int scanJobId, String workerId, String errorMessage) {
+            update(scanJobId, ScanJobStatus.FAILED, -1);
+        }
+
+        @Override
+        public int deleteFinishedBefore(Instant cutoff) {
+            return 0;
+        }
+
+        private void update(int scanJobId, ScanJobStatus status, int scanId) {
+            scanJobs.computeIfPresent(scanJobId, (_, job) -> new ScanJob(job.id(), job.accountId(), job.url(), job.priority(), status, scanId, job.errorMessage(), job.attempts(), job.timeSubmitted(), Instant.now()));
+        }
+
+    }
+
+}
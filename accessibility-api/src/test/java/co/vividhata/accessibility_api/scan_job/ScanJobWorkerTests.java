@@ -0,0 +1,224 @@
+package co.vividhata.accessibility_api.scan_job;
+
+import co.vividhata.accessibility_api.model.Scan;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanJobStatus;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.scan.ScanService;
+import co.vividhata.accessibility_api.scan.exceptions.InvalidUrlException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@SpringBootTest(properties = {
+        "scan.worker.poll-interval-ms=3600000",
+        "scan.worker.heartbeat-interval-ms=3600000",
+        "scan.worker.cleanup-interval-ms=3600000",
+        "scan.worker.claim-batch-size=4",
+        "scan.worker.max-in-flight=8",
+        "scan.worker.max-attempts=3",
+        "scan.worker.retry-backoff-seconds=30",
+        "scan.worker.max-retry-backoff-seconds=45"
+})
+public class ScanJobWorkerTests {
+
+    @Autowired
+    private ScanJobWorker scanJobWorker;
+    @TestBean
+    private ScanService scanService;
+    @TestBean
+    private IScanJobRepository scanJobRepository;
+
+    static ScanService scanService() {
+        return new FakeScanService();
+    }
+
+    static IScanJobRepository scanJobRepository() {
+        return new InMemoryScanJobRepository();
+    }
+
+    @BeforeEach
+    void clear() throws InterruptedException {
+        InMemoryScanJobRepository repository = repository();
+        Assertions.assertTrue(repository.firstClaim.await(10, TimeUnit.SECONDS));
+        repository.queued.clear();
+        repository.limits.clear();
+        repository.completed.clear();
+        repository.retried.clear();
+        repository.failed.clear();
+        repository.finished.clear();
+        ((FakeScanService) scanService).scanned.clear();
+    }
+
+    @Test
+    void testClaimsUpToTheBatchSizeAndCompletesEachJob() throws InterruptedException {
+        for (int id = 1; id <= 6; id++) {
+            repository().queued.add(scanJob(id, "https://example.com/" + id, 1));
+        }
+
+        scanJobWorker.poll();
+        awaitFinished(4);
+
+        Assertions.assertEquals(List.of(4), repository().limits);
+        Assertions.assertEquals(Map.of(1, 101, 2, 102, 3, 103, 4, 104), repository().completed);
+        Assertions.assertEquals(2, repository().queued.size());
+    }
+
+    @Test
+    void testRetriesFailedJobsWithCappedExponentialBackoff() throws InterruptedException {
+        repository().queued.add(scanJob(1, "https://example.com/flaky", 1));
+        repository().queued.add(scanJob(2, "https://example.com/flaky", 2));
+
+        Instant before = Instant.now();
+        scanJobWorker.poll();
+        awaitFinished(2);
+        Instant after = Instant.now();
+
+        assertBetween(before.plusSeconds(30), after.plusSeconds(30), repository().retried.get(1));
+        assertBetween(before.plusSeconds(45), after.plusSeconds(45), repository().retried.get(2));
+        Assertions.assertTrue(repository().failed.isEmpty());
+    }
+
+    @Test
+    void testFailsJobsThatRanOutOfAttempts() throws InterruptedException {
+        repository().queued.add(scanJob(1, "https://example.com/flaky", 3));
+        repository().queued.add(scanJob(2, "https://example.com/", 4));
+
+        scanJobWorker.poll();
+        awaitFinished(2);
+
+        Assertions.assertEquals("Pipeline broke", repository().failed.get(1));
+        Assertions.assertEquals("Scan job exceeded the maximum number of attempts", repository().failed.get(2));
+        Assertions.assertEquals(List.of("https://example.com/flaky"), ((FakeScanService) scanService).scanned);
+        Assertions.assertTrue(repository().retried.isEmpty());
+    }
+
+    @Test
+    void testFailsBadRequestsWithoutRetrying() throws InterruptedException {
+        repository().queued.add(scanJob(1, "https://example.com/invalid", 1));
+
+        scanJobWorker.poll();
+        awaitFinished(1);
+
+        Assertions.assertEquals(Map.of(1, "Invalid Url"), repository().failed);
+        Assertions.assertTrue(repository().retried.isEmpty());
+    }
+
+    private InMemoryScanJobRepository repository() {
+        return (InMemoryScanJobRepository) scanJobRepository;
+    }
+
+    private void awaitFinished(int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Assertions.assertNotNull(repository().finished.poll(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void assertBetween(Instant earliest, Instant latest, Instant actual) {
+        Assertions.assertFalse(actual.isBefore(earliest), actual + " is before " + earliest);
+        Assertions.assertFalse(actual.isAfter(latest), actual + " is after " + latest);
+    }
+
+    private static ScanJob scanJob(int id, String url, int attempts) {
+        Instant now = Instant.now();
+        return new ScanJob(id, 1, url, ScanPriority.INTERACTIVE, ScanJobStatus.QUEUED, -1, null, attempts, now, now);
+    }
+
+    static class FakeScanService extends ScanService {
+
+        final List<String> scanned = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Scan scanFrom(String url, int accountId, ScanPriority priority, Consumer<ScanJobStatus> onProgress) {
+            scanned.add(url);
+            if (url.endsWith("/invalid")) {
+                throw new InvalidUrlException();
+            }
+            if (url.endsWith("/flaky")) {
+                throw new IllegalStateException("Pipeline broke");
+            }
+            int id = 100 + Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+            return new Scan(id, 1, Instant.now(), "", "hash", List.of(), List.of());
+        }
+
+    }
+
+    static class InMemoryScanJobRepository implements IScanJobRepository {
+
+        final CountDownLatch firstClaim = new CountDownLatch(1);
+        final List<ScanJob> queued = new CopyOnWriteArrayList<>();
+        final List<Integer> limits = new CopyOnWriteArrayList<>();
+        final Map<Integer, Integer> completed = new ConcurrentHashMap<>();
+        final Map<Integer, Instant> retried = new ConcurrentHashMap<>();
+        final Map<Integer, String> failed = new ConcurrentHashMap<>();
+        final BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+
+        @Override
+        public int create(int accountId, String url, ScanPriority priority) {
+            return -1;
+        }
+
+        @Override
+        public ScanJob get(int scanJobId) {
+            return null;
+        }
+
+        @Override
+        public List<ScanJob> claim(String workerId, int limit, Duration lease) {
+            limits.add(limit);
+            List<ScanJob> claimed = List.copyOf(queued.subList(0, Math.min(limit, queued.size())));
+            queued.removeAll(claimed);
+            firstClaim.countDown();
+            return claimed;
+        }
+
+        @Override
+        public void renewLeases(String workerId, Collection<Integer> scanJobIds, Duration lease) {
+        }
+
+        @Override
+        public void updateStatus(int scanJobId, String workerId, ScanJobStatus status) {
+        }
+
+        @Override
+        public void complete(int scanJobId, String workerId, int scanId) {
+            completed.put(scanJobId, scanId);
+            finished.add(scanJobId);
+        }
+
+        @Override
+        public void retry(int scanJobId, String workerId, String errorMessage, Instant runAfter) {
+            retried.put(scanJobId, runAfter);
+            finished.add(scanJobId);
+        }
+
+        @Override
+        public void fail(int scanJobId, String workerId, String errorMessage) {
+            failed.put(scanJobId, errorMessage);
+            finished.add(scanJobId);
+        }
+
+        @Override
+        public int deleteFinishedBefore(Instant cutoff) {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package co.vividhata.accessibility_api.scan_schedule;
+
+import co.vividhata.accessibility_api.model.DueScan;
+import co.vividhata.accessibility_api.model.ScanFrequency;
+import co.vividhata.accessibility_api.model.ScanJob;
+import co.vividhata.accessibility_api.model.ScanPriority;
+import co.vividhata.accessibility_api.model.ScanSchedule;
+import co.vividhata.accessibility_api.model.WebPage;
+import co.vividhata.accessibility_api.scan_job.IScanJobService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = {
+        "scan.schedule.poll-interval-ms=3600000",
+        "scan.schedule.claim-batch-size=3",
+        "scan.schedule.max-per-minute=5",
+        "scan.schedule.jitter-minutes=0"
+})
+public class ScanSchedulerTests {
+
+    @Autowired
+    private ScanScheduler scanScheduler;
+    @Autowired
+    private InMemoryScanScheduleRepository scanScheduleRepository;
+    @Autowired
+    private RecordingScanJobService scanJobService;
+
+    @BeforeEach
+    void clear() throws InterruptedException {
+        Assertions.assertTrue(scanScheduleRepository.firstPoll.await(10, TimeUnit.SECONDS));
+        scanScheduleRepository.startedLastMinute = 0;
+        scanScheduleRepository.due.clear();
+        scanScheduleRepository.limits.clear();
+        scanScheduleRepository.advanced.clear();
+        scanScheduleRepository.released.clear();
+        scanJobService.submitted.clear();
+    }
+
+    @Test
+    void testClaimsNoMoreThanTheRateLimitLeaves() {
+        scanScheduleRepository.startedLastMinute = 4;
+        scanScheduler.submitDueScans();
+
+        scanScheduleRepository.startedLastMinute = 5;
+        scanScheduler.submitDueScans();
+
+        scanScheduleRepository.startedLastMinute = 0;
+        scanScheduler.submitDueScans();
+
+        Assertions.assertEquals(List.of(1, 3), scanScheduleRepository.limits);
+    }
+
+    @Test
+    void testAdvancesEachScheduleByItsFrequencyAfterSubmitting() {
+        Instant dueAt = Instant.now().minus(Duration.ofHours(1));
+        scanScheduleRepository.due.add(new DueScan(new WebPage(1, 7, "https://example.com/daily"), ScanFrequency.DAILY, dueAt));
+        scanScheduleRepository.due.add(new DueScan(new WebPage(2, 7, "https://example.com/weekly"), ScanFrequency.WEEKLY, dueAt));
+        scanScheduleRepository.due.add(new DueScan(new WebPage(3, 7, "https://example.com/overdue"), ScanFrequency.DAILY, dueAt.minus(Duration.ofDays(3))));
+
+        Instant before = Instant.now();
+        scanScheduler.submitDueScans();
+
+        Assertions.assertEquals(List.of("https://example.com/daily", "https://example.com/weekly", "https://example.com/overdue"), scanJobService.submitted);
+        Assertions.assertEquals(dueAt.plus(Duration.ofDays(1)), scanScheduleRepository.advanced.get(1));
+        Assertions.assertEquals(dueAt.plus(Duration.ofDays(7)), scanScheduleRepository.advanced.get(2));
+        Assertions.assertFalse(scanScheduleRepository.advanced.get(3).isBefore(before));
+        Assertions.assertFalse(scanScheduleRepository.advanced.get(3).isAfter(Instant.now()));
+        Assertions.assertTrue(scanScheduleRepository.released.isEmpty());
+    }
+
+    @Test
+    void testReleasesScheduleWhenSubmitFails() {
+        Instant dueAt = Instant.now().minus(Duration.ofMinutes(5));
+        scanScheduleRepository.due.add(new DueScan(new WebPage(1, 7, "https://example.com/fails"), ScanFrequency.DAILY, dueAt));
+        scanScheduleRepository.due.add(new DueScan(new WebPage(2, 7, "https://example.com/"), ScanFrequency.DAILY, dueAt));
+
+        scanScheduler.submitDueScans();
+
+        Assertions.assertEquals(Map.of(1, dueAt), scanScheduleRepository.released);
+        Assertions.assertEquals(List.of(2), List.copyOf(scanScheduleRepository.advanced.keySet()));
+    }
+
+    @TestConfiguration
+    static class Fakes {
+
+        @Bean
+        @Primary
+        InMemoryScanScheduleRepository inMemoryScanScheduleRepository() {
+            return new InMemoryScanScheduleRepository();
+        }
+
+        @Bean
+        @Primary
+        RecordingScanJobService recordingScanJobService() {
+            return new RecordingScanJobService();
+        }
+
+    }
+
+    static class InMemoryScanScheduleRepository implements IScanScheduleRepository {
+
+        final CountDownLatch firstPoll = new CountDownLatch(1);
+        final List<DueScan> due = new CopyOnWriteArrayList<>();
+        final List<Integer> limits = new CopyOnWriteArrayList<>();
+        final Map<Integer, Instant> advanced = new ConcurrentHashMap<>();
+        final Map<Integer, Instant> released = new ConcurrentHashMap<>();
+        volatile int startedLastMinute;
+
+        @Override
+        public void save(int webPageId, ScanFrequency frequency, Instant nextRun) {
+        }
+
+        @Override
+        public ScanSchedule get(int webPageId) {
+            return null;
+        }
+
+        @Override
+        public void delete(int webPageId) {
+        }
+
+        @Override
+        public List<DueScan> claimDue(int limit, Duration lease) {
+            limits.add(limit);
+            List<DueScan> claimed = List.copyOf(due.subList(0, Math.min(limit, due.size())));
+            due.removeAll(claimed);
+            firstPoll.countDown();
+            return claimed;
+        }
+
+        @Override
+        public void advance(int webPageId, Instant nextRun) {
+            advanced.put(webPageId, nextRun);
+        }
+
+        @Override
+        public void release(int webPageId, Instant nextRun) {
+            released.put(webPageId, nextRun);
+        }
+
+        @Override
+        public int countStartedSince(Instant since) {
+            return startedLastMinute;
+        }
+
+    }
+
+    static class RecordingScanJobService implements IScanJobService {
+
+        final List<String> submitted = new CopyOnWriteArrayList<>();
+
+        @Override
+        public ScanJob submit(String url, int accountId, ScanPriority priority) {
+            if (url.endsWith("/fails")) {
+                throw new IllegalStateException("Could not queue " + url);
+            }
+            submitted.add(url);
+            return null;
+        }
+
+        @Override
+        public ScanJob getScanJob(int scanJobId) {
+            return null;
+        }
+
+        @Override
+        public int getOwner(int scanJobId) {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package co.vividhata.accessibility_api.stylesheet;
+
+import co.vividhata.accessibility_api.util.IHtmlParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest
+public class StyleResolverTests {
+
+    @Autowired
+    private IHtmlParser htmlParser;
+
+    @Test
+    void testSkipsUnsupportedRulesAndAtRules() {
+        Stylesheet stylesheet = StylesheetParser.parse("test", """
+                @charset "utf-8";
+                @import url("other.css");
+                /* p { color: red; } */
+                p, .lead { color: black; }
+                a:hover { color: blue; }
+                @media screen and (min-width: 600px) { h1 { font-size: 2em; } }
+                @media print { h2 { color: black; } }
+                @font-face { font-family: Test; src: url(test.woff); }
+                div + p { color: green; }
+                """);
+
+        Assertions.assertEquals(3, stylesheet.ruleCount());
+    }
+
+    @Test
+    void testOrdersDeclarationsByPrecedence() {
+        Document document = htmlParser.parse("""
+                <html><body>
+                  <div id="main"><p class="lead" style="color: red">Text</p><span>Other</span></div>
+                </body></html>""");
+        Stylesheet first = StylesheetParser.parse("first", "p { color: black; } #main .lead { color: green; }");
+        Stylesheet second = StylesheetParser.parse("second", ".lead { color: blue; } p { color: gray; } div > p { color: white; }");
+        StyleResolver.attach(document, List.of(first, second));
+
+        Element paragraph = document.selectFirst("p");
+        Element span = document.selectFirst("span");
+
+        Assertions.assertEquals(Map.of("color", "red"), StyleResolver.propertiesOf(paragraph));
+        Assertions.assertEquals(Map.of(), StyleResolver.propertiesOf(span));
+    }
+
+    @Test
+    void testResolvesEachPropertyByName() {
+        Document document = htmlParser.parse("""
+                <html><body>
+                  <div id="main"><p class="lead" style="margin: 0; margin: 1em">Text</p></div>
+                </body></html>""");
+        Stylesheet stylesheet = StylesheetParser.parse("test", """
+                .lead { background-color: #000; color: #fff; line-height: 1.6; }
+                p { color: #333; line-height: 1.0; font-weight: bold; }
+                #main p { color: #777 !important; }
+                """);
+        StyleResolver.attach(document, List.of(stylesheet));
+
+        Map<String, String> properties = StyleResolver.propertiesOf(document.selectFirst("p"));
+
+        Assertions.assertEquals(Map.of(
+                "background-color", "#000",
+                "color", "#777",
+                "line-height", "1.6",
+                "font-weight", "bold",
+                "margin", "1em"), properties);
+    }
+
+    @Test
+    void testUsesInlineStyleWithoutStylesheets() {
+        Document document = htmlParser.parse("<html><body><p style=\"color: red\">Text</p></body></html>");
+
+        Element paragraph = document.selectFirst("p");
+
+        Assertions.assertEquals(Map.of("color", "red"), StyleResolver.propertiesOf(paragraph));
+    }
+
+}
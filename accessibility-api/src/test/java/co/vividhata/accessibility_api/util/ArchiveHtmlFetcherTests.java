@@ -0,0 +1,135 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.util.implementations.ArchiveHtmlFetcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+public class ArchiveHtmlFetcherTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReplaysRecordedPagesAndFailures() throws Exception {
+        String archive = directory.resolve("archive.bin").toString();
+        String page = "<html><body>" + "Café ".repeat(1000) + "</body></html>";
+
+        ArchiveHtmlFetcher recorder = new ArchiveHtmlFetcher(url -> url.endsWith("/missing")
+                ? CompletableFuture.failedFuture(new IOException("Fetching " + url + " returned status 404"))
+                : CompletableFuture.completedFuture(page), "record", archive, 0);
+        Assertions.assertEquals(page, recorder.fetchFrom("https://example.com/"));
+        Assertions.assertThrows(IOException.class, () -> recorder.fetchFrom("https://example.com/missing"));
+        recorder.close();
+
+        Assertions.assertTrue(Files.size(Path.of(archive)) < page.length() / 10);
+
+        AtomicInteger networkFetches = new AtomicInteger();
+        ArchiveHtmlFetcher replayer = new ArchiveHtmlFetcher(url -> {
+            networkFetches.incrementAndGet();
+            return CompletableFuture.completedFuture("");
+        }, "replay", archive, 0);
+
+        Assertions.assertEquals(page, replayer.fetchFrom("https://example.com/"));
+        IOException failure = Assertions.assertThrows(IOException.class, () -> replayer.fetchFrom("https://example.com/missing"));
+        Assertions.assertEquals("Fetching https://example.com/missing returned status 404", failure.getMessage());
+        Assertions.assertThrows(IOException.class, () -> replayer.fetchFrom("https://example.com/other"));
+        Assertions.assertEquals(0, networkFetches.get());
+    }
+
+    @Test
+    void testReplaysFailuresWithTheirType() throws Exception {
+        String archive = directory.resolve("archive.bin").toString();
+        ArchiveHtmlFetcher recorder = new ArchiveHtmlFetcher(url -> switch (url) {
+            case "ftp://example.com/" -> CompletableFuture.failedFuture(new IllegalArgumentException("invalid URI scheme ftp"));
+            case "https://example.com/busy" -> CompletableFuture.failedFuture(new RetryAfterException("Too many requests", Duration.ofSeconds(30)));
+            default -> CompletableFuture.failedFuture(new URISyntaxException(url, "Illegal character in path"));
+        }, "record", archive, 0);
+        for (String url : List.of("ftp://example.com/", "https://example.com/busy", "https://example.com/a b")) {
+            Assertions.assertThrows(Exception.class, () -> recorder.fetchFrom(url));
+        }
+        recorder.close();
+
+        ArchiveHtmlFetcher replayer = new ArchiveHtmlFetcher(_ -> CompletableFuture.completedFuture(""), "replay", archive, 0);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> replayer.fetchFrom("ftp://example.com/"));
+        RetryAfterException retryAfter = Assertions.assertThrows(RetryAfterException.class, () -> replayer.fetchFrom("https://example.com/busy"));
+        Assertions.assertEquals(Duration.ofSeconds(30), retryAfter.getRetryAfter());
+        URISyntaxException uriSyntax = Assertions.assertThrows(URISyntaxException.class, () -> replayer.fetchFrom("https://example.com/a b"));
+        Assertions.assertEquals("Illegal character in path", uriSyntax.getReason());
+    }
+
+    @Test
+    void testReplaysRecordedSitemaps() throws Exception {
+        String archive = directory.resolve("archive.bin").toString();
+        String sitemap = "<urlset><url><loc>https://example.com/</loc></url></urlset>";
+        IHtmlFetcher network = new IHtmlFetcher() {
+            @Override
+            public CompletableFuture<String> fetchAsync(String url) {
+                return CompletableFuture.completedFuture("<html></html>");
+            }
+
+            @Override
+            public CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+                return url.endsWith("/sitemap.xml")
+                        ? CompletableFuture.completedFuture(new ByteArrayInputStream(sitemap.getBytes(StandardCharsets.UTF_8)))
+                        : CompletableFuture.failedFuture(new IOException("Fetching " + url + " returned status 404"));
+            }
+        };
+
+        ArchiveHtmlFetcher recorder = new ArchiveHtmlFetcher(network, "record", archive, 0);
+        try (InputStream body = recorder.fetchStreamFrom("https://example.com/sitemap.xml", 1024)) {
+            Assertions.assertEquals(sitemap, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertThrows(IOException.class, () -> recorder.fetchStreamFrom("https://example.com/missing.xml", 1024));
+        recorder.fetchFrom("https://example.com/sitemap.xml");
+        recorder.close();
+
+        ArchiveHtmlFetcher replayer = new ArchiveHtmlFetcher(_ -> CompletableFuture.failedFuture(new IOException("offline")), "replay", archive, 0);
+
+        try (InputStream body = replayer.fetchStreamFrom("https://example.com/sitemap.xml", 1024)) {
+            Assertions.assertEquals(sitemap, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream body = replayer.fetchStreamFrom("https://example.com/sitemap.xml", 16)) {
+            Assertions.assertThrows(IOException.class, body::readAllBytes);
+        }
+        Assertions.assertThrows(IOException.class, () -> replayer.fetchStreamFrom("https://example.com/missing.xml", 1024));
+        Assertions.assertEquals("<html></html>", replayer.fetchFrom("https://example.com/sitemap.xml"));
+    }
+
+    @Test
+    void testReplayWaitsForSimulatedLatency() throws Exception {
+        String archive = directory.resolve("archive.bin").toString();
+        ArchiveHtmlFetcher recorder = new ArchiveHtmlFetcher(_ -> CompletableFuture.completedFuture("<html></html>"), "record", archive, 0);
+        recorder.fetchFrom("https://example.com/");
+        recorder.close();
+
+        ArchiveHtmlFetcher replayer = new ArchiveHtmlFetcher(_ -> CompletableFuture.completedFuture(""), "replay", archive, 100);
+        long start = System.nanoTime();
+
+        Assertions.assertEquals("<html></html>", replayer.fetchFrom("https://example.com/"));
+        Assertions.assertTrue(System.nanoTime() - start >= 100_000_000L);
+    }
+
+    @Test
+    void testRejectsFilesThatAreNotArchives() throws IOException {
+        Path file = Files.writeString(directory.resolve("not-an-archive.bin"), "hello world");
+
+        Assertions.assertThrows(IOException.class, () -> new ArchiveHtmlFetcher(_ -> null, "replay", file.toString(), 0));
+    }
+
+}
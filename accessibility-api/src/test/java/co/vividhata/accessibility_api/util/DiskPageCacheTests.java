@@ -0,0 +1,62 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.util.implementations.DiskPageCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+@SpringBootTest
+public class DiskPageCacheTests {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testStoresPagesAcrossInstances() {
+        CachedPage page = new CachedPage("https://example.com/", "\"v1\"", null, Instant.ofEpochMilli(1000), "<html>Café</html>");
+
+        new DiskPageCache(true, cacheDirectory.toString(), 1024).put(page);
+
+        Assertions.assertEquals(page, new DiskPageCache(true, cacheDirectory.toString(), 1024).get("https://example.com/"));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedPages() {
+        DiskPageCache cache = new DiskPageCache(true, cacheDirectory.toString(), 400);
+        String html = "x".repeat(100);
+
+        cache.put(new CachedPage("https://example.com/a", null, null, Instant.EPOCH, html));
+        cache.put(new CachedPage("https://example.com/b", null, null, Instant.EPOCH, html));
+        Assertions.assertNotNull(cache.get("https://example.com/a"));
+        cache.put(new CachedPage("https://example.com/c", null, null, Instant.EPOCH, html));
+
+        Assertions.assertNotNull(cache.get("https://example.com/a"));
+        Assertions.assertNull(cache.get("https://example.com/b"));
+        Assertions.assertNotNull(cache.get("https://example.com/c"));
+    }
+
+    @Test
+    void testOversizedPageReplacesCachedCopy() {
+        DiskPageCache cache = new DiskPageCache(true, cacheDirectory.toString(), 400);
+
+        cache.put(new CachedPage("https://example.com/", null, null, Instant.EPOCH, "x".repeat(100)));
+        Assertions.assertNotNull(cache.get("https://example.com/"));
+        cache.put(new CachedPage("https://example.com/", null, null, Instant.EPOCH, "y".repeat(1000)));
+
+        Assertions.assertNull(cache.get("https://example.com/"));
+    }
+
+    @Test
+    void testDisabledCacheStoresNothing() {
+        DiskPageCache cache = new DiskPageCache(false, cacheDirectory.toString(), 1024);
+
+        cache.put(new CachedPage("https://example.com/", null, null, Instant.EPOCH, "<html></html>"));
+
+        Assertions.assertNull(cache.get("https://example.com/"));
+    }
+
+}
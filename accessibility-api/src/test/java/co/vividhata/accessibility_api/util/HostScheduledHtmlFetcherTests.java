@@ -0,0 +1,201 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.util.implementations.HostScheduledHtmlFetcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+public class HostScheduledHtmlFetcherTests {
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<String>> responses = new ConcurrentHashMap<>();
+
+    private final IHtmlFetcher controlledFetcher = url -> {
+        started.add(url);
+        return responses.computeIfAbsent(url, _ -> new CompletableFuture<>());
+    };
+
+    @Test
+    void testLimitsConcurrencyPerOrigin() {
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(controlledFetcher, 64, 1, 0, 60);
+
+        CompletableFuture<String> first = fetcher.fetchAsync("https://a.com/1");
+        CompletableFuture<String> second = fetcher.fetchAsync("https://a.com/2");
+        fetcher.fetchAsync("https://b.com/1");
+
+        awaitStarted(2);
+        Assertions.assertEquals(List.of("https://a.com/1", "https://b.com/1"), started);
+
+        responses.get("https://a.com/1").complete("<html>1</html>");
+
+        Assertions.assertEquals("<html>1</html>", first.join());
+        awaitStarted(3);
+        Assertions.assertEquals(List.of("https://a.com/1", "https://b.com/1", "https://a.com/2"), started);
+        Assertions.assertFalse(second.isDone());
+        fetcher.stop();
+    }
+
+    @Test
+    void testInterleavesOriginsUnderGlobalLimit() {
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(controlledFetcher, 1, 2, 0, 60);
+
+        for (String url : List.of("https://a.com/1", "https://a.com/2", "https://a.com/3", "https://b.com/1", "https://b.com/2")) {
+            fetcher.fetchAsync(url);
+        }
+        for (int i = 1; i <= 4; i++) {
+            awaitStarted(i);
+            responses.get(started.getLast()).complete("<html></html>");
+        }
+        awaitStarted(5);
+
+        Assertions.assertEquals(List.of("https://a.com/1", "https://a.com/2", "https://b.com/1", "https://a.com/3", "https://b.com/2"), started);
+        fetcher.stop();
+    }
+
+    @Test
+    void testWaitsForOriginDelay() {
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(controlledFetcher, 64, 2, 100, 60);
+
+        long start = System.nanoTime();
+        fetcher.fetchAsync("https://a.com/1");
+        fetcher.fetchAsync("https://a.com/2");
+
+        awaitStarted(1);
+        Assertions.assertEquals(List.of("https://a.com/1"), started);
+        awaitStarted(2);
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        fetcher.stop();
+    }
+
+    @Test
+    void testRetriesOnceAfterRetryAfter() {
+        List<Long> attempts = new CopyOnWriteArrayList<>();
+        IHtmlFetcher rateLimitedFetcher = _ -> {
+            attempts.add(System.nanoTime());
+            return attempts.size() == 1
+                    ? CompletableFuture.failedFuture(new RetryAfterException("Too many requests", Duration.ofMillis(50)))
+                    : CompletableFuture.completedFuture("<html>ok</html>");
+        };
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(rateLimitedFetcher, 64, 1, 0, 60);
+
+        Assertions.assertEquals("<html>ok</html>", fetcher.fetchAsync("https://a.com/").join());
+        Assertions.assertEquals(2, attempts.size());
+        Assertions.assertTrue(attempts.get(1) - attempts.get(0) >= TimeUnit.MILLISECONDS.toNanos(50));
+        fetcher.stop();
+    }
+
+    @Test
+    void testSchedulesStreamsWithPages() throws IOException {
+        IHtmlFetcher streamingFetcher = new IHtmlFetcher() {
+            @Override
+            public CompletableFuture<String> fetchAsync(String url) {
+                return controlledFetcher.fetchAsync(url);
+            }
+
+            @Override
+            public CompletableFuture<InputStream> fetchStreamAsync(String url, long maximumBytes) {
+                return controlledFetcher.fetchAsync(url).thenApply(body -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            }
+        };
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(streamingFetcher, 64, 1, 0, 60);
+
+        fetcher.fetchAsync("https://a.com/1");
+        CompletableFuture<InputStream> sitemap = fetcher.fetchStreamAsync("https://a.com/sitemap.xml", 1024);
+
+        awaitStarted(1);
+        Assertions.assertEquals(List.of("https://a.com/1"), started);
+
+        responses.get("https://a.com/1").complete("<html>1</html>");
+        awaitStarted(2);
+        responses.get("https://a.com/sitemap.xml").complete("<urlset/>");
+
+        try (InputStream body = sitemap.join()) {
+            Assertions.assertEquals("<urlset/>", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        fetcher.stop();
+    }
+
+    @Test
+    void testReleasesSlotWhenFetcherThrows() {
+        IHtmlFetcher brokenFetcher = url -> {
+            started.add(url);
+            if (url.endsWith("/throws")) {
+                throw new IllegalStateException("Broken fetcher");
+            }
+            return url.endsWith("/null") ? null : CompletableFuture.completedFuture("<html></html>");
+        };
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(brokenFetcher, 1, 1, 0, 60);
+
+        CompletableFuture<String> thrown = fetcher.fetchAsync("https://a.com/throws");
+        CompletableFuture<String> missing = fetcher.fetchAsync("https://a.com/null");
+        CompletableFuture<String> next = fetcher.fetchAsync("https://a.com/ok");
+
+        Assertions.assertThrows(Exception.class, () -> thrown.orTimeout(5, TimeUnit.SECONDS).join());
+        Assertions.assertThrows(Exception.class, () -> missing.orTimeout(5, TimeUnit.SECONDS).join());
+        Assertions.assertEquals("<html></html>", next.orTimeout(5, TimeUnit.SECONDS).join());
+        fetcher.stop();
+    }
+
+    @Test
+    void testAnswersFreshCachedPagesWithoutWaiting() {
+        IHtmlFetcher cachingFetcher = new IHtmlFetcher() {
+            @Override
+            public CompletableFuture<String> fetchAsync(String url) {
+                return controlledFetcher.fetchAsync(url);
+            }
+
+            @Override
+            public String cachedHtml(String url) {
+                return url.endsWith("/cached") ? "<html>cached</html>" : null;
+            }
+        };
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(cachingFetcher, 1, 1, 60000, 60);
+
+        fetcher.fetchAsync("https://a.com/1");
+        CompletableFuture<String> cached = fetcher.fetchAsync("https://a.com/cached");
+
+        Assertions.assertEquals("<html>cached</html>", cached.getNow(null));
+        awaitStarted(1);
+        Assertions.assertEquals(List.of("https://a.com/1"), started);
+        fetcher.stop();
+    }
+
+    @Test
+    void testCompletesLongQueueOfSynchronousFetches() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        IHtmlFetcher synchronousFetcher = url -> url.endsWith("/0") ? first : CompletableFuture.completedFuture("<html></html>");
+        HostScheduledHtmlFetcher fetcher = new HostScheduledHtmlFetcher(synchronousFetcher, 64, 1, 0, 60);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            results.add(fetcher.fetchAsync("https://a.com/" + i));
+        }
+        first.complete("<html></html>");
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).join();
+        fetcher.stop();
+    }
+
+    private void awaitStarted(int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (started.size() < count && System.nanoTime() - deadline < 0) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertTrue(started.size() >= count, "Only " + started.size() + " fetches started");
+    }
+
+}
@@ -0,0 +1,186 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.util.implementations.DiskPageCache;
+import co.vividhata.accessibility_api.util.implementations.HttpClientHtmlFetcher;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+@SpringBootTest
+public class HttpClientHtmlFetcherTests {
+
+    private HttpServer server;
+    private HttpClientHtmlFetcher fetcher;
+    private String baseUrl;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+
+    @TempDir
+    Path cacheDirectory;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> {
+            byte[] body = "<html>Café</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/redirect", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/page");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/loop", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/loop");
+            exchange.sendResponseHeaders(301, -1);
+            exchange.close();
+        });
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write("<html>Compressed</html>".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                compressed.writeTo(out);
+            }
+        });
+        server.createContext("/latin1", exchange -> {
+            byte[] body = "<html><head><meta charset=\"iso-8859-1\"></head>Café</html>".getBytes(StandardCharsets.ISO_8859_1);
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/large", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(new byte[128 * 1024]);
+            } catch (IOException _) {
+            }
+        });
+        server.createContext("/etag", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            fullResponses.incrementAndGet();
+            byte[] body = "<html>Tagged</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/max-age", exchange -> {
+            fullResponses.incrementAndGet();
+            byte[] body = "<html>Fresh</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=600");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/negotiate", exchange -> {
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            if (accept == null || !accept.startsWith("text/css")) {
+                exchange.sendResponseHeaders(406, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = "p { color: black; }".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        fetcher = new HttpClientHtmlFetcher(new DiskPageCache(true, cacheDirectory.toString(), 1024 * 1024), 1000, 2000, 3, 64 * 1024);
+    }
+
+    @AfterEach
+    void stopServer() {
+        fetcher.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testFetchesPageFollowingRedirects() throws Exception {
+        Assertions.assertEquals("<html>Café</html>", fetcher.fetchFrom(baseUrl + "/redirect"));
+        Assertions.assertEquals("<html>Café</html>", fetcher.fetchAsync(baseUrl + "/page").join());
+    }
+
+    @Test
+    void testFailsOnRedirectLoopAndErrorStatus() {
+        Assertions.assertThrows(IOException.class, () -> fetcher.fetchFrom(baseUrl + "/loop"));
+        Assertions.assertThrows(IOException.class, () -> fetcher.fetchFrom(baseUrl + "/missing"));
+    }
+
+    @Test
+    void testDecodesCompressedBodiesAndSniffedCharsets() throws Exception {
+        Assertions.assertEquals("<html>Compressed</html>", fetcher.fetchFrom(baseUrl + "/gzip"));
+        Assertions.assertEquals("<html><head><meta charset=\"iso-8859-1\"></head>Café</html>", fetcher.fetchFrom(baseUrl + "/latin1"));
+    }
+
+    @Test
+    void testRevalidatesCachedPagesWithConditionalRequests() throws Exception {
+        Assertions.assertEquals("<html>Tagged</html>", fetcher.fetchFrom(baseUrl + "/etag"));
+        Assertions.assertEquals("<html>Tagged</html>", fetcher.fetchFrom(baseUrl + "/etag"));
+        Assertions.assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void testServesFreshPagesWithoutRequests() throws Exception {
+        Assertions.assertEquals("<html>Fresh</html>", fetcher.fetchFrom(baseUrl + "/max-age"));
+        Assertions.assertEquals("<html>Fresh</html>", fetcher.fetchFrom(baseUrl + "/max-age"));
+        Assertions.assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void testFailsWhenBodyIsTooLarge() {
+        Assertions.assertThrows(IOException.class, () -> fetcher.fetchFrom(baseUrl + "/large"));
+    }
+
+    @Test
+    void testSendsTheCallersAcceptHeader() {
+        Assertions.assertEquals("p { color: black; }", fetcher.fetchAsync(baseUrl + "/negotiate", "text/css,*/*;q=0.1").join());
+        Assertions.assertThrows(Exception.class, () -> fetcher.fetchAsync(baseUrl + "/negotiate").join());
+    }
+
+    @Test
+    void testRejectsInvalidUrls() {
+        Assertions.assertThrows(URISyntaxException.class, () -> fetcher.fetchFrom("http://bad url"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fetcher.fetchFrom("ftp://example.com/"));
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class, () -> fetcher.fetchAsync("not a url").join());
+        Assertions.assertInstanceOf(URISyntaxException.class, e.getCause());
+    }
+
+}
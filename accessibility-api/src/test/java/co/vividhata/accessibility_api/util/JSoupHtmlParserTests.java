@@ -1,11 +1,14 @@
 package co.vividhata.accessibility_api.util;
 
 import co.vividhata.accessibility_api.util.implementations.JSoupHtmlParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @SpringBootTest
 public class JSoupHtmlParserTests {
@@ -23,13 +26,68 @@ public class JSoupHtmlParserTests {
   </body>
 </html>""";
 
-    private final JSoupHtmlParser htmlParser = new JSoupHtmlParser();
+    private static final String HTML_B = """
+<!doctype html>
+<html lang="en">
+  <head>
+    <meta charset="utf-8" />
+    <title>Unit Test Fixture</title>
+  </head>
+  <body>
+    <h1 id="title">Hello, Test!</h1>
+    <button id="btn">Click Me Now</button>
+  </body>
+</html>""";
+
+    private final JSoupHtmlParser htmlParser = new JSoupHtmlParser(2);
 
     @Test
     void testParseAndGetHeading() {
         Document document = htmlParser.parse(HTML_A);
-        Node heading = document.getElementsByTagName("h1").item(0);
-        Assertions.assertEquals("Hello, Test!", heading.getTextContent());
+        Element heading = document.selectFirst("h1");
+        Assertions.assertEquals("Hello, Test!", heading.wholeText());
+    }
+
+    @Test
+    void testUnchangedSubtreesKeepTheirFingerprint() {
+        Document documentA = htmlParser.parse(HTML_A);
+        Document documentB = htmlParser.parse(HTML_B);
+
+        Assertions.assertEquals(fingerprintOf(documentA, "h1"), fingerprintOf(documentB, "h1"));
+        Assertions.assertEquals(fingerprintOf(documentA, "head"), fingerprintOf(documentB, "head"));
+        Assertions.assertNotEquals(fingerprintOf(documentA, "button"), fingerprintOf(documentB, "button"));
+        Assertions.assertNotEquals(fingerprintOf(documentA, "body"), fingerprintOf(documentB, "body"));
+    }
+
+    @Test
+    void testFingerprintIgnoresAttributeOrder() {
+        Document documentA = htmlParser.parse("<p id=\"a\" class=\"b\">Text</p>");
+        Document documentB = htmlParser.parse("<p class=\"b\" id=\"a\">Text</p>");
+
+        Assertions.assertEquals(fingerprintOf(documentA, "p"), fingerprintOf(documentB, "p"));
+    }
+
+    @Test
+    void testStreamingKeepsFingerprintsAndBoundsRetainedElements() {
+        String html = "<html><body><table>" + "<tr><td>Row <b>cell</b></td><td><a href=\"/x\">x</a></td></tr>".repeat(50) + "</table></body></html>";
+
+        long[] expected = ElementFingerprints.collect(htmlParser.parse(html));
+        AtomicInteger mostRetainedRows = new AtomicInteger();
+        long[] streamed;
+        try (Stream<Element> elements = htmlParser.stream(html)) {
+            streamed = elements.peek(element -> {
+                if (element.nameIs("tr")) {
+                    mostRetainedRows.accumulateAndGet(element.parent().childrenSize(), Math::max);
+                }
+            }).mapToLong(ElementFingerprints::of).sorted().toArray();
+        }
+
+        Assertions.assertArrayEquals(expected, streamed);
+        Assertions.assertTrue(mostRetainedRows.get() <= 4);
+    }
+
+    private long fingerprintOf(Document document, String tagName) {
+        return ElementFingerprints.of(document.getElementsByTag(tagName).first());
     }
 
 }
@@ -0,0 +1,83 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.model.IssueLocation;
+import co.vividhata.accessibility_api.util.implementations.JSoupHtmlParser;
+import co.vividhata.accessibility_api.util.implementations.NodeParser;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@SpringBootTest
+public class NodeParserTests {
+
+    private static final String HTML = """
+<!doctype html>
+<html lang="en">
+  <body>
+    <input type="text" value="a&quot;b" disabled>
+    <svg xmlns="http://www.w3.org/2000/svg"><path d="M0"></path></svg>
+    <script>if (a < b) { go(); }</script>
+    <p id="long">Some text that is much too long to fit</p>
+  </body>
+</html>""";
+
+    private final JSoupHtmlParser htmlParser = new JSoupHtmlParser(10000);
+
+    @Test
+    void testWritesElementsAsXml() {
+        NodeParser nodeParser = new NodeParser(4096);
+        Document document = htmlParser.parse(HTML);
+
+        Assertions.assertEquals("<input disabled=\"\" type=\"text\" value=\"a&quot;b\"/>", nodeParser.nodeToHtml(document.selectFirst("input")));
+        Assertions.assertEquals("<svg><path d=\"M0\"/></svg>", nodeParser.nodeToHtml(document.selectFirst("svg")));
+        Assertions.assertEquals("<script>if (a &lt; b) { go(); }</script>", nodeParser.nodeToHtml(document.selectFirst("script")));
+    }
+
+    @Test
+    void testTruncatesLongSnippets() {
+        NodeParser nodeParser = new NodeParser(20);
+        Document document = htmlParser.parse(HTML);
+
+        Assertions.assertEquals("<p id=\"long\">Some te...", nodeParser.nodeToHtml(document.getElementById("long")));
+        Assertions.assertEquals("<input disabled=\"\" t...", nodeParser.nodeToHtml(document.selectFirst("input")));
+    }
+
+    @Test
+    void testLocatesElementsInSource() {
+        NodeParser nodeParser = new NodeParser(4096);
+        Document document = htmlParser.parse(HTML);
+
+        Assertions.assertEquals("<input type=\"text\" value=\"a&quot;b\" disabled>", nodeParser.locationToHtml(HTML, nodeParser.locate(document.selectFirst("input"))));
+        Assertions.assertEquals("<path d=\"M0\"></path>", nodeParser.locationToHtml(HTML, nodeParser.locate(document.selectFirst("path"))));
+        Assertions.assertEquals("<p id=\"long\">Some te...", new NodeParser(20).locationToHtml(HTML, nodeParser.locate(document.getElementById("long"))));
+
+        for (Element element : ElementTraversal.allElements(document)) {
+            Assertions.assertSame(element, document.selectFirst(nodeParser.locate(element).cssPath()));
+        }
+    }
+
+    @Test
+    void testStreamedLocationsMatchParsedLocations() {
+        NodeParser nodeParser = new NodeParser(4096);
+        String html = "<html><body><table>" + "<tr><td>Row <b>cell</b></td><td><a href=\"/x\">x</a></td></tr>".repeat(50) + "</table></body></html>";
+
+        Set<IssueLocation> expected = new HashSet<>();
+        for (Element element : ElementTraversal.allElements(htmlParser.parse(html))) {
+            expected.add(nodeParser.locate(element));
+        }
+
+        Set<IssueLocation> streamed = new HashSet<>();
+        try (Stream<Element> elements = new JSoupHtmlParser(2).stream(html)) {
+            elements.forEach(element -> streamed.add(nodeParser.locate(element)));
+        }
+
+        Assertions.assertEquals(expected, streamed);
+    }
+
+}
@@ -0,0 +1,61 @@
+package co.vividhata.accessibility_api.util;
+
+import co.vividhata.accessibility_api.model.ScanPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SpringBootTest
+public class PriorityLanesTests {
+
+    @Test
+    void testPollsHigherLanesFirst() {
+        PriorityLanes<String> lanes = new PriorityLanes<>(Duration.ofMinutes(1), () -> 0);
+
+        lanes.add(ScanPriority.SCHEDULED, "scheduled");
+        lanes.add(ScanPriority.BATCH, "batch");
+        lanes.add(ScanPriority.INTERACTIVE, "interactive");
+
+        Assertions.assertEquals("interactive", lanes.poll());
+        Assertions.assertEquals("batch", lanes.poll());
+        Assertions.assertEquals("scheduled", lanes.poll());
+        Assertions.assertNull(lanes.poll());
+    }
+
+    @Test
+    void testAgingPromotesWaitingItems() {
+        AtomicLong now = new AtomicLong();
+        PriorityLanes<String> lanes = new PriorityLanes<>(Duration.ofNanos(10), now::get);
+
+        lanes.add(ScanPriority.SCHEDULED, "scheduled");
+        now.set(25);
+        lanes.add(ScanPriority.INTERACTIVE, "interactive");
+
+        Assertions.assertEquals("interactive", lanes.poll());
+
+        lanes.add(ScanPriority.INTERACTIVE, "interactive");
+        now.set(30);
+
+        Assertions.assertEquals("scheduled", lanes.poll());
+        Assertions.assertEquals("interactive", lanes.poll());
+    }
+
+    @Test
+    void testRemoveAndDrain() {
+        PriorityLanes<String> lanes = new PriorityLanes<>(Duration.ofMinutes(1), () -> 0);
+
+        lanes.add(ScanPriority.BATCH, "first");
+        lanes.add(ScanPriority.BATCH, "second");
+
+        Assertions.assertTrue(lanes.remove("first"));
+        Assertions.assertFalse(lanes.remove("first"));
+        Assertions.assertEquals(1, lanes.size());
+        Assertions.assertEquals(List.of("second"), lanes.drain());
+        Assertions.assertTrue(lanes.isEmpty());
+    }
+
+}